@@ -0,0 +1,22 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+
+    private Duration completedOlderThan = Duration.ofDays(90);
+
+    private int batchSize = 500;
+
+    private Duration batchPause = Duration.ofMillis(200);
+
+    private int maxBatchesPerRun = 100;
+}
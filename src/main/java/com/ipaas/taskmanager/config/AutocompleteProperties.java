@@ -0,0 +1,20 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.autocomplete")
+public class AutocompleteProperties {
+
+    /** Number of users whose title index is kept in memory. */
+    private long maxUsers = 10_000;
+
+    /** Rebuild interval; bounds staleness from archiving and from tasks created on other instances. */
+    private Duration expireAfterWrite = Duration.ofHours(1);
+
+    private int maxLimit = 50;
+}
@@ -0,0 +1,31 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.claim")
+public class ClaimProperties {
+
+    /** How long a claimed task stays IN_PROGRESS without being completed before it is returned to PENDING. */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+
+    private int maxLimit = 100;
+
+    private Reaper reaper = new Reaper();
+
+    @Data
+    public static class Reaper {
+
+        private boolean enabled = true;
+
+        private Duration interval = Duration.ofSeconds(30);
+
+        private int batchSize = 500;
+
+        private int maxBatchesPerRun = 100;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.due-dates")
+public class DueDateProperties {
+
+    /** Whether this instance keeps a timing wheel of open due dates and publishes deadline events. */
+    private boolean enabled = true;
+
+    /** Wheel resolution; events fire at most one tick after the due date. */
+    private Duration tick = Duration.ofSeconds(1);
+
+    private int wheelSize = 512;
+
+    /** How long before the due date a reminder is published; zero disables reminders. */
+    private Duration reminderLead = Duration.ofHours(1);
+}
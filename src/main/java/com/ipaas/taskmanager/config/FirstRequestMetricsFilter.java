@@ -0,0 +1,57 @@
+package com.ipaas.taskmanager.config;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records how long after JVM start the first request was answered, as the
+ * {@code taskmanager.startup.first_request} gauge. Unlike {@code application.ready.time}, this
+ * includes JVM boot, lazy initialisation on the first call and the first JDBC connection, which
+ * is what an autoscaled instance actually waits for before taking traffic.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final long NOT_YET = -1;
+
+    private final AtomicLong firstRequestMillis = new AtomicLong(NOT_YET);
+
+    public FirstRequestMetricsFilter(MeterRegistry meterRegistry) {
+        TimeGauge.builder("taskmanager.startup.first_request", firstRequestMillis, TimeUnit.MILLISECONDS,
+                millis -> millis.get() == NOT_YET ? Double.NaN : millis.get())
+            .description("Time from JVM start until the first request was answered")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (firstRequestMillis.get() == NOT_YET) {
+                long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                if (firstRequestMillis.compareAndSet(NOT_YET, uptime)) {
+                    log.info("First request {} answered {} ms after JVM start", request.getRequestURI(), uptime);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.idempotency")
+public class IdempotencyProperties {
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private long cacheSize = 10_000;
+
+    private Duration purgeInterval = Duration.ofMinutes(15);
+
+    /**
+     * How long a key stays reserved by a request that has not finished. Past it the key can be
+     * taken over, so a request lost with its instance does not block retries until the TTL.
+     */
+    private Duration reservationTimeout = Duration.ofMinutes(1);
+}
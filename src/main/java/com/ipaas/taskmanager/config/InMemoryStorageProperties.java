@@ -0,0 +1,28 @@
+package com.ipaas.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** Settings of the embedded storage used by the {@code inmemory} profile. */
+@Data
+@ConfigurationProperties(prefix = "taskmanager.in-memory")
+public class InMemoryStorageProperties {
+
+    private WriteAheadLog writeAheadLog = new WriteAheadLog();
+
+    @Data
+    public static class WriteAheadLog {
+
+        /** Without the log, data lives only as long as the process. */
+        private boolean enabled = false;
+
+        private String path = "data/taskmanager.wal";
+
+        /**
+         * Force every commit to disk before acknowledging it. Off, a commit survives a process
+         * crash but the last commits can be lost when the machine goes down.
+         */
+        private boolean fsync = true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ipaas.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.ipaas.taskmanager.repository.search.JpqlTaskSearchRepository;
+import com.ipaas.taskmanager.repository.search.PostgresTaskSearchRepository;
+import com.ipaas.taskmanager.repository.search.TaskSearchRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import jakarta.persistence.EntityManager;
+
+@Configuration
+@Profile("!inmemory")
+public class SearchConfig {
+
+    @Bean
+    public TaskSearchRepository taskSearchRepository(@Value("${spring.datasource.url:}") String datasourceUrl,
+            NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager, ShardRouter shardRouter) {
+        if (DatabaseDriver.fromJdbcUrl(datasourceUrl) == DatabaseDriver.POSTGRESQL) {
+            return new PostgresTaskSearchRepository(jdbcTemplate, shardRouter);
+        }
+        return new JpqlTaskSearchRepository(entityManager);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.subtask-status.group-commit")
+public class SubtaskGroupCommitProperties {
+
+    private boolean enabled = false;
+
+    private int queueCapacity = 10_000;
+
+    private int maxBatchSize = 500;
+
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    private Duration enqueueTimeout = Duration.ofSeconds(1);
+
+    private Duration responseTimeout = Duration.ofSeconds(30);
+}
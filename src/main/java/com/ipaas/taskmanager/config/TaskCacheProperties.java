@@ -0,0 +1,24 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.task-cache")
+public class TaskCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Off-heap memory for serialized tasks; the oldest entries are evicted beyond it. */
+    private DataSize capacity = DataSize.ofMegabytes(64);
+
+    /** Unit of allocation and eviction; a task larger than one slab is not cached. */
+    private DataSize slabSize = DataSize.ofMegabytes(1);
+
+    /** Bounds staleness from changes made by other instances, which are not seen here. */
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
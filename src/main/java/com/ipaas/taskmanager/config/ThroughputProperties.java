@@ -0,0 +1,23 @@
+package com.ipaas.taskmanager.config;
+
+import java.time.Duration;
+import java.time.Period;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.throughput")
+public class ThroughputProperties {
+
+    private boolean enabled = true;
+
+    /** Hourly buckets older than this are deleted; daily buckets are kept. */
+    private Period hourlyRetention = Period.ofDays(90);
+
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    /** Most buckets a single report may return. */
+    private int maxBuckets = 5000;
+}
@@ -0,0 +1,49 @@
+package com.ipaas.taskmanager.controller;
+
+import com.ipaas.taskmanager.dto.response.CycleTimeReportDTO;
+import com.ipaas.taskmanager.dto.response.ThroughputReportDTO;
+import com.ipaas.taskmanager.service.CycleTimeService;
+import com.ipaas.taskmanager.service.ThroughputService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Métricas agregadas de tarefas")
+public class AnalyticsController {
+
+    private final CycleTimeService cycleTimeService;
+    private final ThroughputService throughputService;
+
+    @GetMapping("/cycle-times")
+    @Operation(summary = "Lead time e cycle time", description = "Percentis p50/p90/p99 do tempo da criação à conclusão (lead time) e do início à conclusão (cycle time) das tarefas, por dia e no período, de um usuário ou de todos")
+    public ResponseEntity<CycleTimeReportDTO> getCycleTimes(
+            @Parameter(description = "ID do usuário; vazio para todos") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Primeiro dia (inclusive); padrão: 6 dias antes de `to`") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Último dia (inclusive); padrão: hoje") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate until = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(cycleTimeService.getReport(userId, from != null ? from : until.minusDays(6), until));
+    }
+
+    @GetMapping("/throughput")
+    @Operation(summary = "Vazão de tarefas", description = "Tarefas e subtarefas criadas e concluídas por intervalo, a partir de agregados por hora e por dia; intervalos menores que um dia usam os agregados por hora, mantidos por 90 dias")
+    public ResponseEntity<ThroughputReportDTO> getThroughput(
+            @Parameter(description = "ID do usuário; vazio para todos") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Início (inclusive); padrão: 7 dias antes de `to`") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim (exclusive); padrão: agora") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Tamanho de cada intervalo, em horas ou dias inteiros (ex.: PT1H, PT6H, P1D, P7D)") @RequestParam(defaultValue = "PT1H") Duration interval) {
+        LocalDateTime until = to != null ? to : LocalDateTime.now();
+        return ResponseEntity.ok(throughputService.getReport(userId, from != null ? from : until.minusDays(7), until, interval));
+    }
+}
@@ -1,9 +1,14 @@
 package com.ipaas.taskmanager.controller;
 
 import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.MoveSubtaskDTO;
 import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
 import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.service.IdempotencyService;
 import com.ipaas.taskmanager.service.SubtaskService;
+import com.ipaas.taskmanager.service.SubtaskStatusWriter;
+import com.ipaas.taskmanager.service.TaskReadCoalescer;
+import com.ipaas.taskmanager.sharding.ShardIds;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,21 +28,27 @@ import java.util.UUID;
 public class SubtaskController {
 
     private final SubtaskService subtaskService;
+    private final IdempotencyService idempotencyService;
+    private final TaskReadCoalescer taskReadCoalescer;
+    private final SubtaskStatusWriter subtaskStatusWriter;
 
     @PostMapping("/tasks/{taskId}/subtasks")
     @Operation(summary = "Criar subtarefa", description = "Cria uma nova subtarefa para uma tarefa específica")
     public ResponseEntity<SubtaskResponseDTO> createSubtask(
             @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
+            @Parameter(description = "Chave de idempotência para retentativas") @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateSubtaskDTO createSubtaskDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(subtaskService.createSubtask(taskId, createSubtaskDTO));
+        return idempotencyService.execute(idempotencyKey, "tasks/" + taskId + "/subtasks", ShardIds.shardOf(taskId),
+                createSubtaskDTO, SubtaskResponseDTO.class,
+                () -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(subtaskService.createSubtask(taskId, createSubtaskDTO)));
     }
 
     @GetMapping("/tasks/{taskId}/subtasks")
     @Operation(summary = "Listar subtarefas", description = "Lista todas as subtarefas de uma tarefa específica")
     public ResponseEntity<List<SubtaskResponseDTO>> getSubtasksByTaskId(
             @Parameter(description = "ID da tarefa") @PathVariable UUID taskId) {
-        return ResponseEntity.ok(subtaskService.getSubtasksByTaskId(taskId));
+        return ResponseEntity.ok(taskReadCoalescer.getSubtasksByTaskId(taskId));
     }
 
     @GetMapping("/subtasks/{subtaskId}")
@@ -47,11 +58,26 @@ public class SubtaskController {
         return ResponseEntity.ok(subtaskService.getSubtaskById(subtaskId));
     }
 
+    @GetMapping("/subtasks/{subtaskId}/subtree")
+    @Operation(summary = "Buscar subárvore", description = "Retorna a subtarefa e todas as subtarefas aninhadas abaixo dela")
+    public ResponseEntity<List<SubtaskResponseDTO>> getSubtree(
+            @Parameter(description = "ID da subtarefa") @PathVariable UUID subtaskId) {
+        return ResponseEntity.ok(subtaskService.getSubtree(subtaskId));
+    }
+
+    @PatchMapping("/subtasks/{subtaskId}/parent")
+    @Operation(summary = "Mover subtarefa", description = "Move a subtarefa (e sua subárvore) para outro pai da mesma tarefa")
+    public ResponseEntity<SubtaskResponseDTO> moveSubtask(
+            @Parameter(description = "ID da subtarefa") @PathVariable UUID subtaskId,
+            @RequestBody MoveSubtaskDTO moveSubtaskDTO) {
+        return ResponseEntity.ok(subtaskService.moveSubtask(subtaskId, moveSubtaskDTO));
+    }
+
     @PatchMapping("/subtasks/{subtaskId}/status")
     @Operation(summary = "Atualizar status da subtarefa", description = "Atualiza o status de uma subtarefa específica")
     public ResponseEntity<SubtaskResponseDTO> updateSubtaskStatus(
             @Parameter(description = "ID da subtarefa") @PathVariable UUID subtaskId,
             @Valid @RequestBody UpdateSubtaskStatusDTO updateSubtaskStatusDTO) {
-        return ResponseEntity.ok(subtaskService.updateSubtaskStatus(subtaskId, updateSubtaskStatusDTO));
+        return ResponseEntity.ok(subtaskStatusWriter.updateSubtaskStatus(subtaskId, updateSubtaskStatusDTO));
     }
 } 
\ No newline at end of file
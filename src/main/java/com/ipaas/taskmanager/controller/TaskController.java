@@ -1,19 +1,44 @@
 package com.ipaas.taskmanager.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
 import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
+import com.ipaas.taskmanager.dto.request.TaskLeaseDTO;
+import com.ipaas.taskmanager.dto.request.TaskSort;
 import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
 import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+import com.ipaas.taskmanager.dto.response.StatusTransitionDTO;
+import com.ipaas.taskmanager.dto.response.TaskClaimResponseDTO;
 import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskSuggestionDTO;
+import com.ipaas.taskmanager.repository.TaskFilter;
+import com.ipaas.taskmanager.service.IdempotencyService;
+import com.ipaas.taskmanager.service.StatusHistoryService;
+import com.ipaas.taskmanager.service.TaskAutocompleteService;
+import com.ipaas.taskmanager.service.TaskClaimService;
+import com.ipaas.taskmanager.service.TaskReadCoalescer;
+import com.ipaas.taskmanager.service.TaskResponseCache;
+import com.ipaas.taskmanager.service.TaskSearchService;
 import com.ipaas.taskmanager.service.TaskService;
+import com.ipaas.taskmanager.sharding.ShardIds;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,41 +52,181 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Tasks", description = "Gerenciamento de tarefas")
 public class TaskController {
 
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /** Listings return at most this many rows, so the rate limiter's size-weighted cost stays meaningful. */
+    static final int MAX_PAGE_SIZE = 100;
+
     private final TaskService taskService;
+    private final IdempotencyService idempotencyService;
+    private final TaskReadCoalescer taskReadCoalescer;
+    private final TaskSearchService taskSearchService;
+    private final TaskAutocompleteService taskAutocompleteService;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskClaimService taskClaimService;
+    private final StatusHistoryService statusHistoryService;
 
     @PostMapping
     @Operation(summary = "Criar tarefa", description = "Cria uma nova tarefa para um usuário")
-    public ResponseEntity<TaskResponseDTO> createTask(@Valid @RequestBody CreateTaskDTO createTaskDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(createTaskDTO));
+    public ResponseEntity<TaskResponseDTO> createTask(
+            @Parameter(description = "Chave de idempotência para retentativas") @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateTaskDTO createTaskDTO) {
+        return idempotencyService.execute(idempotencyKey, "tasks", ShardIds.shardOf(createTaskDTO.getUserId()),
+            createTaskDTO, TaskResponseDTO.class,
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(createTaskDTO)));
     }
 
     @GetMapping("/{taskId}")
     @Operation(summary = "Buscar tarefa", description = "Retorna uma tarefa por ID")
-    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable UUID taskId) {
-        return ResponseEntity.ok(taskService.getTaskById(taskId));
+    public ResponseEntity<?> getTaskById(
+            @PathVariable UUID taskId,
+            @Parameter(description = "Campos a retornar, separados por vírgula") @RequestParam(required = false) List<String> fields,
+            @Parameter(description = "Relações a incluir (subtasks); vazio para omitir") @RequestParam(required = false) List<String> include,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TaskFieldSelection selection = TaskFieldSelection.of(fields, include);
+        if (selection.isAll() && acceptsJson(accept)) {
+            // Hot path: the bytes are written as they are, no entity or DTO is built
+            byte[] json = taskResponseCache.getJson(taskId);
+            if (json != null) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+            }
+        }
+        return ResponseEntity.ok(withFields(taskReadCoalescer.getTaskById(taskId, selection), selection));
     }
 
     @GetMapping
     @Operation(
         summary = "Listar tarefas", 
-        description = "Lista tarefas com filtros opcionais (status, userId, title) e paginação"
+        description = "Lista tarefas com filtros opcionais (status, userId, title, includeArchived, datas), ordenação e paginação"
     )
-    public ResponseEntity<PageResponseDTO<TaskResponseDTO>> getTasks(
+    public ResponseEntity<MappingJacksonValue> getTasks(
             @Parameter(description = "Status da tarefa") @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "ID do usuário") @RequestParam(required = false) UUID userId,
             @Parameter(description = "Título da tarefa (busca parcial)") @RequestParam(required = false) String title,
+            @Parameter(description = "Incluir tarefas arquivadas") @RequestParam(defaultValue = "false") boolean includeArchived,
+            @Parameter(description = "Criadas a partir de (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Criadas antes de (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Concluídas a partir de (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime completedFrom,
+            @Parameter(description = "Concluídas antes de (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime completedTo,
+            @Parameter(description = "Campo de ordenação (createdAt, updatedAt, completedAt)") @RequestParam(defaultValue = TaskSort.DEFAULT_FIELD) String sort,
+            @Parameter(description = "Direção da ordenação (asc, desc)") @RequestParam(defaultValue = TaskSort.DEFAULT_DIRECTION) String direction,
             @Parameter(description = "Número da página (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campos a retornar, separados por vírgula") @RequestParam(required = false) List<String> fields,
+            @Parameter(description = "Relações a incluir (subtasks); vazio para omitir") @RequestParam(required = false) List<String> include) {
         
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(taskService.getTasksWithFilters(userId, status, title, pageable));
+        Pageable pageable = PageRequest.of(page, pageSize(size), TaskSort.of(sort, direction));
+        TaskFilter filter = new TaskFilter(userId, status, title, createdFrom, createdTo, completedFrom, completedTo);
+        TaskFieldSelection selection = TaskFieldSelection.of(fields, include);
+        PageResponseDTO<TaskResponseDTO> tasks = taskService.getTasksWithFilters(
+            filter, includeArchived, selection, pageable);
+        return ResponseEntity.ok(withFields(tasks, selection));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar por texto", description = "Busca textual ranqueada em título e descrição de tarefas e subtarefas")
+    public ResponseEntity<List<SearchResultDTO>> searchTasks(
+            @Parameter(description = "Termos de busca") @RequestParam String q,
+            @Parameter(description = "ID do usuário") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Número da página (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskSearchService.search(q, userId, page, size));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocompletar títulos", description = "Sugere tarefas do usuário cujo título (ou uma palavra dele) começa com o prefixo")
+    public ResponseEntity<List<TaskSuggestionDTO>> autocomplete(
+            @Parameter(description = "ID do usuário") @RequestParam UUID userId,
+            @Parameter(description = "Prefixo digitado") @RequestParam String prefix,
+            @Parameter(description = "Número máximo de sugestões") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(taskAutocompleteService.suggest(userId, prefix, limit));
+    }
+
+    @GetMapping("/ready")
+    @Operation(summary = "Tarefas prontas", description = "Lista tarefas pendentes do usuário cujas dependências já foram concluídas")
+    public ResponseEntity<PageResponseDTO<TaskResponseDTO>> getReadyTasks(
+            @Parameter(description = "ID do usuário") @RequestParam UUID userId,
+            @Parameter(description = "Número da página (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(taskService.getReadyTasks(userId, PageRequest.of(page, pageSize(size))));
+    }
+
+    @GetMapping("/overdue")
+    @Operation(summary = "Tarefas atrasadas", description = "Lista tarefas não concluídas do usuário cujo prazo já passou, das mais atrasadas para as mais recentes")
+    public ResponseEntity<PageResponseDTO<TaskResponseDTO>> getOverdueTasks(
+            @Parameter(description = "ID do usuário") @RequestParam UUID userId,
+            @Parameter(description = "Número da página (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(taskService.getOverdueTasks(userId, PageRequest.of(page, pageSize(size))));
+    }
+
+    @PostMapping("/claim")
+    @Operation(summary = "Reservar tarefas", description = "Move até `limit` tarefas prontas do usuário para IN_PROGRESS com uma reserva por tempo limitado; tarefas já reservadas por outro worker são ignoradas")
+    public ResponseEntity<TaskClaimResponseDTO> claimTasks(
+            @Parameter(description = "ID do usuário") @RequestParam UUID userId,
+            @Parameter(description = "Número máximo de tarefas (mínimo 1)") @RequestParam(defaultValue = "1") int limit) {
+        return ResponseEntity.ok(taskClaimService.claimTasks(userId, limit));
+    }
+
+    @PostMapping("/{taskId}/lease/renew")
+    @Operation(summary = "Renovar reserva", description = "Estende a reserva de uma tarefa; exige o token devolvido pela reserva e é recusada se a tarefa tiver sido reservada por outro worker")
+    public ResponseEntity<TaskClaimResponseDTO> renewLease(
+            @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
+            @Valid @RequestBody TaskLeaseDTO taskLeaseDTO) {
+        return ResponseEntity.ok(taskClaimService.renewLease(taskId, taskLeaseDTO.getLeaseToken()));
+    }
+
+    @PostMapping("/{taskId}/lease/release")
+    @Operation(summary = "Liberar reserva", description = "Devolve uma tarefa reservada para PENDING antes do fim da reserva; exige o token devolvido pela reserva")
+    public ResponseEntity<Void> releaseLease(
+            @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
+            @Valid @RequestBody TaskLeaseDTO taskLeaseDTO) {
+        taskClaimService.releaseLease(taskId, taskLeaseDTO.getLeaseToken());
+        return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{taskId}/status")
-    @Operation(summary = "Atualizar status", description = "Atualiza o status de uma tarefa")
+    @Operation(summary = "Atualizar status", description = "Atualiza o status de uma tarefa; uma tarefa reservada só aceita a mudança com o `leaseToken` da reserva atual")
     public ResponseEntity<TaskResponseDTO> updateTaskStatus(
             @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
             @Valid @RequestBody UpdateTaskStatusDTO updateTaskStatusDTO) {
         return ResponseEntity.ok(taskService.updateTaskStatus(taskId, updateTaskStatusDTO));
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/{taskId}/history")
+    @Operation(summary = "Histórico de status", description = "Lista as mudanças de status da tarefa e, opcionalmente, das suas subtarefas, da mais antiga para a mais recente; o histórico é mantido após o arquivamento")
+    public ResponseEntity<List<StatusTransitionDTO>> getTaskHistory(
+            @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
+            @Parameter(description = "Incluir mudanças das subtarefas") @RequestParam(defaultValue = "true") boolean includeSubtasks) {
+        return ResponseEntity.ok(statusHistoryService.getTaskHistory(taskId, includeSubtasks));
+    }
+
+    /** Whether content negotiation would pick JSON: cached bytes are never served to Smile or CBOR clients. */
+    private static int pageSize(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            return accepted.stream().anyMatch(type -> type.isCompatibleWith(MediaType.APPLICATION_JSON))
+                && accepted.stream().noneMatch(type -> !type.isWildcardSubtype()
+                    && (type.isCompatibleWith(SMILE) || type.isCompatibleWith(MediaType.APPLICATION_CBOR)));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private MappingJacksonValue withFields(Object body, TaskFieldSelection selection) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (!selection.isAll()) {
+            value.setFilters(new SimpleFilterProvider().addFilter(TaskResponseDTO.FIELD_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(selection.getFields())));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ipaas.taskmanager.controller;
+
+import com.ipaas.taskmanager.dto.request.CreateTaskDependencyDTO;
+import com.ipaas.taskmanager.dto.response.TaskDependencyResponseDTO;
+import com.ipaas.taskmanager.service.TaskDependencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/tasks/{taskId}/dependencies")
+@RequiredArgsConstructor
+@Tag(name = "Task Dependencies", description = "Dependências entre tarefas")
+public class TaskDependencyController {
+
+    private final TaskDependencyService taskDependencyService;
+
+    @PostMapping
+    @Operation(summary = "Adicionar dependência", description = "Faz a tarefa depender da conclusão de outra tarefa do mesmo usuário")
+    public ResponseEntity<TaskDependencyResponseDTO> addDependency(
+            @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
+            @Valid @RequestBody CreateTaskDependencyDTO createTaskDependencyDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(taskDependencyService.addDependency(taskId, createTaskDependencyDTO.getDependsOnTaskId()));
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar dependências", description = "Lista as tarefas das quais a tarefa depende")
+    public ResponseEntity<List<TaskDependencyResponseDTO>> getDependencies(
+            @Parameter(description = "ID da tarefa") @PathVariable UUID taskId) {
+        return ResponseEntity.ok(taskDependencyService.getDependencies(taskId));
+    }
+
+    @DeleteMapping("/{dependsOnTaskId}")
+    @Operation(summary = "Remover dependência", description = "Remove a dependência entre duas tarefas")
+    public ResponseEntity<Void> removeDependency(
+            @Parameter(description = "ID da tarefa") @PathVariable UUID taskId,
+            @Parameter(description = "ID da tarefa da qual depende") @PathVariable UUID dependsOnTaskId) {
+        taskDependencyService.removeDependency(taskId, dependsOnTaskId);
+        return ResponseEntity.noContent().build();
+    }
+}
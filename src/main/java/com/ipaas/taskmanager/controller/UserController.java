@@ -10,12 +10,14 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ipaas.taskmanager.dto.request.CreateUserDTO;
 import com.ipaas.taskmanager.dto.request.UpdateUserDTO;
 import com.ipaas.taskmanager.dto.response.UserResponseDTO;
+import com.ipaas.taskmanager.service.IdempotencyService;
 import com.ipaas.taskmanager.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,13 +33,19 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @Operation(summary = "Criar usuário", description = "Cria um novo usuário no sistema")
-    public ResponseEntity<UserResponseDTO> createUser(@RequestBody @Valid CreateUserDTO createUserDTO) {
-        UserResponseDTO createdUser = userService.createUser(createUserDTO);
-        return ResponseEntity.created(URI.create("/api/v1/users/" + createdUser.getId()))
-            .body(createdUser);
+    public ResponseEntity<UserResponseDTO> createUser(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid CreateUserDTO createUserDTO) {
+        int shard = userService.shardFor(createUserDTO);
+        return idempotencyService.execute(idempotencyKey, "users", shard, createUserDTO, UserResponseDTO.class, () -> {
+            UserResponseDTO createdUser = userService.createUser(createUserDTO);
+            return ResponseEntity.created(URI.create("/api/v1/users/" + createdUser.getId()))
+                .body(createdUser);
+        });
     }
 
     @GetMapping("/{userId}")
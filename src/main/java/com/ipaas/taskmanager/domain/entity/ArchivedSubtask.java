@@ -0,0 +1,61 @@
+package com.ipaas.taskmanager.domain.entity;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "archived_subtasks", indexes = {
+        @Index(name = "idx_archived_subtasks_task_id", columnList = "task_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedSubtask {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private ArchivedTask task;
+
+    /** Id of the parent subtask, archived along with this one; a plain column since both are copied in one statement. */
+    @Column(name = "parent_id")
+    private UUID parentId;
+
+    /** The subtask's materialized path, as it was when the task was archived. */
+    @ColumnDefault("'/'")
+    @Column(nullable = false, length = 2048)
+    private String path;
+}
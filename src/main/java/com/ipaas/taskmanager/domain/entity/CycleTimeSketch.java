@@ -0,0 +1,55 @@
+package com.ipaas.taskmanager.domain.entity;
+
+import com.ipaas.taskmanager.domain.enums.CycleTimeMetric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Distribution of one metric over the tasks a user completed on one day, as a compressed
+ * HdrHistogram of durations in seconds. Rows without a user hold the day's totals for every user
+ * on the shard, so the global view reads one row per shard and day. Histograms merge without
+ * loss of accuracy: wider windows and the cross-shard view are built by adding rows together.
+ */
+@Entity
+@Table(name = "cycle_time_sketches", indexes = {
+    @Index(name = "idx_cycle_time_sketches_user", columnList = "user_id, completed_on"),
+    @Index(name = "idx_cycle_time_sketches_day", columnList = "completed_on")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeSketch {
+
+    /** {@link #idOf}: one row per metric, user and day, so merges lock a known row. */
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, updatable = false)
+    private CycleTimeMetric metric;
+
+    @Column(name = "user_id", updatable = false)
+    private UUID userId;
+
+    @Column(name = "completed_on", nullable = false, updatable = false)
+    private LocalDate day;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] histogram;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static String idOf(CycleTimeMetric metric, UUID userId, LocalDate day) {
+        return metric.name() + ":" + (userId == null ? "*" : userId) + ":" + day;
+    }
+}
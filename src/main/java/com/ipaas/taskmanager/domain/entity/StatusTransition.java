@@ -0,0 +1,50 @@
+package com.ipaas.taskmanager.domain.entity;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One status change of a task, or of one of its subtasks when {@code subtaskId} is set. Rows are
+ * only ever inserted: ids come from a pooled sequence so inserts batch, statuses are stored as
+ * one-byte codes, and there are no foreign keys so history outlives archiving. On Postgres the
+ * time column also gets a BRIN index, which stays tiny because rows arrive in time order.
+ */
+@Entity
+@Table(name = "status_history", indexes = {
+    @Index(name = "idx_status_history_task", columnList = "task_id, changed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq")
+    @SequenceGenerator(name = "status_history_seq", sequenceName = "status_history_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private UUID taskId;
+
+    @Column(name = "subtask_id", updatable = false)
+    private UUID subtaskId;
+
+    @Convert(converter = TaskStatusCodeConverter.class)
+    @Column(name = "from_status", updatable = false)
+    private TaskStatus fromStatus;
+
+    @Convert(converter = TaskStatusCodeConverter.class)
+    @Column(name = "to_status", nullable = false, updatable = false)
+    private TaskStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+}
@@ -1,6 +1,7 @@
 package com.ipaas.taskmanager.domain.entity;
 
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.sharding.ShardedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,26 +9,35 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
-@Table(name = "subtasks")
+@Table(name = "subtasks", indexes = {
+    @Index(name = "idx_subtasks_path", columnList = "path"),
+    @Index(name = "idx_subtasks_task_status", columnList = "task_id, status")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Subtask {
 
+    public static final String ROOT_PATH = "/";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @ShardedUuid
     private UUID id;
 
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;
 
+    /** Can run to kilobytes, so loading the entity leaves it out until it is read (bytecode enhancement). */
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -44,15 +54,38 @@ public class Subtask {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
     @NotNull(message = "Task is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Subtask parent;
+
+    /**
+     * Materialized path of ancestor ids from the top-level subtask down, e.g. {@code /a/b/};
+     * {@code /} for subtasks without a parent. Descendants of a subtask are the rows whose path
+     * starts with {@code path + id + "/"}, which an index on this column answers in one range scan.
+     */
+    @ColumnDefault("'/'")
+    @Column(nullable = false, length = 2048)
+    private String path;
+
     @PrePersist
     private void prePersist() {
+        if (this.path == null) {
+            this.path = ROOT_PATH;
+        }
         this.status = TaskStatus.PENDING;
         this.createdAt = LocalDateTime.now();
+        // Whole seconds, so the value read back from any database equals the one scheduled in memory
+        if (this.dueAt != null) {
+            this.dueAt = this.dueAt.truncatedTo(ChronoUnit.SECONDS);
+        }
     }
 
     @PreUpdate
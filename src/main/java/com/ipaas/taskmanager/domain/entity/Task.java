@@ -1,6 +1,7 @@
 package com.ipaas.taskmanager.domain.entity;
 
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.sharding.ShardedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,13 +9,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+       indexes = {
+           @Index(name = "idx_tasks_ready", columnList = "user_id, status, pending_dependencies"),
+           @Index(name = "idx_tasks_user_created", columnList = "user_id, created_at"),
+           @Index(name = "idx_tasks_user_updated", columnList = "user_id, updated_at"),
+           @Index(name = "idx_tasks_user_completed", columnList = "user_id, completed_at"),
+           @Index(name = "idx_tasks_created", columnList = "created_at"),
+           @Index(name = "idx_tasks_updated", columnList = "updated_at"),
+           @Index(name = "idx_tasks_completed", columnList = "completed_at"),
+           @Index(name = "idx_tasks_lease", columnList = "status, lease_expires_at")
+       })
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,13 +35,15 @@ import java.util.UUID;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @ShardedUuid
     private UUID id;
 
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;
 
+    /** Can run to kilobytes, so loading the entity leaves it out until it is read (bytecode enhancement). */
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -45,6 +60,22 @@ public class Task {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    /** Set while a worker holds the task through the claim API; past this instant the lease may be reaped. */
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    /** Fences the lease: issued per claim, and only its holder may renew, release or complete the task. */
+    @Column(name = "lease_token")
+    private UUID leaseToken;
+
+    /** Number of prerequisites (see {@link TaskDependency}) that are not COMPLETED yet. */
+    @ColumnDefault("0")
+    @Column(name = "pending_dependencies", nullable = false)
+    private int pendingDependencies;
+
     @NotNull(message = "User is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -57,6 +88,10 @@ public class Task {
     private void prePersist() {
         this.status = TaskStatus.PENDING;
         this.createdAt = LocalDateTime.now();
+        // Whole seconds, so the value read back from any database equals the one scheduled in memory
+        if (this.dueAt != null) {
+            this.dueAt = this.dueAt.truncatedTo(ChronoUnit.SECONDS);
+        }
     }
 
     @PreUpdate
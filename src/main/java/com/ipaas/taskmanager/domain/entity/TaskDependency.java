@@ -0,0 +1,47 @@
+package com.ipaas.taskmanager.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Edge of the task dependency graph: {@code task} cannot start until {@code dependsOn} is COMPLETED.
+ */
+@Entity
+@Table(name = "task_dependencies",
+       uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_edge", columnNames = {"task_id", "depends_on_id"}),
+       indexes = @Index(name = "idx_task_dependencies_depends_on", columnList = "depends_on_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @NotNull(message = "Task is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    @NotNull(message = "Dependency is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "depends_on_id", nullable = false)
+    private Task dependsOn;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    private void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ipaas.taskmanager.domain.entity;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link TaskStatus} as a fixed one-byte code. Unlike an ordinal the codes do not move
+ * when constants are added or reordered, which matters for rows that are never rewritten.
+ */
+@Converter
+public class TaskStatusCodeConverter implements AttributeConverter<TaskStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(TaskStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case PENDING -> 1;
+            case IN_PROGRESS -> 2;
+            case COMPLETED -> 3;
+        };
+    }
+
+    @Override
+    public TaskStatus convertToEntityAttribute(Byte code) {
+        if (code == null) {
+            return null;
+        }
+        return switch (code) {
+            case 1 -> TaskStatus.PENDING;
+            case 2 -> TaskStatus.IN_PROGRESS;
+            case 3 -> TaskStatus.COMPLETED;
+            default -> throw new IllegalArgumentException("Unknown task status code: " + code);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.ipaas.taskmanager.domain.entity;
+
+import com.ipaas.taskmanager.domain.enums.BucketGranularity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tasks and subtasks a user created and completed in one hour or one day. Totals for every user
+ * are summed from these rows when read. Counters only grow: completions are counted when they
+ * happen, and reopening a task does not take one back.
+ */
+@Entity
+@Table(name = "throughput_buckets", indexes = {
+    @Index(name = "idx_throughput_buckets_user", columnList = "user_id, granularity, bucket_start"),
+    @Index(name = "idx_throughput_buckets_start", columnList = "granularity, bucket_start")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputBucket {
+
+    /** {@link #idOf}: one row per granularity, user and bucket, so merges lock a known row. */
+    @Id
+    @Column(name = "id", length = 80)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8, updatable = false)
+    private BucketGranularity granularity;
+
+    @Column(name = "user_id", updatable = false)
+    private UUID userId;
+
+    @Column(name = "bucket_start", nullable = false, updatable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "tasks_created", nullable = false)
+    private long tasksCreated;
+
+    @Column(name = "tasks_completed", nullable = false)
+    private long tasksCompleted;
+
+    @Column(name = "subtasks_created", nullable = false)
+    private long subtasksCreated;
+
+    @Column(name = "subtasks_completed", nullable = false)
+    private long subtasksCompleted;
+
+    public static String idOf(BucketGranularity granularity, UUID userId, LocalDateTime bucketStart) {
+        return granularity.name() + ":" + userId + ":" + bucketStart;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ipaas.taskmanager.domain.entity;
 
+import com.ipaas.taskmanager.sharding.ShardedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @ShardedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -0,0 +1,6 @@
+package com.ipaas.taskmanager.domain.enums;
+
+public enum BucketGranularity {
+    HOUR,
+    DAY
+}
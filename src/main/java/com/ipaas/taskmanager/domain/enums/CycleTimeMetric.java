@@ -0,0 +1,8 @@
+package com.ipaas.taskmanager.domain.enums;
+
+public enum CycleTimeMetric {
+    /** From creation to completion. */
+    LEAD_TIME,
+    /** From the last move to IN_PROGRESS to completion. */
+    CYCLE_TIME
+}
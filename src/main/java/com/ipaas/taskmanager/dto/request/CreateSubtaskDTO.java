@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,4 +19,8 @@ public class CreateSubtaskDTO {
     private String title;
 
     private String description;
+
+    private UUID parentSubtaskId;
+
+    private LocalDateTime dueAt;
 } 
\ No newline at end of file
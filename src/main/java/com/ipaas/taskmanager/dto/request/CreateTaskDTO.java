@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
@@ -22,4 +23,6 @@ public class CreateTaskDTO {
 
     @NotNull(message = "User ID is required")
     private UUID userId;
+
+    private LocalDateTime dueAt;
 } 
\ No newline at end of file
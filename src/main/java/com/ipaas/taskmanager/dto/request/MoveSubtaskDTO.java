@@ -0,0 +1,18 @@
+package com.ipaas.taskmanager.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveSubtaskDTO {
+
+    /** New parent subtask; {@code null} moves the subtask to the top level of its task. */
+    private UUID parentSubtaskId;
+}
@@ -0,0 +1,113 @@
+package com.ipaas.taskmanager.dto.request;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import com.ipaas.taskmanager.exception.task.InvalidFieldSelectionException;
+
+/**
+ * Which {@code TaskResponseDTO} fields a caller asked for ({@code fields=}) and which
+ * relations should be embedded ({@code include=}). Drives both what is read from the
+ * database and what is serialized.
+ */
+public final class TaskFieldSelection {
+
+    public static final String SUBTASKS = "subtasks";
+
+    private static final Set<String> TASK_FIELDS = Set.of(
+        "id", "title", "description", "status", "createdAt", "updatedAt", "completedAt", "dueAt",
+        "userId", "userName", "userEmail", "subtasks", "totalSubtasks", "completedSubtasks", "archived");
+
+    private static final Set<String> SUBTASK_FIELDS = Set.of("subtasks", "totalSubtasks", "completedSubtasks");
+
+    private static final Set<String> INCLUDES = Set.of(SUBTASKS);
+
+    public static final TaskFieldSelection ALL = new TaskFieldSelection(null, true);
+
+    private final Set<String> fields;
+    private final boolean subtasks;
+
+    private TaskFieldSelection(Set<String> fields, boolean subtasks) {
+        this.fields = fields;
+        this.subtasks = subtasks;
+    }
+
+    public static TaskFieldSelection of(Collection<String> fields, Collection<String> include) {
+        Set<String> includes = normalize(include, INCLUDES, "include");
+        Set<String> requested = normalize(fields, TASK_FIELDS, "fields");
+
+        if (requested.isEmpty()) {
+            boolean subtasks = include == null || includes.contains(SUBTASKS);
+            return subtasks ? ALL : new TaskFieldSelection(withoutSubtaskFields(), false);
+        }
+
+        boolean subtasks = includes.contains(SUBTASKS)
+            || requested.stream().anyMatch(SUBTASK_FIELDS::contains);
+
+        Set<String> selected = new LinkedHashSet<>(requested);
+        selected.add("id");
+        if (includes.contains(SUBTASKS)) {
+            selected.addAll(SUBTASK_FIELDS);
+        }
+        return new TaskFieldSelection(Collections.unmodifiableSet(selected), subtasks);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includesSubtasks() {
+        return subtasks;
+    }
+
+    public boolean includesDescription() {
+        return fields == null || fields.contains("description");
+    }
+
+    public Set<String> getFields() {
+        return fields == null ? TASK_FIELDS : fields;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TaskFieldSelection selection)) {
+            return false;
+        }
+        return subtasks == selection.subtasks && Objects.equals(fields, selection.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields, subtasks);
+    }
+
+    private static Set<String> withoutSubtaskFields() {
+        Set<String> selected = new LinkedHashSet<>(TASK_FIELDS);
+        selected.removeAll(SUBTASK_FIELDS);
+        return Collections.unmodifiableSet(selected);
+    }
+
+    private static Set<String> normalize(Collection<String> values, Set<String> allowed, String parameter) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (values == null) {
+            return normalized;
+        }
+        for (String value : values) {
+            String trimmed = value == null ? "" : value.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(trimmed)) {
+                throw new InvalidFieldSelectionException("Unknown value for " + parameter + ": " + trimmed);
+            }
+            normalized.add(trimmed);
+        }
+        return normalized;
+    }
+}
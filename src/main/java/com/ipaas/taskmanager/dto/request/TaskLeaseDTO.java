@@ -0,0 +1,18 @@
+package com.ipaas.taskmanager.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLeaseDTO {
+    @NotNull(message = "Lease token is required")
+    private UUID leaseToken;
+}
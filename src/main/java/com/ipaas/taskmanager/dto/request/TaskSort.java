@@ -0,0 +1,42 @@
+package com.ipaas.taskmanager.dto.request;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.ipaas.taskmanager.exception.task.InvalidTaskSortException;
+
+/**
+ * Parses the {@code sort}/{@code direction} listing parameters. Only indexed timestamps are
+ * accepted, and {@code id} is always appended as a tie-breaker so pages stay stable when many
+ * tasks share a timestamp. Tasks without the timestamp (e.g. {@code completedAt} of open tasks)
+ * sort last ascending and first descending.
+ */
+public final class TaskSort {
+
+    public static final String DEFAULT_FIELD = "createdAt";
+    public static final String DEFAULT_DIRECTION = "desc";
+
+    private static final Set<String> FIELDS = Set.of("createdAt", "updatedAt", "completedAt");
+
+    private TaskSort() {
+    }
+
+    public static Sort of(String field, String direction) {
+        String sortField = field == null || field.isBlank() ? DEFAULT_FIELD : field.strip();
+        if (!FIELDS.contains(sortField)) {
+            throw new InvalidTaskSortException("Unknown sort field '" + sortField + "'; expected one of " + FIELDS);
+        }
+
+        Sort.Direction sortDirection = direction == null || direction.isBlank()
+            ? Sort.Direction.fromString(DEFAULT_DIRECTION)
+            : Sort.Direction.fromOptionalString(direction.strip().toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> new InvalidTaskSortException(
+                    "Unknown sort direction '" + direction + "'; expected asc or desc"));
+
+        // Explicit, so every database and the in-memory merge put tasks without the timestamp in the same place
+        Sort.Order order = new Sort.Order(sortDirection, sortField);
+        return Sort.by(sortDirection.isAscending() ? order.nullsLast() : order.nullsFirst(), new Sort.Order(sortDirection, "id"));
+    }
+}
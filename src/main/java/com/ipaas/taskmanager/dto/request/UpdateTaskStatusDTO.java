@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -14,4 +16,11 @@ import lombok.NoArgsConstructor;
 public class UpdateTaskStatusDTO {
     @NotNull(message = "Status is required")
     private TaskStatus status;
-} 
\ No newline at end of file
+
+    /** Token returned by the claim; required while the task is leased, and must match the current lease. */
+    private UUID leaseToken;
+
+    public UpdateTaskStatusDTO(TaskStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ipaas.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeReportDTO {
+
+    private UUID userId;
+    private CycleTimeWindowDTO total;
+    private List<CycleTimeWindowDTO> days;
+}
@@ -0,0 +1,20 @@
+package com.ipaas.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeWindowDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private DurationPercentilesDTO leadTime;
+    private DurationPercentilesDTO cycleTime;
+}
@@ -0,0 +1,29 @@
+package com.ipaas.taskmanager.dto.response;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+
+    public enum Type { TASK, SUBTASK }
+
+    private Type type;
+    private UUID id;
+    private UUID taskId;
+    private String title;
+    private TaskStatus status;
+    private double score;
+    /** Title with matched terms wrapped in {@code <mark>} tags. */
+    private String titleHighlight;
+    /** Fragment of the description around the matched terms, wrapped the same way; null when it has no match. */
+    private String descriptionHighlight;
+}
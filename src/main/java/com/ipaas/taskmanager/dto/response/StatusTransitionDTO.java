@@ -0,0 +1,23 @@
+package com.ipaas.taskmanager.dto.response;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionDTO {
+
+    private UUID taskId;
+    private UUID subtaskId;
+    private TaskStatus fromStatus;
+    private TaskStatus toStatus;
+    private LocalDateTime changedAt;
+}
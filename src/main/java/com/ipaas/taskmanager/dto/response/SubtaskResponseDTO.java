@@ -22,5 +22,7 @@ public class SubtaskResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime completedAt;
+    private LocalDateTime dueAt;
     private UUID taskId;
+    private UUID parentSubtaskId;
 } 
\ No newline at end of file
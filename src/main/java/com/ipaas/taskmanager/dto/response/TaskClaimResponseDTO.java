@@ -0,0 +1,22 @@
+package com.ipaas.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskClaimResponseDTO {
+
+    /** Shared by every task in this claim; present it to renew, release or complete them. */
+    private UUID leaseToken;
+    private LocalDateTime leaseExpiresAt;
+    private List<TaskResponseDTO> tasks;
+}
@@ -0,0 +1,23 @@
+package com.ipaas.taskmanager.dto.response;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependencyResponseDTO {
+
+    private UUID taskId;
+    private UUID dependsOnTaskId;
+    private String dependsOnTitle;
+    private TaskStatus dependsOnStatus;
+    private LocalDateTime createdAt;
+}
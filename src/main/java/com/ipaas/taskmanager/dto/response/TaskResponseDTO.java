@@ -1,5 +1,6 @@
 package com.ipaas.taskmanager.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,8 +15,11 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(TaskResponseDTO.FIELD_FILTER)
 public class TaskResponseDTO {
 
+    public static final String FIELD_FILTER = "taskFields";
+
     private UUID id;
     private String title;
     private String description;
@@ -23,10 +27,12 @@ public class TaskResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime completedAt;
+    private LocalDateTime dueAt;
     private UUID userId;
     private String userName;
     private String userEmail;
     private List<SubtaskResponseDTO> subtasks;
     private Integer totalSubtasks;
     private Integer completedSubtasks;
+    private boolean archived;
 } 
\ No newline at end of file
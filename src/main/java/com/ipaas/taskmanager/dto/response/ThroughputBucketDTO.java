@@ -0,0 +1,21 @@
+package com.ipaas.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputBucketDTO {
+
+    private LocalDateTime start;
+    private long tasksCreated;
+    private long tasksCompleted;
+    private long subtasksCreated;
+    private long subtasksCompleted;
+}
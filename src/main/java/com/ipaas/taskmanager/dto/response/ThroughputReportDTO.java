@@ -0,0 +1,21 @@
+package com.ipaas.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputReportDTO {
+
+    private UUID userId;
+    /** ISO-8601, as requested, e.g. PT1H or P1D. */
+    private String interval;
+    private List<ThroughputBucketDTO> buckets;
+}
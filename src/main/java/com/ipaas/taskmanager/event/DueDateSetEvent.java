@@ -0,0 +1,11 @@
+package com.ipaas.taskmanager.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a task, or a subtask when {@code subtaskId} is set, is created with a due date,
+ * so the deadline scheduler can pick it up after commit.
+ */
+public record DueDateSetEvent(UUID taskId, UUID subtaskId, LocalDateTime dueAt) {
+}
@@ -0,0 +1,11 @@
+package com.ipaas.taskmanager.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by {@code SubtaskService} when a subtask moves to COMPLETED; {@code userId} is the
+ * owner of its task.
+ */
+public record SubtaskCompletedEvent(UUID subtaskId, UUID taskId, UUID userId, LocalDateTime completedAt) {
+}
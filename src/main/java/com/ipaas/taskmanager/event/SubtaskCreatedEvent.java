@@ -0,0 +1,10 @@
+package com.ipaas.taskmanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code SubtaskService} when a subtask is created; {@code userId} is the owner of
+ * its task.
+ */
+public record SubtaskCreatedEvent(UUID subtaskId, UUID taskId, UUID userId) {
+}
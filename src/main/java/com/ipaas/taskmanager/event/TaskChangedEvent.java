@@ -0,0 +1,10 @@
+package com.ipaas.taskmanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published when something shown in a task's response changes: its status, its subtasks or
+ * its move to the archive.
+ */
+public record TaskChangedEvent(UUID taskId) {
+}
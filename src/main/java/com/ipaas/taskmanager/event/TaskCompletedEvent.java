@@ -0,0 +1,12 @@
+package com.ipaas.taskmanager.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by {@code TaskService} when a task is completed. {@code startedAt} is when the task
+ * last entered IN_PROGRESS, or {@code null} when it went straight from PENDING to COMPLETED.
+ */
+public record TaskCompletedEvent(UUID taskId, UUID userId, LocalDateTime createdAt, LocalDateTime startedAt,
+        LocalDateTime completedAt) {
+}
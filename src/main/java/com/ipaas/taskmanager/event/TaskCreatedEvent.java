@@ -0,0 +1,10 @@
+package com.ipaas.taskmanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code TaskService} when a task is created; listeners that keep derived state
+ * should react after commit so rolled-back tasks never show up.
+ */
+public record TaskCreatedEvent(UUID taskId, UUID userId, String title) {
+}
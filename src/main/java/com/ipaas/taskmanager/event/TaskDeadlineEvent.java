@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by the deadline scheduler when an open task, or subtask when {@code subtaskId} is
+ * set, is about to become due ({@link Type#REMINDER}) or has just become overdue.
+ */
+public record TaskDeadlineEvent(Type type, UUID taskId, UUID subtaskId, LocalDateTime dueAt) {
+
+    public enum Type {
+        REMINDER,
+        OVERDUE
+    }
+}
@@ -0,0 +1,7 @@
+package com.ipaas.taskmanager.event;
+
+import java.util.UUID;
+
+/** Published when a user's name or email changes; task responses embed both. */
+public record UserUpdatedEvent(UUID userId) {
+}
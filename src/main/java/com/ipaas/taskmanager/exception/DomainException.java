@@ -0,0 +1,18 @@
+package com.ipaas.taskmanager.exception;
+
+/**
+ * Base class for expected business failures. These are control flow rather than bugs, so no
+ * stack trace is captured; not-found lookups make up a large share of error responses.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected DomainException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+    public abstract ErrorCode getErrorCode();
+}
@@ -0,0 +1,42 @@
+package com.ipaas.taskmanager.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+@Getter
+public enum ErrorCode {
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    USER_INACTIVE(HttpStatus.NOT_FOUND),
+    USER_ALREADY_EXISTS(HttpStatus.CONFLICT),
+    TASK_NOT_FOUND(HttpStatus.NOT_FOUND),
+    TASK_CANNOT_BE_COMPLETED(HttpStatus.BAD_REQUEST),
+    INVALID_TASK_STATUS_TRANSITION(HttpStatus.BAD_REQUEST),
+    INVALID_FIELD_SELECTION(HttpStatus.BAD_REQUEST),
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST),
+    INVALID_TASK_SORT(HttpStatus.BAD_REQUEST),
+    INVALID_CYCLE_TIME_WINDOW(HttpStatus.BAD_REQUEST),
+    INVALID_THROUGHPUT_WINDOW(HttpStatus.BAD_REQUEST),
+    TASK_BLOCKED_BY_DEPENDENCIES(HttpStatus.CONFLICT),
+    TASK_LEASE_CONFLICT(HttpStatus.CONFLICT),
+    INVALID_CLAIM_LIMIT(HttpStatus.BAD_REQUEST),
+    TASK_DEPENDENCY_CYCLE(HttpStatus.CONFLICT),
+    INVALID_TASK_DEPENDENCY(HttpStatus.BAD_REQUEST),
+    TASK_DEPENDENCY_NOT_FOUND(HttpStatus.NOT_FOUND),
+    SUBTASK_NOT_FOUND(HttpStatus.NOT_FOUND),
+    INVALID_SUBTASK_PARENT(HttpStatus.BAD_REQUEST),
+    SUBTASK_STATUS_WRITER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE),
+    SUBTASK_STATUS_UPDATE_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT),
+    VALIDATION_ERROR(HttpStatus.BAD_REQUEST),
+    ILLEGAL_STATE(HttpStatus.BAD_REQUEST);
+
+    private final HttpStatus status;
+    private final String error;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+        this.error = status.name();
+    }
+}
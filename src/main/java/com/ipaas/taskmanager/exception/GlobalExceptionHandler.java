@@ -1,6 +1,9 @@
 package com.ipaas.taskmanager.exception;
 
-import org.springframework.http.HttpStatus;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -9,70 +12,37 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
 import com.ipaas.taskmanager.dto.response.ErrorResponseDTO;
-import com.ipaas.taskmanager.exception.task.TaskCannotBeCompletedException;
-import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
-import com.ipaas.taskmanager.exception.task.InvalidTaskStatusTransitionException;
-import com.ipaas.taskmanager.exception.subtask.SubtaskNotFoundException;
-import com.ipaas.taskmanager.exception.user.UserAlreadyExistsException;
-import com.ipaas.taskmanager.exception.user.UserInactiveException;
-import com.ipaas.taskmanager.exception.user.UserNotFoundException;
 
-import java.util.stream.Collectors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponseDTO> handleUserAlreadyExistsException(
-            UserAlreadyExistsException ex, WebRequest request) {
-        
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.CONFLICT.value(),
-            "CONFLICT",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
-    }
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
 
-    @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<ErrorResponseDTO> handleUserNotFoundException(
-            UserNotFoundException ex, WebRequest request) {
-        
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.NOT_FOUND.value(),
-            "NOT_FOUND",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        // Counters are registered once so the error path never looks meters up by tag
+        for (ErrorCode code : ErrorCode.values()) {
+            errorCounters.put(code, Counter.builder("taskmanager.errors")
+                .tag("code", code.name())
+                .tag("status", String.valueOf(code.getStatus().value()))
+                .register(meterRegistry));
+        }
     }
 
-    @ExceptionHandler(UserInactiveException.class)
-    public ResponseEntity<ErrorResponseDTO> handleUserInactiveException(
-            UserInactiveException ex, WebRequest request) {
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDomainException(
+            DomainException ex, WebRequest request) {
         
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.NOT_FOUND.value(),
-            "NOT_FOUND",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return buildResponse(ex.getErrorCode(), ex.getMessage(), request);
     }
 
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponseDTO> handleIllegalStateException(
             IllegalStateException ex, WebRequest request) {
         
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.BAD_REQUEST.value(),
-            "BAD_REQUEST",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return buildResponse(ErrorCode.ILLEGAL_STATE, ex.getMessage(), request);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -83,65 +53,18 @@ public class GlobalExceptionHandler {
             .map(FieldError::getDefaultMessage)
             .collect(Collectors.joining(", "));
         
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.BAD_REQUEST.value(),
-            "BAD_REQUEST",
-            "Erro de validação: " + errorMessage,
-            request.getDescription(false)
-        );
-        
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-    }
-
-    @ExceptionHandler(TaskNotFoundException.class)
-    public ResponseEntity<ErrorResponseDTO> handleTaskNotFoundException(
-            TaskNotFoundException ex, WebRequest request) {
-        
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.NOT_FOUND.value(),
-            "NOT_FOUND",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-    }
-
-    @ExceptionHandler(TaskCannotBeCompletedException.class)
-    public ResponseEntity<ErrorResponseDTO> handleTaskCannotBeCompletedException(
-            TaskCannotBeCompletedException ex, WebRequest request) {
-        
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.BAD_REQUEST.value(),
-            "BAD_REQUEST",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return buildResponse(ErrorCode.VALIDATION_ERROR, "Erro de validação: " + errorMessage, request);
     }
 
-    @ExceptionHandler(InvalidTaskStatusTransitionException.class)
-    public ResponseEntity<ErrorResponseDTO> handleInvalidTaskStatusTransitionException(
-            InvalidTaskStatusTransitionException ex, WebRequest request) {
-        
-        ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.BAD_REQUEST.value(),
-            "BAD_REQUEST",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-    }
+    private ResponseEntity<ErrorResponseDTO> buildResponse(ErrorCode code, String message, WebRequest request) {
+        errorCounters.get(code).increment();
 
-    @ExceptionHandler(SubtaskNotFoundException.class)
-    public ResponseEntity<ErrorResponseDTO> handleSubtaskNotFoundException(
-            SubtaskNotFoundException ex, WebRequest request) {
-        
         ErrorResponseDTO error = ErrorResponseDTO.of(
-            HttpStatus.NOT_FOUND.value(),
-            "NOT_FOUND",
-            ex.getMessage(),
+            code.getStatus().value(),
+            code.getError(),
+            message,
             request.getDescription(false)
         );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return ResponseEntity.status(code.getStatus()).body(error);
     }
 }
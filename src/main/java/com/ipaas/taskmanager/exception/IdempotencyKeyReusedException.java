@@ -0,0 +1,13 @@
+package com.ipaas.taskmanager.exception;
+
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.IDEMPOTENCY_KEY_REUSED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ipaas.taskmanager.exception;
+
+public class IdempotentRequestInProgressException extends DomainException {
+
+    public IdempotentRequestInProgressException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS;
+    }
+}
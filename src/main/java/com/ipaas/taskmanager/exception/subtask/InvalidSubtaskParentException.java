@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.exception.subtask;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class InvalidSubtaskParentException extends DomainException {
+    
+    public InvalidSubtaskParentException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.INVALID_SUBTASK_PARENT;
+    }
+}
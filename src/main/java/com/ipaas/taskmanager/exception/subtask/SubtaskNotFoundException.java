@@ -1,6 +1,9 @@
 package com.ipaas.taskmanager.exception.subtask;
 
-public class SubtaskNotFoundException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class SubtaskNotFoundException extends DomainException {
     
     public SubtaskNotFoundException(String message) {
         super(message);
@@ -9,4 +12,9 @@ public class SubtaskNotFoundException extends RuntimeException {
     public SubtaskNotFoundException(String message, Throwable cause) {
         super(message, cause);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.SUBTASK_NOT_FOUND;
+    }
+}
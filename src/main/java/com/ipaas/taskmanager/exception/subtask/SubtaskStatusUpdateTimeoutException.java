@@ -0,0 +1,17 @@
+package com.ipaas.taskmanager.exception.subtask;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+/** The queued update was not committed in time; it may still be applied later. */
+public class SubtaskStatusUpdateTimeoutException extends DomainException {
+
+    public SubtaskStatusUpdateTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.SUBTASK_STATUS_UPDATE_TIMEOUT;
+    }
+}
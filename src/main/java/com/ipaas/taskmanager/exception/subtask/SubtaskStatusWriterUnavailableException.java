@@ -0,0 +1,21 @@
+package com.ipaas.taskmanager.exception.subtask;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+/** The status writer cannot take the update right now: its queue is full or it is shutting down. */
+public class SubtaskStatusWriterUnavailableException extends DomainException {
+
+    public SubtaskStatusWriterUnavailableException(String message) {
+        super(message);
+    }
+
+    public SubtaskStatusWriterUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.SUBTASK_STATUS_WRITER_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.exception.task;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class InvalidClaimLimitException extends DomainException {
+
+    public InvalidClaimLimitException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.INVALID_CLAIM_LIMIT;
+    }
+}
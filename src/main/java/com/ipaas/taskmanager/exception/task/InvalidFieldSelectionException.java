@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.exception.task;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class InvalidFieldSelectionException extends DomainException {
+    
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.INVALID_FIELD_SELECTION;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.exception.task;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class InvalidSearchQueryException extends DomainException {
+    
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.INVALID_SEARCH_QUERY;
+    }
+}
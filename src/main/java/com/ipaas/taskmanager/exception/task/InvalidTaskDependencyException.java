@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.exception.task;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class InvalidTaskDependencyException extends DomainException {
+    
+    public InvalidTaskDependencyException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.INVALID_TASK_DEPENDENCY;
+    }
+}
@@ -1,8 +1,16 @@
 package com.ipaas.taskmanager.exception.task;
 
-public class InvalidTaskStatusTransitionException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class InvalidTaskStatusTransitionException extends DomainException {
     
     public InvalidTaskStatusTransitionException(String message) {
         super(message);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.INVALID_TASK_STATUS_TRANSITION;
+    }
+}
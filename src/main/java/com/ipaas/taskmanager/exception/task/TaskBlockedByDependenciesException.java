@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.exception.task;
+
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class TaskBlockedByDependenciesException extends DomainException {
+    
+    public TaskBlockedByDependenciesException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.TASK_BLOCKED_BY_DEPENDENCIES;
+    }
+}
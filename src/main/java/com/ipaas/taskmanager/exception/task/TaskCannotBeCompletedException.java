@@ -1,8 +1,16 @@
 package com.ipaas.taskmanager.exception.task;
 
-public class TaskCannotBeCompletedException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class TaskCannotBeCompletedException extends DomainException {
     
     public TaskCannotBeCompletedException(String message) {
         super(message);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.TASK_CANNOT_BE_COMPLETED;
+    }
+}
@@ -1,8 +1,16 @@
 package com.ipaas.taskmanager.exception.task;
 
-public class TaskNotFoundException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class TaskNotFoundException extends DomainException {
     
     public TaskNotFoundException(String message) {
         super(message);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.TASK_NOT_FOUND;
+    }
+}
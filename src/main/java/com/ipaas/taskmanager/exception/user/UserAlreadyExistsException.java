@@ -1,7 +1,15 @@
 package com.ipaas.taskmanager.exception.user;
 
-public class UserAlreadyExistsException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class UserAlreadyExistsException extends DomainException {
     public UserAlreadyExistsException(String message) {
         super(message);
     }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.USER_ALREADY_EXISTS;
+    }
 }
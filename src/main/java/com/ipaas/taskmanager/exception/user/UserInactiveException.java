@@ -1,7 +1,15 @@
 package com.ipaas.taskmanager.exception.user;
 
-public class UserInactiveException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class UserInactiveException extends DomainException {
     public UserInactiveException(String message) {
         super(message);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.USER_INACTIVE;
+    }
+}
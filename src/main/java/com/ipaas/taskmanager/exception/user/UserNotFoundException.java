@@ -1,7 +1,15 @@
 package com.ipaas.taskmanager.exception.user;
 
-public class UserNotFoundException extends RuntimeException {
+import com.ipaas.taskmanager.exception.DomainException;
+import com.ipaas.taskmanager.exception.ErrorCode;
+
+public class UserNotFoundException extends DomainException {
     public UserNotFoundException(String message) {
         super(message);
     }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return ErrorCode.USER_NOT_FOUND;
+    }
 }
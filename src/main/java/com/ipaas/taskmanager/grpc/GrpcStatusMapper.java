@@ -0,0 +1,59 @@
+package com.ipaas.taskmanager.grpc;
+
+import com.ipaas.taskmanager.exception.subtask.SubtaskNotFoundException;
+import com.ipaas.taskmanager.exception.subtask.SubtaskStatusUpdateTimeoutException;
+import com.ipaas.taskmanager.exception.subtask.SubtaskStatusWriterUnavailableException;
+import com.ipaas.taskmanager.exception.task.InvalidTaskStatusTransitionException;
+import com.ipaas.taskmanager.exception.task.TaskCannotBeCompletedException;
+import com.ipaas.taskmanager.exception.task.TaskLeaseConflictException;
+import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.exception.user.UserInactiveException;
+import com.ipaas.taskmanager.exception.user.UserNotFoundException;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolationException;
+
+final class GrpcStatusMapper {
+
+    private GrpcStatusMapper() {
+    }
+
+    static StatusRuntimeException toStatusException(Throwable error) {
+        Status status = toStatus(error);
+        if (status.getCode() == Status.Code.INTERNAL) {
+            return status.withDescription("Internal error").withCause(error).asRuntimeException();
+        }
+        return status.withDescription(error.getMessage()).asRuntimeException();
+    }
+
+    static Status toStatus(Throwable error) {
+        if (error instanceof StatusRuntimeException statusException) {
+            return statusException.getStatus();
+        }
+        if (error instanceof TaskNotFoundException
+                || error instanceof SubtaskNotFoundException
+                || error instanceof UserNotFoundException
+                || error instanceof UserInactiveException) {
+            return Status.NOT_FOUND;
+        }
+        if (error instanceof InvalidTaskStatusTransitionException
+                || error instanceof TaskCannotBeCompletedException) {
+            return Status.FAILED_PRECONDITION;
+        }
+        if (error instanceof TaskLeaseConflictException) {
+            return Status.ABORTED;
+        }
+        if (error instanceof SubtaskStatusWriterUnavailableException) {
+            return Status.UNAVAILABLE;
+        }
+        if (error instanceof SubtaskStatusUpdateTimeoutException) {
+            return Status.DEADLINE_EXCEEDED;
+        }
+        if (error instanceof ConstraintViolationException
+                || error instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT;
+        }
+        return Status.INTERNAL;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ipaas.taskmanager.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * gRPC marshaller that encodes messages with Jackson Smile, so the gRPC contract reuses the
+ * same DTOs as the REST API instead of a parallel set of generated protobuf classes.
+ */
+public final class SmileMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.smile()
+        .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()))
+        .build();
+
+    private final JavaType type;
+
+    private SmileMarshaller(JavaType type) {
+        this.type = type;
+    }
+
+    public static <T> SmileMarshaller<T> of(Class<T> type) {
+        return new SmileMarshaller<>(MAPPER.constructType(type));
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        try {
+            return new ByteArrayInputStream(MAPPER.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        try (stream) {
+            return MAPPER.readValue(stream, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ipaas.taskmanager.grpc;
+
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.CreateSubtaskRequest;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.ListTasksRequest;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdate;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdateBatchResult;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.SubtaskIdRequest;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.TaskIdRequest;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+
+/**
+ * Method descriptors of the {@code taskmanager.TaskManager} gRPC service, shared by the
+ * server and by JVM clients.
+ */
+public final class TaskManagerGrpc {
+
+    public static final String SERVICE_NAME = "taskmanager.TaskManager";
+
+    public static final MethodDescriptor<CreateTaskDTO, TaskResponseDTO> CREATE_TASK =
+        method("CreateTask", MethodType.UNARY, CreateTaskDTO.class, TaskResponseDTO.class);
+
+    public static final MethodDescriptor<TaskIdRequest, TaskResponseDTO> GET_TASK =
+        method("GetTask", MethodType.UNARY, TaskIdRequest.class, TaskResponseDTO.class);
+
+    public static final MethodDescriptor<ListTasksRequest, TaskResponseDTO> LIST_TASKS =
+        method("ListTasks", MethodType.SERVER_STREAMING, ListTasksRequest.class, TaskResponseDTO.class);
+
+    public static final MethodDescriptor<StatusUpdate, TaskResponseDTO> UPDATE_TASK_STATUS =
+        method("UpdateTaskStatus", MethodType.UNARY, StatusUpdate.class, TaskResponseDTO.class);
+
+    public static final MethodDescriptor<StatusUpdate, StatusUpdateBatchResult> UPDATE_TASK_STATUS_BATCH =
+        method("UpdateTaskStatusBatch", MethodType.CLIENT_STREAMING, StatusUpdate.class, StatusUpdateBatchResult.class);
+
+    public static final MethodDescriptor<CreateSubtaskRequest, SubtaskResponseDTO> CREATE_SUBTASK =
+        method("CreateSubtask", MethodType.UNARY, CreateSubtaskRequest.class, SubtaskResponseDTO.class);
+
+    public static final MethodDescriptor<SubtaskIdRequest, SubtaskResponseDTO> GET_SUBTASK =
+        method("GetSubtask", MethodType.UNARY, SubtaskIdRequest.class, SubtaskResponseDTO.class);
+
+    public static final MethodDescriptor<TaskIdRequest, SubtaskResponseDTO> LIST_SUBTASKS =
+        method("ListSubtasks", MethodType.SERVER_STREAMING, TaskIdRequest.class, SubtaskResponseDTO.class);
+
+    public static final MethodDescriptor<StatusUpdate, SubtaskResponseDTO> UPDATE_SUBTASK_STATUS =
+        method("UpdateSubtaskStatus", MethodType.UNARY, StatusUpdate.class, SubtaskResponseDTO.class);
+
+    public static final MethodDescriptor<StatusUpdate, StatusUpdateBatchResult> UPDATE_SUBTASK_STATUS_BATCH =
+        method("UpdateSubtaskStatusBatch", MethodType.CLIENT_STREAMING, StatusUpdate.class, StatusUpdateBatchResult.class);
+
+    private TaskManagerGrpc() {
+    }
+
+    private static <Q, R> MethodDescriptor<Q, R> method(String name, MethodType type, Class<Q> request, Class<R> response) {
+        return MethodDescriptor.<Q, R>newBuilder()
+            .setType(type)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, name))
+            .setRequestMarshaller(SmileMarshaller.of(request))
+            .setResponseMarshaller(SmileMarshaller.of(response))
+            .build();
+    }
+}
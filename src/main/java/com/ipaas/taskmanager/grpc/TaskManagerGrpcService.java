@@ -0,0 +1,209 @@
+package com.ipaas.taskmanager.grpc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdate;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdateBatchResult;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdateFailure;
+import com.ipaas.taskmanager.service.SubtaskService;
+import com.ipaas.taskmanager.service.SubtaskStatusWriter;
+import com.ipaas.taskmanager.service.TaskService;
+
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TaskManagerGrpcService implements BindableService {
+
+    /**
+     * Server-streaming calls hold a database connection while they wait for the client, so one
+     * that reads nothing for this long is failed rather than kept open.
+     */
+    private static final Duration STREAM_READY_TIMEOUT = Duration.ofSeconds(30);
+
+    private final TaskService taskService;
+    private final SubtaskService subtaskService;
+    private final SubtaskStatusWriter subtaskStatusWriter;
+    private final Validator validator;
+
+    // One virtual thread per open stream, blocked while the client is not ready
+    private final ExecutorService streamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(TaskManagerGrpc.SERVICE_NAME)
+            .addMethod(TaskManagerGrpc.CREATE_TASK, ServerCalls.asyncUnaryCall(
+                (request, observer) -> unary(observer, () -> taskService.createTask(valid(request)))))
+            .addMethod(TaskManagerGrpc.GET_TASK, ServerCalls.asyncUnaryCall(
+                (request, observer) -> unary(observer, () -> taskService.getTaskById(request.taskId()))))
+            .addMethod(TaskManagerGrpc.LIST_TASKS, ServerCalls.asyncServerStreamingCall(
+                (request, observer) -> stream(observer, sink ->
+                    taskService.streamTasks(request.userId(), request.status(), sink::accept))))
+            .addMethod(TaskManagerGrpc.UPDATE_TASK_STATUS, ServerCalls.asyncUnaryCall(
+                (request, observer) -> unary(observer, () -> updateTaskStatus(request))))
+            .addMethod(TaskManagerGrpc.UPDATE_TASK_STATUS_BATCH, ServerCalls.asyncClientStreamingCall(
+                observer -> batch(observer, this::updateTaskStatus)))
+            .addMethod(TaskManagerGrpc.CREATE_SUBTASK, ServerCalls.asyncUnaryCall(
+                (request, observer) -> unary(observer,
+                    () -> subtaskService.createSubtask(request.taskId(), valid(request.subtask())))))
+            .addMethod(TaskManagerGrpc.GET_SUBTASK, ServerCalls.asyncUnaryCall(
+                (request, observer) -> unary(observer, () -> subtaskService.getSubtaskById(request.subtaskId()))))
+            .addMethod(TaskManagerGrpc.LIST_SUBTASKS, ServerCalls.asyncServerStreamingCall(
+                (request, observer) -> stream(observer, sink ->
+                    subtaskService.getSubtasksByTaskId(request.taskId()).forEach(sink::accept))))
+            .addMethod(TaskManagerGrpc.UPDATE_SUBTASK_STATUS, ServerCalls.asyncUnaryCall(
+                (request, observer) -> unary(observer, () -> updateSubtaskStatus(request))))
+            .addMethod(TaskManagerGrpc.UPDATE_SUBTASK_STATUS_BATCH, ServerCalls.asyncClientStreamingCall(
+                observer -> batch(observer, this::updateSubtaskStatus)))
+            .build();
+    }
+
+    private TaskResponseDTO updateTaskStatus(StatusUpdate update) {
+        return taskService.updateTaskStatus(update.id(), valid(UpdateTaskStatusDTO.builder()
+            .status(update.status())
+            .leaseToken(update.leaseToken())
+            .build()));
+    }
+
+    private SubtaskResponseDTO updateSubtaskStatus(StatusUpdate update) {
+        return subtaskStatusWriter.updateSubtaskStatus(update.id(), valid(new UpdateSubtaskStatusDTO(update.status())));
+    }
+
+    private <T> T valid(T request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request body is required");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private <R> void unary(StreamObserver<R> observer, Supplier<? extends R> call) {
+        R response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            observer.onError(GrpcStatusMapper.toStatusException(e));
+            return;
+        }
+        observer.onNext(response);
+        observer.onCompleted();
+    }
+
+    /**
+     * Runs {@code producer} on its own thread and hands each item to the transport only when it
+     * is ready for more, so a slow client holds the producer back instead of having the whole
+     * result buffered in memory. The call's own callbacks (including on-ready) are serialized, so
+     * the producer cannot wait on the thread that invoked this method.
+     */
+    private <R> void stream(StreamObserver<R> observer, Consumer<Consumer<R>> producer) {
+        ServerCallStreamObserver<R> serverObserver = (ServerCallStreamObserver<R>) observer;
+        Object readiness = new Object();
+        Runnable wakeProducer = () -> {
+            synchronized (readiness) {
+                readiness.notifyAll();
+            }
+        };
+        serverObserver.setOnReadyHandler(wakeProducer);
+        serverObserver.setOnCancelHandler(wakeProducer);
+
+        streamExecutor.execute(() -> {
+            try {
+                producer.accept(item -> {
+                    awaitReady(serverObserver, readiness);
+                    serverObserver.onNext(item);
+                });
+            } catch (RuntimeException e) {
+                if (!serverObserver.isCancelled()) {
+                    serverObserver.onError(GrpcStatusMapper.toStatusException(e));
+                }
+                return;
+            }
+            serverObserver.onCompleted();
+        });
+    }
+
+    private static void awaitReady(ServerCallStreamObserver<?> observer, Object readiness) {
+        long deadline = System.nanoTime() + STREAM_READY_TIMEOUT.toNanos();
+        synchronized (readiness) {
+            while (!observer.isCancelled() && !observer.isReady()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw Status.DEADLINE_EXCEEDED.withDescription("Client stopped reading the stream").asRuntimeException();
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(readiness, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw Status.UNAVAILABLE.withDescription("Server is shutting down").asRuntimeException();
+                }
+            }
+        }
+        if (observer.isCancelled()) {
+            throw Status.CANCELLED.withDescription("Client cancelled the stream").asRuntimeException();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+
+    private StreamObserver<StatusUpdate> batch(StreamObserver<StatusUpdateBatchResult> observer,
+            Function<StatusUpdate, ?> update) {
+        return new StreamObserver<>() {
+
+            private int updated;
+            private final List<StatusUpdateFailure> failures = new ArrayList<>();
+
+            @Override
+            public void onNext(StatusUpdate request) {
+                try {
+                    update.apply(request);
+                    updated++;
+                } catch (RuntimeException e) {
+                    failures.add(new StatusUpdateFailure(
+                        request.id(), GrpcStatusMapper.toStatus(e).getCode().name(), e.getMessage()));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // The client aborted; updates already applied stay committed
+            }
+
+            @Override
+            public void onCompleted() {
+                observer.onNext(new StatusUpdateBatchResult(updated, failures));
+                observer.onCompleted();
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.ipaas.taskmanager.grpc;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+
+public final class TaskManagerMessages {
+
+    private TaskManagerMessages() {
+    }
+
+    public record TaskIdRequest(UUID taskId) {
+    }
+
+    public record SubtaskIdRequest(UUID subtaskId) {
+    }
+
+    public record ListTasksRequest(UUID userId, TaskStatus status) {
+    }
+
+    public record CreateSubtaskRequest(UUID taskId, CreateSubtaskDTO subtask) {
+    }
+
+    /**
+     * A status change for a task or subtask. {@code leaseToken} is the token of the claim holding
+     * the task, required while it is leased; subtasks are not leased and ignore it.
+     */
+    public record StatusUpdate(UUID id, TaskStatus status, UUID leaseToken) {
+
+        public StatusUpdate(UUID id, TaskStatus status) {
+            this(id, status, null);
+        }
+    }
+
+    public record StatusUpdateFailure(UUID id, String code, String message) {
+    }
+
+    public record StatusUpdateBatchResult(int updated, List<StatusUpdateFailure> failures) {
+    }
+}
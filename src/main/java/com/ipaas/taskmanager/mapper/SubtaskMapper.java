@@ -15,6 +15,7 @@ public class SubtaskMapper {
         return Subtask.builder()
                 .title(createSubtaskDTO.getTitle())
                 .description(createSubtaskDTO.getDescription())
+                .dueAt(createSubtaskDTO.getDueAt())
                 .build();
     }
 
@@ -27,7 +28,9 @@ public class SubtaskMapper {
                 .createdAt(subtask.getCreatedAt())
                 .updatedAt(subtask.getUpdatedAt())
                 .completedAt(subtask.getCompletedAt())
+                .dueAt(subtask.getDueAt())
                 .taskId(subtask.getTask().getId())
+                .parentSubtaskId(subtask.getParent() != null ? subtask.getParent().getId() : null)
                 .build();
     }
 
@@ -1,10 +1,15 @@
 package com.ipaas.taskmanager.mapper;
 
+import com.ipaas.taskmanager.domain.entity.ArchivedSubtask;
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
 import com.ipaas.taskmanager.domain.entity.Subtask;
 import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
 import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
 import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
 import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,6 +22,7 @@ public class TaskMapper {
         return Task.builder()
                 .title(createTaskDTO.getTitle())
                 .description(createTaskDTO.getDescription())
+                .dueAt(createTaskDTO.getDueAt())
                 .build();
     }
 
@@ -44,6 +50,7 @@ public class TaskMapper {
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .completedAt(task.getCompletedAt())
+                .dueAt(task.getDueAt())
                 .userId(task.getUser().getId())
                 .userName(task.getUser().getName())
                 .userEmail(task.getUser().getEmail())
@@ -53,6 +60,115 @@ public class TaskMapper {
                 .build();
     }
 
+    /** Like {@link #toDTO(Task)}, with subtasks that were loaded in bulk instead of from the lazy collection. */
+    public TaskResponseDTO toDTO(Task task, List<SubtaskResponseDTO> subtasks) {
+        return TaskResponseDTO.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .completedAt(task.getCompletedAt())
+                .dueAt(task.getDueAt())
+                .userId(task.getUser().getId())
+                .userName(task.getUser().getName())
+                .userEmail(task.getUser().getEmail())
+                .subtasks(subtasks)
+                .totalSubtasks(subtasks.size())
+                .completedSubtasks((int) subtasks.stream()
+                        .filter(subtask -> subtask.getStatus() == TaskStatus.COMPLETED)
+                        .count())
+                .build();
+    }
+
+    public TaskResponseDTO toDTO(TaskSummary task, List<SubtaskResponseDTO> subtasks) {
+        Integer totalSubtasks = null;
+        Integer completedSubtasks = null;
+
+        if (subtasks != null) {
+            totalSubtasks = subtasks.size();
+            completedSubtasks = (int) subtasks.stream()
+                    .filter(subtask -> subtask.getStatus() == TaskStatus.COMPLETED)
+                    .count();
+        }
+
+        return TaskResponseDTO.builder()
+                .id(task.id())
+                .title(task.title())
+                .description(task.description())
+                .status(task.status())
+                .createdAt(task.createdAt())
+                .updatedAt(task.updatedAt())
+                .completedAt(task.completedAt())
+                .dueAt(task.dueAt())
+                .userId(task.userId())
+                .userName(task.userName())
+                .userEmail(task.userEmail())
+                .subtasks(subtasks)
+                .totalSubtasks(totalSubtasks)
+                .completedSubtasks(completedSubtasks)
+                .build();
+    }
+
+    public TaskResponseDTO toArchivedDTO(ArchivedTask task) {
+        return toArchivedDTO(task, TaskFieldSelection.ALL);
+    }
+
+    /**
+     * Like {@link #toArchivedDTO(ArchivedTask)}, leaving out what {@code selection} does not ask
+     * for the way live task summaries do; the subtasks are not loaded unless they are included.
+     */
+    public TaskResponseDTO toArchivedDTO(ArchivedTask task, TaskFieldSelection selection) {
+        List<SubtaskResponseDTO> subtaskDTOs = null;
+        Integer totalSubtasks = null;
+        Integer completedSubtasks = null;
+
+        if (selection.includesSubtasks()) {
+            subtaskDTOs = task.getSubtasks() == null ? List.of() : task.getSubtasks().stream()
+                    .map(this::toSubtaskDTO)
+                    .collect(Collectors.toList());
+
+            totalSubtasks = subtaskDTOs.size();
+            completedSubtasks = (int) subtaskDTOs.stream()
+                    .filter(subtask -> subtask.getStatus() == TaskStatus.COMPLETED)
+                    .count();
+        }
+
+        return TaskResponseDTO.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(selection.includesDescription() ? task.getDescription() : null)
+                .status(task.getStatus())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .completedAt(task.getCompletedAt())
+                .dueAt(task.getDueAt())
+                .userId(task.getUser().getId())
+                .userName(task.getUser().getName())
+                .userEmail(task.getUser().getEmail())
+                .subtasks(subtaskDTOs)
+                .totalSubtasks(totalSubtasks)
+                .completedSubtasks(completedSubtasks)
+                .archived(true)
+                .build();
+    }
+
+    private SubtaskResponseDTO toSubtaskDTO(ArchivedSubtask subtask) {
+        return SubtaskResponseDTO.builder()
+                .id(subtask.getId())
+                .title(subtask.getTitle())
+                .description(subtask.getDescription())
+                .status(subtask.getStatus())
+                .createdAt(subtask.getCreatedAt())
+                .updatedAt(subtask.getUpdatedAt())
+                .completedAt(subtask.getCompletedAt())
+                .dueAt(subtask.getDueAt())
+                .taskId(subtask.getTask().getId())
+                .parentSubtaskId(subtask.getParentId())
+                .build();
+    }
+
     private SubtaskResponseDTO toSubtaskDTO(Subtask subtask) {
         return SubtaskResponseDTO.builder()
                 .id(subtask.getId())
@@ -62,6 +178,7 @@ public class TaskMapper {
                 .createdAt(subtask.getCreatedAt())
                 .updatedAt(subtask.getUpdatedAt())
                 .completedAt(subtask.getCompletedAt())
+                .dueAt(subtask.getDueAt())
                 .taskId(subtask.getTask().getId())
                 .build();
     }
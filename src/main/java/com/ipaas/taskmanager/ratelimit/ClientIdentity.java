@@ -0,0 +1,48 @@
+package com.ipaas.taskmanager.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Who is calling, as far as the server can tell without authentication: one of the configured
+ * API keys, otherwise the client address. Rate limit buckets and idempotency keys are scoped
+ * by it, so a client cannot pick another client's identity by sending a made-up header.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientIdentity {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    private final RateLimitProperties properties;
+
+    public String of(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && properties.getApiKeys().contains(apiKey)) {
+            return "key:" + fingerprint(apiKey);
+        }
+        // Behind a proxy this is the client's address: server.forward-headers-strategy=native
+        // takes it from X-Forwarded-For when the connection comes from a trusted internal proxy
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Identities are listed by the ratelimits actuator endpoint, so API keys only appear as a
+     * truncated SHA-256: distinct enough to keep clients apart, useless as a credential.
+     */
+    static String fingerprint(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ipaas.taskmanager.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket expressed as a generic cell rate algorithm: the whole state is the theoretical
+ * arrival time of the next permit, kept in one {@link AtomicLong} and advanced with CAS, so
+ * concurrent requests for the same key never block each other.
+ */
+class RateLimitBucket {
+
+    private final AtomicLong theoreticalArrival;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+
+    RateLimitBucket(long now) {
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * @return {@code 0} when the permits were granted, otherwise the nanoseconds to wait
+     */
+    long tryConsume(int permits, long now, long intervalNanos, long toleranceNanos) {
+        long increment = intervalNanos * permits;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = Math.max(current, now);
+            long next = start + increment;
+            long wait = next - now - toleranceNanos - intervalNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                allowed.increment();
+                consumed.add(permits);
+                return 0;
+            }
+        }
+    }
+
+    boolean isIdleSince(long now) {
+        return theoreticalArrival.get() < now;
+    }
+
+    long getAllowed() {
+        return allowed.sum();
+    }
+
+    long getRejected() {
+        return rejected.sum();
+    }
+
+    long getConsumed() {
+        return consumed.sum();
+    }
+}
@@ -0,0 +1,36 @@
+package com.ipaas.taskmanager.ratelimit;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private double permitsPerSecond = 50;
+
+    private int burst = 100;
+
+    /**
+     * Listing requests cost one permit per this many requested rows, so large {@code size}
+     * values drain the bucket faster than small ones.
+     */
+    private int rowsPerPermit = 50;
+
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    /**
+     * API keys that get a bucket of their own. Any other {@code X-API-Key} value is ignored and
+     * the request is limited by client address, so made-up keys cannot mint fresh buckets.
+     */
+    private Set<String> apiKeys = Set.of();
+
+    /** Most buckets kept at once; beyond it the least recently used ones are dropped. */
+    private long maxKeys = 100_000;
+}
@@ -0,0 +1,70 @@
+package com.ipaas.taskmanager.ratelimit;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final Cache<String, RateLimitBucket> buckets;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        // Bounded, so a flood of distinct client addresses cannot grow the map without limit
+        this.buckets = Caffeine.newBuilder().maximumSize(properties.getMaxKeys()).build();
+        this.intervalNanos = (long) (1_000_000_000L / properties.getPermitsPerSecond());
+        this.toleranceNanos = intervalNanos * (properties.getBurst() - 1);
+        this.allowedCounter = Counter.builder("taskmanager.rate_limit.requests")
+            .tag("outcome", "allowed")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("taskmanager.rate_limit.requests")
+            .tag("outcome", "rejected")
+            .register(meterRegistry);
+        meterRegistry.gauge("taskmanager.rate_limit.keys", buckets, Cache::estimatedSize);
+    }
+
+    /**
+     * @return {@code 0} when the request may proceed, otherwise the nanoseconds until it would
+     */
+    public long tryAcquire(String key, int permits) {
+        long now = System.nanoTime();
+        int cost = Math.max(1, Math.min(permits, properties.getBurst()));
+        RateLimitBucket bucket = buckets.get(key, k -> new RateLimitBucket(now));
+
+        long wait = bucket.tryConsume(cost, now, intervalNanos, toleranceNanos);
+        (wait == 0 ? allowedCounter : rejectedCounter).increment();
+        return wait;
+    }
+
+    public Map<String, RateLimitUsage> usage() {
+        buckets.cleanUp();
+        Map<String, RateLimitUsage> usage = new TreeMap<>();
+        buckets.asMap().forEach((key, bucket) -> usage.put(key,
+            new RateLimitUsage(bucket.getAllowed(), bucket.getRejected(), bucket.getConsumed())));
+        return usage;
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.rate-limit.idle-eviction:PT10M}")
+    public void evictIdleBuckets() {
+        // A bucket whose arrival time is behind "now - idle" is full again and can be rebuilt on demand
+        long idleBefore = System.nanoTime() - properties.getIdleEviction().toNanos();
+        buckets.asMap().entrySet().removeIf(entry -> entry.getValue().isIdleSince(idleBefore));
+    }
+
+    public record RateLimitUsage(long allowed, long rejected, long permitsConsumed) {
+    }
+}
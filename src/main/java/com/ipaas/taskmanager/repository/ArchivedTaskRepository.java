@@ -0,0 +1,66 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID> {
+
+    @Query("SELECT t FROM ArchivedTask t WHERE " +
+           "(:userId IS NULL OR t.user.id = :userId) AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:titlePattern IS NULL OR LOWER(t.title) LIKE :titlePattern ESCAPE '!') AND " +
+           "(CAST(:createdFrom AS LocalDateTime) IS NULL OR t.createdAt >= :createdFrom) AND " +
+           "(CAST(:createdTo AS LocalDateTime) IS NULL OR t.createdAt < :createdTo) AND " +
+           "(CAST(:completedFrom AS LocalDateTime) IS NULL OR t.completedAt >= :completedFrom) AND " +
+           "(CAST(:completedTo AS LocalDateTime) IS NULL OR t.completedAt < :completedTo)")
+    List<ArchivedTask> findArchivedTasksWithFilters(
+            @Param("userId") UUID userId,
+            @Param("status") TaskStatus status,
+            @Param("titlePattern") String titlePattern,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("completedFrom") LocalDateTime completedFrom,
+            @Param("completedTo") LocalDateTime completedTo,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM ArchivedTask t WHERE " +
+           "(:userId IS NULL OR t.user.id = :userId) AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:titlePattern IS NULL OR LOWER(t.title) LIKE :titlePattern ESCAPE '!') AND " +
+           "(CAST(:createdFrom AS LocalDateTime) IS NULL OR t.createdAt >= :createdFrom) AND " +
+           "(CAST(:createdTo AS LocalDateTime) IS NULL OR t.createdAt < :createdTo) AND " +
+           "(CAST(:completedFrom AS LocalDateTime) IS NULL OR t.completedAt >= :completedFrom) AND " +
+           "(CAST(:completedTo AS LocalDateTime) IS NULL OR t.completedAt < :completedTo)")
+    long countArchivedTasksWithFilters(
+            @Param("userId") UUID userId,
+            @Param("status") TaskStatus status,
+            @Param("titlePattern") String titlePattern,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("completedFrom") LocalDateTime completedFrom,
+            @Param("completedTo") LocalDateTime completedTo);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedTask (id, title, description, status, createdAt, updatedAt, completedAt, dueAt, archivedAt, user) " +
+           "SELECT t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.completedAt, t.dueAt, :archivedAt, t.user " +
+           "FROM Task t WHERE t.id IN :taskIds")
+    int copyFromTasks(@Param("taskIds") Collection<UUID> taskIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedSubtask (id, title, description, status, createdAt, updatedAt, completedAt, dueAt, task, parentId, path) " +
+           "SELECT s.id, s.title, s.description, s.status, s.createdAt, s.updatedAt, s.completedAt, s.dueAt, a, s.parent.id, s.path " +
+           "FROM Subtask s, ArchivedTask a WHERE a.id = s.task.id AND s.task.id IN :taskIds")
+    int copySubtasksFromTasks(@Param("taskIds") Collection<UUID> taskIds);
+}
@@ -0,0 +1,29 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.CycleTimeSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CycleTimeSketchRepository extends JpaRepository<CycleTimeSketch, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CycleTimeSketch s WHERE s.id = :id")
+    Optional<CycleTimeSketch> findByIdForUpdate(@Param("id") String id);
+
+    @Query("SELECT s FROM CycleTimeSketch s WHERE s.userId = :userId AND s.day BETWEEN :from AND :to")
+    List<CycleTimeSketch> findByUserIdAndDayBetween(@Param("userId") UUID userId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("SELECT s FROM CycleTimeSketch s WHERE s.userId IS NULL AND s.day BETWEEN :from AND :to")
+    List<CycleTimeSketch> findTotalsByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
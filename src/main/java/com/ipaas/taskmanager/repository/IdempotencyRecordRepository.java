@@ -0,0 +1,45 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    Optional<IdempotencyRecord> findByIdAndExpiresAtAfter(String id, LocalDateTime now);
+
+    /**
+     * Inserts an in-progress record ({@link IdempotencyRecord#IN_PROGRESS}) unless the key
+     * already has one. Returns 1 when this caller reserved the key, 0 when it was taken.
+     */
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO IdempotencyRecord (id, requestHash, statusCode, createdAt, expiresAt) " +
+           "VALUES (:id, :requestHash, 0, :now, :expiresAt) ON CONFLICT DO NOTHING")
+    int reserve(@Param("id") String id, @Param("requestHash") String requestHash,
+                @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /** Frees a reservation whose request failed, so a retry with the same key can run. */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.statusCode = 0")
+    int deleteReservation(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt <= :now")
+    int deleteExpiredById(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,64 @@
+package com.ipaas.taskmanager.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Postgres-only indexes that JPA cannot declare. Partial indexes cover the due dates of open
+ * rows only: most rows are completed and have no due date to watch, so the overdue listing and
+ * the startup load of the deadline scheduler stay on a small index. The status history gets a
+ * BRIN index on its time column, a few pages per gigabyte of an insert-only, time-ordered table.
+ * Other databases fall back to the indexes declared on the entities, or to scans.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+public class PostgresIndexInitializer {
+
+    private static final String OPEN_DUE = "status <> 'COMPLETED' AND due_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean postgres;
+
+    public PostgresIndexInitializer(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+            @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.postgres = DatabaseDriver.fromJdbcUrl(datasourceUrl) == DatabaseDriver.POSTGRESQL;
+    }
+
+    /** CONCURRENTLY keeps the tables writable while the index is built; the statements are idempotent. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        if (!postgres) {
+            return;
+        }
+
+        for (int shard : shardRouter.shards()) {
+            shardRouter.callOnShard(shard, () -> {
+                createIndex("idx_tasks_open_due", "tasks", "(user_id, due_at) WHERE " + OPEN_DUE);
+                createIndex("idx_subtasks_open_due", "subtasks", "(due_at) WHERE " + OPEN_DUE);
+                createIndex("idx_status_history_changed_at", "status_history", "USING BRIN (changed_at)");
+                return null;
+            });
+        }
+    }
+
+    private void createIndex(String name, String table, String definition) {
+        try {
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + table + " " + definition);
+        } catch (RuntimeException e) {
+            log.warn("Could not create index {}; queries on {} will fall back to other plans", name, table, e);
+        }
+    }
+}
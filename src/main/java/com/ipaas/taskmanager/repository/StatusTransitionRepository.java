@@ -0,0 +1,27 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.StatusTransition;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StatusTransitionRepository extends JpaRepository<StatusTransition, Long> {
+
+    @Query("SELECT h FROM StatusTransition h WHERE h.taskId = :taskId ORDER BY h.changedAt, h.id")
+    List<StatusTransition> findByTaskId(@Param("taskId") UUID taskId);
+
+    @Query("SELECT h FROM StatusTransition h WHERE h.taskId = :taskId AND h.subtaskId IS NULL " +
+           "ORDER BY h.changedAt, h.id")
+    List<StatusTransition> findTaskTransitions(@Param("taskId") UUID taskId);
+
+    @Query("SELECT MAX(h.changedAt) FROM StatusTransition h WHERE h.taskId = :taskId AND h.subtaskId IS NULL " +
+           "AND h.toStatus = :status")
+    LocalDateTime findLastTaskTransitionTo(@Param("taskId") UUID taskId, @Param("status") TaskStatus status);
+}
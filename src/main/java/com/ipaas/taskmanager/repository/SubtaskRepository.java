@@ -2,17 +2,84 @@ package com.ipaas.taskmanager.repository;
 
 import com.ipaas.taskmanager.domain.entity.Subtask;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.repository.projection.TaskDeadline;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface SubtaskRepository extends JpaRepository<Subtask, UUID> {
 
     List<Subtask> findByTaskId(UUID taskId);
 
+    @Query("SELECT s.task.id FROM Subtask s WHERE s.id = :subtaskId")
+    Optional<UUID> findTaskIdById(@Param("subtaskId") UUID subtaskId);
+
+    @Query("SELECT new com.ipaas.taskmanager.dto.response.SubtaskResponseDTO(" +
+           "s.id, s.title, s.description, s.status, s.createdAt, s.updatedAt, s.completedAt, s.dueAt, s.task.id, p.id) " +
+           "FROM Subtask s LEFT JOIN s.parent p WHERE s.task.id = :taskId")
+    List<SubtaskResponseDTO> findResponsesByTaskId(@Param("taskId") UUID taskId);
+
+    @Query("SELECT new com.ipaas.taskmanager.dto.response.SubtaskResponseDTO(" +
+           "s.id, s.title, s.description, s.status, s.createdAt, s.updatedAt, s.completedAt, s.dueAt, s.task.id, p.id) " +
+           "FROM Subtask s LEFT JOIN s.parent p WHERE s.task.id IN :taskIds")
+    List<SubtaskResponseDTO> findResponsesByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query("SELECT new com.ipaas.taskmanager.dto.response.SubtaskResponseDTO(" +
+           "s.id, s.title, s.description, s.status, s.createdAt, s.updatedAt, s.completedAt, s.dueAt, s.task.id, p.id) " +
+           "FROM Subtask s LEFT JOIN s.parent p WHERE s.id IN :ids")
+    List<SubtaskResponseDTO> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * The subtask itself followed by all of its descendants, ordered so each parent precedes its children.
+     */
+    @Query("SELECT new com.ipaas.taskmanager.dto.response.SubtaskResponseDTO(" +
+           "s.id, s.title, s.description, s.status, s.createdAt, s.updatedAt, s.completedAt, s.dueAt, s.task.id, p.id) " +
+           "FROM Subtask s LEFT JOIN s.parent p " +
+           "WHERE s.id = :subtaskId OR s.path LIKE CONCAT(:descendantPrefix, '%') " +
+           "ORDER BY s.path, s.createdAt")
+    List<SubtaskResponseDTO> findSubtreeResponses(
+            @Param("subtaskId") UUID subtaskId,
+            @Param("descendantPrefix") String descendantPrefix);
+
+    @Query("SELECT COUNT(s) FROM Subtask s WHERE s.task.id = :taskId " +
+           "AND s.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED")
+    long countIncompleteByTaskId(@Param("taskId") UUID taskId);
+
+    /**
+     * Re-roots every descendant path under {@code oldPrefix} to {@code newPrefix} in one statement.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Subtask s SET s.path = CONCAT(:newPrefix, SUBSTRING(s.path, :oldPrefixLength + 1)) " +
+           "WHERE s.path LIKE CONCAT(:oldPrefix, '%')")
+    int movePaths(
+            @Param("oldPrefix") String oldPrefix,
+            @Param("oldPrefixLength") int oldPrefixLength,
+            @Param("newPrefix") String newPrefix);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskDeadline(s.task.id, s.id, s.dueAt) " +
+           "FROM Subtask s WHERE s.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED " +
+           "AND s.dueAt IS NOT NULL")
+    Stream<TaskDeadline> streamOpenDeadlines();
+
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskDeadline(s.task.id, s.id, s.dueAt) " +
+           "FROM Subtask s WHERE s.id IN :subtaskIds " +
+           "AND s.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED AND s.dueAt IS NOT NULL")
+    List<TaskDeadline> findOpenDeadlinesByIdIn(@Param("subtaskIds") Collection<UUID> subtaskIds);
+
     List<Subtask> findByTaskIdAndStatus(UUID taskId, TaskStatus status);
 
     long countByTaskIdAndStatus(UUID taskId, TaskStatus status);
@@ -23,4 +90,13 @@ public interface SubtaskRepository extends JpaRepository<Subtask, UUID> {
     }
 
     long countByTaskId(UUID taskId);
+
+    /** Unlinks nested subtasks from their parents, so the tasks' subtasks can be deleted in any order. */
+    @Modifying
+    @Query("UPDATE Subtask s SET s.parent = null WHERE s.task.id IN :taskIds AND s.parent IS NOT NULL")
+    int clearParentsByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Subtask s WHERE s.task.id IN :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
 } 
\ No newline at end of file
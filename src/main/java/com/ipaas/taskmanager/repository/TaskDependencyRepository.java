@@ -0,0 +1,32 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.TaskDependency;
+import com.ipaas.taskmanager.dto.response.TaskDependencyResponseDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, UUID> {
+
+    Optional<TaskDependency> findByTaskIdAndDependsOnId(UUID taskId, UUID dependsOnId);
+
+    @Query("SELECT DISTINCT d.dependsOn.id FROM TaskDependency d WHERE d.task.id IN :taskIds")
+    List<UUID> findDependsOnIdsByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query("SELECT new com.ipaas.taskmanager.dto.response.TaskDependencyResponseDTO(" +
+           "d.task.id, p.id, p.title, p.status, d.createdAt) " +
+           "FROM TaskDependency d JOIN d.dependsOn p WHERE d.task.id = :taskId ORDER BY d.createdAt")
+    List<TaskDependencyResponseDTO> findResponsesByTaskId(@Param("taskId") UUID taskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.task.id IN :taskIds OR d.dependsOn.id IN :taskIds")
+    int deleteAllTouchingTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+}
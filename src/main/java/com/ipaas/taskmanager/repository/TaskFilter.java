@@ -0,0 +1,45 @@
+package com.ipaas.taskmanager.repository;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+/**
+ * Listing criteria; every {@code null} component is left out of the generated WHERE clause.
+ * Lower bounds are inclusive and upper bounds exclusive, and {@code title} matches any part of
+ * the title, ignoring case.
+ */
+public record TaskFilter(
+        UUID userId,
+        TaskStatus status,
+        String title,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime completedFrom,
+        LocalDateTime completedTo) {
+
+    /** Escape character of {@link #titlePattern()}. */
+    public static final char LIKE_ESCAPE = '!';
+
+    public static TaskFilter of(UUID userId, TaskStatus status) {
+        return of(userId, status, null);
+    }
+
+    public static TaskFilter of(UUID userId, TaskStatus status, String title) {
+        return new TaskFilter(userId, status, title, null, null, null, null);
+    }
+
+    /** Lower-case {@code LIKE} pattern for {@code title}, escaped with {@link #LIKE_ESCAPE}, or {@code null} when no title was given. */
+    public String titlePattern() {
+        if (title == null || title.isEmpty()) {
+            return null;
+        }
+        String escaped = title.toLowerCase(Locale.ROOT)
+            .replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
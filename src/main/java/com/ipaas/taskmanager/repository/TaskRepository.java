@@ -2,24 +2,137 @@ package com.ipaas.taskmanager.repository;
 
 import com.ipaas.taskmanager.domain.entity.Task;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.repository.projection.TaskDeadline;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+import com.ipaas.taskmanager.repository.projection.TaskTitle;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
 
-    @Query("SELECT t FROM Task t WHERE " +
-           "(:userId IS NULL OR t.user.id = :userId) AND " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskSummary(" +
+           "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.completedAt, t.dueAt, " +
+           "u.id, u.name, u.email) " +
+           "FROM Task t JOIN t.user u WHERE " +
+           "(:userId IS NULL OR u.id = :userId) AND " +
            "(:status IS NULL OR t.status = :status)")
-    Page<Task> findTasksWithFilters(
+    Stream<TaskSummary> streamTasksWithFilters(
             @Param("userId") UUID userId,
+            @Param("status") TaskStatus status);
+
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskSummary(" +
+           "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.completedAt, t.dueAt, " +
+           "u.id, u.name, u.email) " +
+           "FROM Task t JOIN t.user u WHERE t.id = :taskId")
+    Optional<TaskSummary> findSummaryById(@Param("taskId") UUID taskId);
+
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskTitle(t.id, t.title) " +
+           "FROM Task t WHERE t.user.id = :userId")
+    List<TaskTitle> findTitlesByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status AND t.completedAt < :completedBefore " +
+           "ORDER BY t.completedAt")
+    List<UUID> findIdsByStatusAndCompletedAtBefore(
             @Param("status") TaskStatus status,
-            @Param("title") String title,
+            @Param("completedBefore") LocalDateTime completedBefore,
             Pageable pageable);
-} 
\ No newline at end of file
+
+    @Query(value = "SELECT new com.ipaas.taskmanager.repository.projection.TaskSummary(" +
+                   "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.completedAt, t.dueAt, " +
+                   "u.id, u.name, u.email) " +
+                   "FROM Task t JOIN t.user u WHERE u.id = :userId AND " +
+                   "t.status = com.ipaas.taskmanager.domain.enums.TaskStatus.PENDING AND t.pendingDependencies = 0 " +
+                   "ORDER BY t.createdAt",
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND " +
+                   "t.status = com.ipaas.taskmanager.domain.enums.TaskStatus.PENDING AND t.pendingDependencies = 0")
+    Page<TaskSummary> findReadyTasks(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Open tasks of a user whose due date is before {@code now}, most overdue first. The predicate
+     * matches the partial index {@code idx_tasks_open_due} created on Postgres.
+     */
+    @Query(value = "SELECT new com.ipaas.taskmanager.repository.projection.TaskSummary(" +
+                   "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.completedAt, t.dueAt, " +
+                   "u.id, u.name, u.email) " +
+                   "FROM Task t JOIN t.user u WHERE u.id = :userId AND " +
+                   "t.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED AND " +
+                   "t.dueAt IS NOT NULL AND t.dueAt < :now " +
+                   "ORDER BY t.dueAt",
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND " +
+                   "t.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED AND " +
+                   "t.dueAt IS NOT NULL AND t.dueAt < :now")
+    Page<TaskSummary> findOverdueTasks(@Param("userId") UUID userId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskDeadline(t.id, t.dueAt) FROM Task t " +
+           "WHERE t.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED AND t.dueAt IS NOT NULL")
+    Stream<TaskDeadline> streamOpenDeadlines();
+
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.TaskDeadline(t.id, t.dueAt) FROM Task t " +
+           "WHERE t.id IN :taskIds AND t.status <> com.ipaas.taskmanager.domain.enums.TaskStatus.COMPLETED " +
+           "AND t.dueAt IS NOT NULL")
+    List<TaskDeadline> findOpenDeadlinesByIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    /** {@code jakarta.persistence.lock.timeout} value Hibernate renders as {@code SKIP LOCKED}. */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Ready tasks of a user, oldest first, locked for update. Rows locked by a concurrent claim are
+     * skipped instead of waited on, so claimers never queue behind each other. The lazy
+     * description is fetched in the same select, since every claimed task is returned whole.
+     */
+    @EntityGraph(attributePaths = "description")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND " +
+           "t.status = com.ipaas.taskmanager.domain.enums.TaskStatus.PENDING AND t.pendingDependencies = 0 " +
+           "ORDER BY t.createdAt")
+    List<Task> findClaimableTasks(@Param("userId") UUID userId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT t FROM Task t WHERE t.status = com.ipaas.taskmanager.domain.enums.TaskStatus.IN_PROGRESS " +
+           "AND t.leaseExpiresAt < :now ORDER BY t.leaseExpiresAt")
+    List<Task> findExpiredLeases(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :taskId")
+    Optional<Task> findByIdForUpdate(@Param("taskId") UUID taskId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.pendingDependencies = t.pendingDependencies + :delta WHERE t.id = :taskId")
+    int adjustPendingDependencies(@Param("taskId") UUID taskId, @Param("delta") int delta);
+
+    /**
+     * Decrements the pending-dependency counter of every task that depends on {@code taskId}.
+     * Called once when that task is completed.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.pendingDependencies = t.pendingDependencies - 1 " +
+           "WHERE t.id IN (SELECT d.task.id FROM TaskDependency d WHERE d.dependsOn.id = :taskId)")
+    int releaseDependents(@Param("taskId") UUID taskId);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int deleteAllByIdIn(@Param("taskIds") Collection<UUID> taskIds);
+}
@@ -0,0 +1,16 @@
+package com.ipaas.taskmanager.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Lists tasks matching {@code filter} in the order of {@code pageable}'s sort. Only the
+     * criteria that are set become predicates, so each combination can be served by the
+     * matching (user_id, timestamp) or timestamp index.
+     */
+    Page<TaskSummary> findTaskSummaries(TaskFilter filter, boolean includeDescription, Pageable pageable);
+}
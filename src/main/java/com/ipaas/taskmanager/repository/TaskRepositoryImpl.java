@@ -0,0 +1,112 @@
+package com.ipaas.taskmanager.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TaskSummary> findTaskSummaries(TaskFilter filter, boolean includeDescription, Pageable pageable) {
+        HibernateCriteriaBuilder cb = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> user = task.join("user");
+
+        query.select(cb.construct(TaskSummary.class,
+                task.get("id"), task.get("title"),
+                includeDescription ? task.get("description") : cb.nullLiteral(String.class),
+                task.get("status"), task.get("createdAt"), task.get("updatedAt"), task.get("completedAt"),
+                task.get("dueAt"),
+                user.get("id"), user.get("name"), user.get("email")))
+            .where(predicates(cb, task, user.get("id"), filter))
+            .orderBy(orders(pageable.getSort(), task, cb));
+
+        TypedQuery<TaskSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(filter));
+    }
+
+    /**
+     * Like {@code QueryUtils.toOrders}, which rejects explicit null handling in criteria queries;
+     * {@code TaskSort} always sets it.
+     */
+    private static List<Order> orders(Sort sort, Root<Task> task, HibernateCriteriaBuilder cb) {
+        return sort.stream()
+            .<Order>map(order -> {
+                Expression<?> property = task.get(order.getProperty());
+                return switch (order.getNullHandling()) {
+                    case NULLS_FIRST -> order.isAscending() ? cb.asc(property, true) : cb.desc(property, true);
+                    case NULLS_LAST -> order.isAscending() ? cb.asc(property, false) : cb.desc(property, false);
+                    case NATIVE -> order.isAscending() ? cb.asc(property) : cb.desc(property);
+                };
+            })
+            .toList();
+    }
+
+    private long count(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+
+        query.select(cb.count(task))
+            .where(predicates(cb, task, task.get("user").get("id"), filter));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Task> task, Path<Object> userId, TaskFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.userId() != null) {
+            predicates.add(cb.equal(userId, filter.userId()));
+        }
+        if (filter.status() != null) {
+            predicates.add(cb.equal(task.get("status"), filter.status()));
+        }
+        if (filter.titlePattern() != null) {
+            predicates.add(cb.like(cb.lower(task.get("title")), filter.titlePattern(), TaskFilter.LIKE_ESCAPE));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.get("createdAt"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThan(task.get("createdAt"), filter.createdTo()));
+        }
+        if (filter.completedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.get("completedAt"), filter.completedFrom()));
+        }
+        if (filter.completedTo() != null) {
+            predicates.add(cb.lessThan(task.get("completedAt"), filter.completedTo()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
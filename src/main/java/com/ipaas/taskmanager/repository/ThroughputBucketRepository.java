@@ -0,0 +1,59 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.ThroughputBucket;
+import com.ipaas.taskmanager.domain.enums.BucketGranularity;
+import com.ipaas.taskmanager.repository.projection.ThroughputTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ThroughputBucketRepository extends JpaRepository<ThroughputBucket, String> {
+
+    /**
+     * Adds the counts to bucket {@code id}, creating it on the first count, in one statement. The
+     * row stays locked until the calling transaction ends, so concurrent writers queue on it
+     * instead of overwriting each other's counts.
+     */
+    @Modifying
+    @Query("INSERT INTO ThroughputBucket (id, granularity, userId, bucketStart, tasksCreated, tasksCompleted, " +
+           "subtasksCreated, subtasksCompleted) " +
+           "VALUES (:id, :granularity, :userId, :bucketStart, :tasksCreated, :tasksCompleted, :subtasksCreated, " +
+           ":subtasksCompleted) " +
+           "ON CONFLICT (id) DO UPDATE SET tasksCreated = tasksCreated + excluded.tasksCreated, " +
+           "tasksCompleted = tasksCompleted + excluded.tasksCompleted, " +
+           "subtasksCreated = subtasksCreated + excluded.subtasksCreated, " +
+           "subtasksCompleted = subtasksCompleted + excluded.subtasksCompleted")
+    int addCounts(@Param("id") String id, @Param("granularity") BucketGranularity granularity,
+            @Param("userId") UUID userId, @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("tasksCreated") long tasksCreated, @Param("tasksCompleted") long tasksCompleted,
+            @Param("subtasksCreated") long subtasksCreated, @Param("subtasksCompleted") long subtasksCompleted);
+
+    @Query("SELECT b FROM ThroughputBucket b WHERE b.userId = :userId AND b.granularity = :granularity " +
+           "AND b.bucketStart >= :from AND b.bucketStart < :to")
+    List<ThroughputBucket> findUserBuckets(@Param("userId") UUID userId,
+            @Param("granularity") BucketGranularity granularity,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * The shard's totals per bucket, summed over the per-user rows at query time through the
+     * (granularity, bucket_start) index; writers never touch a shared row.
+     */
+    @Query("SELECT new com.ipaas.taskmanager.repository.projection.ThroughputTotal(b.bucketStart, " +
+           "SUM(b.tasksCreated), SUM(b.tasksCompleted), SUM(b.subtasksCreated), SUM(b.subtasksCompleted)) " +
+           "FROM ThroughputBucket b WHERE b.userId IS NOT NULL AND b.granularity = :granularity " +
+           "AND b.bucketStart >= :from AND b.bucketStart < :to GROUP BY b.bucketStart")
+    List<ThroughputTotal> findTotalBuckets(@Param("granularity") BucketGranularity granularity,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM ThroughputBucket b WHERE b.granularity = :granularity AND b.bucketStart < :before")
+    int deleteBucketsBefore(@Param("granularity") BucketGranularity granularity,
+            @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,61 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.ArchivedSubtask;
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+final class ArchivedSubtaskMapping extends EntityMapping<ArchivedSubtask, UUID, ArchivedSubtaskMapping.Row> {
+
+    static final String TASK = "task";
+
+    ArchivedSubtaskMapping() {
+        super(ArchivedSubtask.class, new Table<>("archived_subtasks", UUID.class, Row.class, Row::id)
+            .withIndex(TASK, Index.hash(Row::taskId)));
+    }
+
+    @Override
+    UUID idOf(ArchivedSubtask subtask) {
+        return subtask.getId();
+    }
+
+    @Override
+    Row toRow(ArchivedSubtask subtask) {
+        return new Row(subtask.getId(), subtask.getTitle(), subtask.getDescription(), subtask.getStatus(),
+            subtask.getCreatedAt(), subtask.getUpdatedAt(), subtask.getCompletedAt(), subtask.getDueAt(),
+            subtask.getTask() == null ? null : subtask.getTask().getId(), subtask.getParentId(), subtask.getPath());
+    }
+
+    @Override
+    ArchivedSubtask toEntity(Row row, UnitOfWork unitOfWork) {
+        return ArchivedSubtask.builder()
+            .id(row.id())
+            .title(row.title())
+            .description(row.description())
+            .status(row.status())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .completedAt(row.completedAt())
+            .dueAt(row.dueAt())
+            .task(unitOfWork.find(ArchivedTask.class, row.taskId()))
+            .parentId(row.parentId())
+            .path(row.path())
+            .build();
+    }
+
+    record Row(
+            UUID id,
+            String title,
+            String description,
+            TaskStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime completedAt,
+            LocalDateTime dueAt,
+            UUID taskId,
+            UUID parentId,
+            String path) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+final class ArchivedTaskMapping extends EntityMapping<ArchivedTask, UUID, ArchivedTaskMapping.Row> {
+
+    static final String USER = "user";
+
+    private final ArchivedSubtaskMapping subtaskMapping;
+
+    ArchivedTaskMapping(ArchivedSubtaskMapping subtaskMapping) {
+        super(ArchivedTask.class, new Table<>("archived_tasks", UUID.class, Row.class, Row::id)
+            .withIndex(USER, Index.hash(Row::userId)));
+        this.subtaskMapping = subtaskMapping;
+    }
+
+    @Override
+    UUID idOf(ArchivedTask task) {
+        return task.getId();
+    }
+
+    @Override
+    Row toRow(ArchivedTask task) {
+        return new Row(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getCreatedAt(),
+            task.getUpdatedAt(), task.getCompletedAt(), task.getDueAt(), task.getArchivedAt(),
+            task.getUser() == null ? null : task.getUser().getId());
+    }
+
+    @Override
+    ArchivedTask toEntity(Row row, UnitOfWork unitOfWork) {
+        return ArchivedTask.builder()
+            .id(row.id())
+            .title(row.title())
+            .description(row.description())
+            .status(row.status())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .completedAt(row.completedAt())
+            .dueAt(row.dueAt())
+            .archivedAt(row.archivedAt())
+            .user(unitOfWork.find(User.class, row.userId()))
+            .subtasks(new LazyList<>(() -> unitOfWork.select(subtaskMapping,
+                subtaskMapping.table().lookup(ArchivedSubtaskMapping.TASK, row.id()),
+                subtask -> row.id().equals(subtask.taskId()))))
+            .build();
+    }
+
+    record Row(
+            UUID id,
+            String title,
+            String description,
+            TaskStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime completedAt,
+            LocalDateTime dueAt,
+            LocalDateTime archivedAt,
+            UUID userId) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.CycleTimeSketch;
+import com.ipaas.taskmanager.domain.enums.CycleTimeMetric;
+
+final class CycleTimeSketchMapping extends EntityMapping<CycleTimeSketch, String, CycleTimeSketchMapping.Row> {
+
+    static final String USER = "user";
+
+    CycleTimeSketchMapping() {
+        super(CycleTimeSketch.class, new Table<>("cycle_time_sketches", String.class, Row.class, Row::id)
+            .withIndex(USER, Index.hash(Row::userId)));
+    }
+
+    @Override
+    String idOf(CycleTimeSketch sketch) {
+        return sketch.getId();
+    }
+
+    @Override
+    Row toRow(CycleTimeSketch sketch) {
+        return new Row(sketch.getId(), sketch.getMetric(), sketch.getUserId(), sketch.getDay(),
+            Base64.getEncoder().encodeToString(sketch.getHistogram()), sketch.getUpdatedAt());
+    }
+
+    @Override
+    CycleTimeSketch toEntity(Row row, UnitOfWork unitOfWork) {
+        return CycleTimeSketch.builder()
+            .id(row.id())
+            .metric(row.metric())
+            .userId(row.userId())
+            .day(row.day())
+            .histogram(Base64.getDecoder().decode(row.histogram()))
+            .updatedAt(row.updatedAt())
+            .build();
+    }
+
+    record Row(
+            String id,
+            CycleTimeMetric metric,
+            UUID userId,
+            LocalDate day,
+            // Rows are compared to find dirty entities, which arrays do by identity
+            String histogram,
+            LocalDateTime updatedAt) {
+    }
+}
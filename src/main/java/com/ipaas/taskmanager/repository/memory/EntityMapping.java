@@ -0,0 +1,58 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Converts between an entity and its row, the job Hibernate's mapping does for the database.
+ * References to other entities are stored as ids and resolved through the unit of work, so
+ * every entity is materialized once per transaction.
+ */
+abstract class EntityMapping<E, ID, R extends Record> {
+
+    private final Class<E> entityType;
+    private final Table<ID, R> table;
+
+    EntityMapping(Class<E> entityType, Table<ID, R> table) {
+        this.entityType = entityType;
+        this.table = table;
+    }
+
+    Class<E> entityType() {
+        return entityType;
+    }
+
+    Table<ID, R> table() {
+        return table;
+    }
+
+    abstract ID idOf(E entity);
+
+    /** Assigns a generated id to a new entity; entities with application-assigned ids leave this alone. */
+    void generateId(E entity) {
+    }
+
+    abstract R toRow(E entity);
+
+    abstract E toEntity(R row, UnitOfWork unitOfWork);
+
+    void prePersist(E entity) {
+        invokeCallback(entity, jakarta.persistence.PrePersist.class);
+    }
+
+    void preUpdate(E entity) {
+        invokeCallback(entity, jakarta.persistence.PreUpdate.class);
+    }
+
+    private void invokeCallback(E entity, Class<? extends Annotation> callback) {
+        ReflectionUtils.doWithMethods(entityType, method -> invoke(method, entity),
+            method -> method.isAnnotationPresent(callback));
+    }
+
+    private static void invoke(Method method, Object entity) {
+        ReflectionUtils.makeAccessible(method);
+        ReflectionUtils.invokeMethod(method, entity);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+
+/**
+ * Evaluates a query-by-example probe against entities the way the JPA repositories do: every
+ * property set on the probe (and every unset one too, when nulls are included) becomes a
+ * condition, associated entities such as a task's user are matched property by property, and
+ * collections are left out.
+ */
+final class ExampleMatching {
+
+    private ExampleMatching() {
+    }
+
+    static Predicate<Object> predicate(Example<?> example) {
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(example.getMatcher());
+        List<Predicate<Object>> conditions = new ArrayList<>();
+        collect(example.getProbe(), "", accessor, conditions, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        if (conditions.isEmpty()) {
+            return entity -> true;
+        }
+        return example.getMatcher().isAllMatching()
+            ? entity -> conditions.stream().allMatch(condition -> condition.test(entity))
+            : entity -> conditions.stream().anyMatch(condition -> condition.test(entity));
+    }
+
+    private static void collect(Object probe, String prefix, ExampleMatcherAccessor accessor,
+            List<Predicate<Object>> conditions, Set<Object> visited) {
+        if (!visited.add(probe)) {
+            return;
+        }
+        BeanWrapper wrapper = new BeanWrapperImpl(probe);
+        for (PropertyDescriptor descriptor : wrapper.getPropertyDescriptors()) {
+            Class<?> type = descriptor.getPropertyType();
+            if (descriptor.getReadMethod() == null || "class".equals(descriptor.getName()) || type == null
+                    || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type.isArray()) {
+                continue;
+            }
+            String path = prefix + descriptor.getName();
+            if (accessor.isIgnoredPath(path)) {
+                continue;
+            }
+
+            Object value = accessor.getValueTransformerForPath(path)
+                .apply(Optional.ofNullable(wrapper.getPropertyValue(descriptor.getName())))
+                .orElse(null);
+            if (value == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(entity -> valueAt(entity, path) == null);
+                }
+            } else if (value instanceof String text) {
+                conditions.add(stringCondition(path, text, accessor));
+            } else if (BeanUtils.isSimpleValueType(value.getClass())) {
+                conditions.add(entity -> value.equals(valueAt(entity, path)));
+            } else {
+                collect(value, path + ".", accessor, conditions, visited);
+            }
+        }
+    }
+
+    private static Predicate<Object> stringCondition(String path, String text, ExampleMatcherAccessor accessor) {
+        ExampleMatcher.StringMatcher stringMatcher = accessor.getStringMatcherForPath(path);
+        boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+        String expected = ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+
+        Predicate<String> matches = switch (stringMatcher) {
+            case DEFAULT, EXACT -> expected::equals;
+            case STARTING -> candidate -> candidate.startsWith(expected);
+            case ENDING -> candidate -> candidate.endsWith(expected);
+            case CONTAINING -> candidate -> candidate.contains(expected);
+            // Not supported by the JPA repositories either
+            case REGEX -> throw new IllegalArgumentException("Unsupported StringMatcher " + stringMatcher);
+        };
+        return entity -> valueAt(entity, path) instanceof String candidate
+            && matches.test(ignoreCase ? candidate.toLowerCase(Locale.ROOT) : candidate);
+    }
+
+    /** The value at a dotted {@code path}, or {@code null} when an association along it is unset. */
+    private static Object valueAt(Object entity, String path) {
+        try {
+            return new BeanWrapperImpl(entity).getPropertyValue(path);
+        } catch (NullValueInNestedPathException e) {
+            return null;
+        }
+    }
+}
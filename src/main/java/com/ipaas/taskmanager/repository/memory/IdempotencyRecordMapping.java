@@ -0,0 +1,46 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+
+import com.ipaas.taskmanager.domain.entity.IdempotencyRecord;
+
+final class IdempotencyRecordMapping extends EntityMapping<IdempotencyRecord, String, IdempotencyRecordMapping.Row> {
+
+    IdempotencyRecordMapping() {
+        super(IdempotencyRecord.class, new Table<>("idempotency_keys", String.class, Row.class, Row::id));
+    }
+
+    @Override
+    String idOf(IdempotencyRecord record) {
+        return record.getId();
+    }
+
+    @Override
+    Row toRow(IdempotencyRecord record) {
+        return new Row(record.getId(), record.getRequestHash(), record.getStatusCode(), record.getResponseBody(),
+            record.getLocation(), record.getCreatedAt(), record.getExpiresAt());
+    }
+
+    @Override
+    IdempotencyRecord toEntity(Row row, UnitOfWork unitOfWork) {
+        return IdempotencyRecord.builder()
+            .id(row.id())
+            .requestHash(row.requestHash())
+            .statusCode(row.statusCode())
+            .responseBody(row.responseBody())
+            .location(row.location())
+            .createdAt(row.createdAt())
+            .expiresAt(row.expiresAt())
+            .build();
+    }
+
+    record Row(
+            String id,
+            String requestHash,
+            int statusCode,
+            String responseBody,
+            String location,
+            LocalDateTime createdAt,
+            LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.springframework.data.domain.Pageable;
+
+import com.ipaas.taskmanager.domain.entity.ArchivedSubtask;
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+
+class InMemoryArchivedTaskRepository extends InMemoryJpaRepository<ArchivedTask, UUID, ArchivedTaskMapping.Row>
+        implements ArchivedTaskRepository {
+
+    private final TaskMapping taskMapping;
+    private final SubtaskMapping subtaskMapping;
+
+    InMemoryArchivedTaskRepository(InMemoryDatabase database, ArchivedTaskMapping mapping, TaskMapping taskMapping,
+            SubtaskMapping subtaskMapping) {
+        super(database, mapping);
+        this.taskMapping = taskMapping;
+        this.subtaskMapping = subtaskMapping;
+    }
+
+    @Override
+    public List<ArchivedTask> findArchivedTasksWithFilters(UUID userId, TaskStatus status, String titlePattern,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime completedFrom, LocalDateTime completedTo,
+            Pageable pageable) {
+        List<ArchivedTaskMapping.Row> matching = rows(candidates(userId),
+            matches(userId, status, titlePattern, createdFrom, createdTo, completedFrom, completedTo));
+        return entities(page(matching, pageable.getSort(), pageable));
+    }
+
+    @Override
+    public long countArchivedTasksWithFilters(UUID userId, TaskStatus status, String titlePattern,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime completedFrom, LocalDateTime completedTo) {
+        return rows(candidates(userId),
+            matches(userId, status, titlePattern, createdFrom, createdTo, completedFrom, completedTo)).size();
+    }
+
+    @Override
+    public int copyFromTasks(Collection<UUID> taskIds, LocalDateTime archivedAt) {
+        return inUnitOfWork(unitOfWork -> {
+            List<Task> tasks = unitOfWork.select(taskMapping, taskIds, row -> true);
+            for (Task task : tasks) {
+                unitOfWork.persist(ArchivedTask.builder()
+                    .id(task.getId())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .status(task.getStatus())
+                    .createdAt(task.getCreatedAt())
+                    .updatedAt(task.getUpdatedAt())
+                    .completedAt(task.getCompletedAt())
+                    .dueAt(task.getDueAt())
+                    .archivedAt(archivedAt)
+                    .user(task.getUser())
+                    .build());
+            }
+            return tasks.size();
+        });
+    }
+
+    @Override
+    public int copySubtasksFromTasks(Collection<UUID> taskIds) {
+        return inUnitOfWork(unitOfWork -> {
+            int copied = 0;
+            for (UUID taskId : taskIds) {
+                ArchivedTask archived = unitOfWork.find(ArchivedTask.class, taskId);
+                if (archived == null) {
+                    continue;
+                }
+                List<Subtask> subtasks = unitOfWork.select(subtaskMapping,
+                    subtaskMapping.table().lookup(SubtaskMapping.TASK, taskId), row -> taskId.equals(row.taskId()));
+                for (Subtask subtask : subtasks) {
+                    unitOfWork.persist(ArchivedSubtask.builder()
+                        .id(subtask.getId())
+                        .title(subtask.getTitle())
+                        .description(subtask.getDescription())
+                        .status(subtask.getStatus())
+                        .createdAt(subtask.getCreatedAt())
+                        .updatedAt(subtask.getUpdatedAt())
+                        .completedAt(subtask.getCompletedAt())
+                        .dueAt(subtask.getDueAt())
+                        .task(archived)
+                        .parentId(subtask.getParent() != null ? subtask.getParent().getId() : null)
+                        .path(subtask.getPath())
+                        .build());
+                }
+                copied += subtasks.size();
+            }
+            return copied;
+        });
+    }
+
+    private Collection<UUID> candidates(UUID userId) {
+        return userId == null ? null : table().lookup(ArchivedTaskMapping.USER, userId);
+    }
+
+    private static Predicate<ArchivedTaskMapping.Row> matches(UUID userId, TaskStatus status, String titlePattern,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime completedFrom, LocalDateTime completedTo) {
+        return row -> (userId == null || userId.equals(row.userId()))
+            && (status == null || status == row.status())
+            && matchesTitle(row.title(), titlePattern)
+            && (createdFrom == null || !row.createdAt().isBefore(createdFrom))
+            && (createdTo == null || row.createdAt().isBefore(createdTo))
+            && (completedFrom == null || (row.completedAt() != null && !row.completedAt().isBefore(completedFrom)))
+            && (completedTo == null || (row.completedAt() != null && row.completedAt().isBefore(completedTo)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.CycleTimeSketch;
+import com.ipaas.taskmanager.repository.CycleTimeSketchRepository;
+
+class InMemoryCycleTimeSketchRepository extends InMemoryJpaRepository<CycleTimeSketch, String, CycleTimeSketchMapping.Row>
+        implements CycleTimeSketchRepository {
+
+    InMemoryCycleTimeSketchRepository(InMemoryDatabase database, CycleTimeSketchMapping mapping) {
+        super(database, mapping);
+    }
+
+    @Override
+    public Optional<CycleTimeSketch> findByIdForUpdate(String id) {
+        return inUnitOfWork(unitOfWork -> {
+            // Row locks are striped by id, so this also serializes the insert of a missing row
+            database.lockRow(unitOfWork, CycleTimeSketch.class, id);
+            return Optional.ofNullable(unitOfWork.find(CycleTimeSketch.class, id));
+        });
+    }
+
+    @Override
+    public List<CycleTimeSketch> findByUserIdAndDayBetween(UUID userId, LocalDate from, LocalDate to) {
+        return select(table().lookup(CycleTimeSketchMapping.USER, userId),
+            row -> userId.equals(row.userId()) && !row.day().isBefore(from) && !row.day().isAfter(to));
+    }
+
+    @Override
+    public List<CycleTimeSketch> findTotalsByDayBetween(LocalDate from, LocalDate to) {
+        return select(null, row -> row.userId() == null && !row.day().isBefore(from) && !row.day().isAfter(to));
+    }
+}
@@ -0,0 +1,264 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process storage engine behind the {@code inmemory} profile. Tables are concurrent maps
+ * with secondary indexes; transactions run against a {@link UnitOfWork} and are applied at
+ * commit under a single lock, after being appended to the optional {@link WriteAheadLog}.
+ * A commit is published under the write side of {@code publishLock} and every read runs under its
+ * read side, so no read sees part of a commit.
+ * <p>
+ * Isolation is read committed: a transaction sees committed rows plus its own changes.
+ * Concurrent writers to the same row are merged per column, and {@code findByIdForUpdate}
+ * takes a row lock held until the transaction ends, like {@code SELECT ... FOR UPDATE}.
+ */
+@Slf4j
+public class InMemoryDatabase implements AutoCloseable {
+
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Map<Class<?>, EntityMapping<?, ?, ?>> mappings = new LinkedHashMap<>();
+    private final Map<String, Table<?, ?>> tables = new LinkedHashMap<>();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final ReentrantReadWriteLock publishLock = new ReentrantReadWriteLock();
+    private final Lock[] rowLocks = new Lock[LOCK_STRIPES];
+    private final WriteAheadLog writeAheadLog;
+
+    InMemoryDatabase(List<EntityMapping<?, ?, ?>> entityMappings, List<Table<?, ?>> extraTables, WriteAheadLog writeAheadLog) {
+        for (EntityMapping<?, ?, ?> mapping : entityMappings) {
+            mappings.put(mapping.entityType(), mapping);
+            tables.put(mapping.table().name(), mapping.table());
+        }
+        extraTables.forEach(table -> tables.put(table.name(), table));
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            rowLocks[i] = new ReentrantLock();
+        }
+
+        this.writeAheadLog = writeAheadLog;
+        if (writeAheadLog != null) {
+            int replayed = writeAheadLog.recover(tables);
+            log.info("Recovered {} transactions from the write-ahead log", replayed);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> EntityMapping<E, ?, ?> mapping(Class<E> entityType) {
+        EntityMapping<E, ?, ?> mapping = (EntityMapping<E, ?, ?>) mappings.get(entityType);
+        if (mapping == null) {
+            throw new IllegalArgumentException("Not an in-memory entity: " + entityType);
+        }
+        return mapping;
+    }
+
+    UnitOfWork newUnitOfWork(boolean readOnly) {
+        return new UnitOfWork(this, readOnly);
+    }
+
+    /** Unit of work of the current transaction, or {@code null} outside one. */
+    UnitOfWork currentUnitOfWork() {
+        return (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+    }
+
+    /**
+     * Runs {@code action} in the current transaction, or in its own auto-committed unit of work
+     * when there is none, as Spring Data's repository methods do.
+     */
+    <T> T inUnitOfWork(Function<UnitOfWork, T> action) {
+        UnitOfWork current = currentUnitOfWork();
+        if (current != null) {
+            return read(() -> action.apply(current));
+        }
+
+        UnitOfWork unitOfWork = newUnitOfWork(false);
+        try {
+            T result = read(() -> action.apply(unitOfWork));
+            commit(unitOfWork);
+            return result;
+        } finally {
+            unitOfWork.release();
+        }
+    }
+
+    /** Runs {@code action} against one committed state of the tables. */
+    <T> T read(Supplier<T> action) {
+        publishLock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            publishLock.readLock().unlock();
+        }
+    }
+
+    /** Row lock for {@code SELECT ... FOR UPDATE}; only meaningful inside a transaction. */
+    void lockRow(UnitOfWork unitOfWork, Class<?> entityType, Object id) {
+        if (currentUnitOfWork() != unitOfWork) {
+            return;
+        }
+        Lock rowLock = rowLocks[Math.floorMod(Objects.hash(entityType, id), LOCK_STRIPES)];
+        if (unitOfWork.tryHold(rowLock)) {
+            return;
+        }
+
+        // The holder of the row needs the write side to commit, so wait without holding the read side
+        int reads = publishLock.getReadHoldCount();
+        for (int i = 0; i < reads; i++) {
+            publishLock.readLock().unlock();
+        }
+        try {
+            unitOfWork.hold(rowLock);
+        } finally {
+            for (int i = 0; i < reads; i++) {
+                publishLock.readLock().lock();
+            }
+        }
+    }
+
+    /** {@code SKIP LOCKED}: locks the row unless another transaction holds it. */
+    boolean tryLockRow(UnitOfWork unitOfWork, Class<?> entityType, Object id) {
+        if (currentUnitOfWork() != unitOfWork) {
+            return true;
+        }
+        return unitOfWork.tryHold(rowLocks[Math.floorMod(Objects.hash(entityType, id), LOCK_STRIPES)]);
+    }
+
+    void commit(UnitOfWork unitOfWork) {
+        if (unitOfWork.isReadOnly()) {
+            return;
+        }
+        if (publishLock.getReadHoldCount() > 0) {
+            // Taking the write side while holding the read side would deadlock
+            throw new IllegalStateException("Cannot commit from inside a read");
+        }
+
+        commitLock.lock();
+        try {
+            List<WriteAheadLog.Change> changes = changes(unitOfWork);
+            if (changes.isEmpty()) {
+                return;
+            }
+            if (writeAheadLog != null) {
+                writeAheadLog.append(changes);
+            }
+            publishLock.writeLock().lock();
+            try {
+                for (WriteAheadLog.Change change : changes) {
+                    apply(change);
+                }
+            } finally {
+                publishLock.writeLock().unlock();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private List<WriteAheadLog.Change> changes(UnitOfWork unitOfWork) {
+        Map<UnitOfWork.Key, WriteAheadLog.Change> changes = new LinkedHashMap<>();
+        for (UnitOfWork.Managed<?, ?, ?> entry : unitOfWork.managedEntities()) {
+            WriteAheadLog.Change change = change(entry);
+            if (change != null) {
+                changes.put(new UnitOfWork.Key(entry.mapping.entityType(), change.id()), change);
+            }
+        }
+
+        unitOfWork.increments().forEach((key, columns) -> {
+            Table<?, ?> table = mapping(key.type()).table();
+            WriteAheadLog.Change pending = changes.get(key);
+            Record row = pending != null ? pending.row() : table.get(key.id());
+            if (row == null) {
+                return;
+            }
+            for (Map.Entry<String, Integer> column : columns.entrySet()) {
+                row = increment(table, row, column.getKey(), column.getValue());
+            }
+            changes.put(key, WriteAheadLog.Change.put(table, key.id(), row));
+        });
+
+        checkConstraints(changes.values());
+        return new ArrayList<>(changes.values());
+    }
+
+    private <E, ID, R extends Record> WriteAheadLog.Change change(UnitOfWork.Managed<E, ID, R> entry) {
+        Table<ID, R> table = entry.mapping.table();
+        ID id = entry.mapping.idOf(entry.entity);
+
+        if (entry.removed) {
+            return entry.snapshot == null ? null : WriteAheadLog.Change.delete(table, id);
+        }
+
+        R current = entry.currentRow();
+        if (entry.snapshot == null) {
+            return WriteAheadLog.Change.put(table, id, current);
+        }
+        if (current.equals(entry.snapshot)) {
+            return null;
+        }
+
+        entry.mapping.preUpdate(entry.entity);
+        current = entry.currentRow();
+        R latest = table.get(id);
+        // Deleted by another transaction meanwhile: an UPDATE would match no row
+        return latest == null ? null : WriteAheadLog.Change.put(table, id, table.merge(entry.snapshot, current, latest));
+    }
+
+    /** Unique keys must hold against the committed rows and among the rows of this commit. */
+    private void checkConstraints(Iterable<WriteAheadLog.Change> changes) {
+        Map<String, Object> claimed = new HashMap<>();
+        for (WriteAheadLog.Change change : changes) {
+            if (change.row() == null) {
+                continue;
+            }
+            for (String uniqueKey : uniqueKeys(change.table(), change.row())) {
+                Object owner = claimed.putIfAbsent(change.table().name() + "/" + uniqueKey, change.id());
+                if (owner != null && !owner.equals(change.id())) {
+                    throw new DataIntegrityViolationException(
+                        "Unique key " + uniqueKey + " on " + change.table().name() + " written twice in one commit");
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ID, R extends Record> List<String> uniqueKeys(Table<ID, R> table, Record row) {
+        table.checkUnique((R) row);
+        return table.uniqueKeys((R) row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ID, R extends Record> Record increment(Table<ID, R> table, Record row, String column, int delta) {
+        return table.increment((R) row, column, delta);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ID, R extends Record> void apply(WriteAheadLog.Change change) {
+        Table<ID, R> table = (Table<ID, R>) change.table();
+        if (change.row() == null) {
+            table.remove(change.id());
+        } else {
+            table.put((R) change.row());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.ipaas.taskmanager.domain.entity.IdempotencyRecord;
+import com.ipaas.taskmanager.repository.IdempotencyRecordRepository;
+
+class InMemoryIdempotencyRecordRepository extends InMemoryJpaRepository<IdempotencyRecord, String, IdempotencyRecordMapping.Row>
+        implements IdempotencyRecordRepository {
+
+    InMemoryIdempotencyRecordRepository(InMemoryDatabase database, IdempotencyRecordMapping mapping) {
+        super(database, mapping);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByIdAndExpiresAtAfter(String id, LocalDateTime now) {
+        return findById(id).filter(record -> record.getExpiresAt().isAfter(now));
+    }
+
+    @Override
+    public int reserve(String id, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        return inUnitOfWork(unitOfWork -> {
+            database.lockRow(unitOfWork, IdempotencyRecord.class, id);
+            if (unitOfWork.find(IdempotencyRecord.class, id) != null) {
+                return 0;
+            }
+            unitOfWork.persist(IdempotencyRecord.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .statusCode(IdempotencyRecord.IN_PROGRESS)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build());
+            return 1;
+        });
+    }
+
+    @Override
+    public int deleteReservation(String id) {
+        return deleteIf(id, IdempotencyRecord::isInProgress);
+    }
+
+    @Override
+    public int deleteExpiredById(String id, LocalDateTime now) {
+        return deleteIf(id, record -> !record.getExpiresAt().isAfter(now));
+    }
+
+    private int deleteIf(String id, Predicate<IdempotencyRecord> condition) {
+        return inUnitOfWork(unitOfWork -> {
+            IdempotencyRecord record = unitOfWork.find(IdempotencyRecord.class, id);
+            if (record == null || !condition.test(record)) {
+                return 0;
+            }
+            unitOfWork.remove(record);
+            return 1;
+        });
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return inUnitOfWork(unitOfWork -> {
+            List<IdempotencyRecord> expired = unitOfWork.select(mapping, null, row -> row.expiresAt().isBefore(now));
+            expired.forEach(unitOfWork::remove);
+            return expired.size();
+        });
+    }
+}
@@ -0,0 +1,375 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.ipaas.taskmanager.repository.TaskFilter;
+import com.ipaas.taskmanager.sharding.ShardMerge;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * {@link JpaRepository} over an {@link InMemoryDatabase} table. Each call joins the current
+ * transaction's unit of work, or commits on its own outside a transaction. Query by example
+ * scans the whole table and matches the probe like the JPA repositories would.
+ */
+abstract class InMemoryJpaRepository<E, ID, R extends Record> implements JpaRepository<E, ID> {
+
+    protected final InMemoryDatabase database;
+    protected final EntityMapping<E, ID, R> mapping;
+
+    InMemoryJpaRepository(InMemoryDatabase database, EntityMapping<E, ID, R> mapping) {
+        this.database = database;
+        this.mapping = mapping;
+    }
+
+    /** Rows among {@code candidates} (every row when {@code null}) that match {@code filter}. */
+    protected List<R> rows(Collection<ID> candidates, Predicate<R> filter) {
+        return database.inUnitOfWork(unitOfWork -> unitOfWork.query(mapping, candidates, filter));
+    }
+
+    /** Entities among {@code candidates} (every row when {@code null}) whose row matches {@code filter}. */
+    protected List<E> select(Collection<ID> candidates, Predicate<R> filter) {
+        return database.inUnitOfWork(unitOfWork -> unitOfWork.select(mapping, candidates, filter));
+    }
+
+    /**
+     * Evaluates a {@link TaskFilter#titlePattern()} the way {@code LOWER(value) LIKE pattern}
+     * would; {@code null} matches everything.
+     */
+    protected static boolean matchesTitle(String value, String titlePattern) {
+        if (titlePattern == null) {
+            return true;
+        }
+        StringBuilder text = new StringBuilder();
+        String inner = titlePattern.substring(1, titlePattern.length() - 1);
+        for (int i = 0; i < inner.length(); i++) {
+            char c = inner.charAt(i);
+            text.append(c == TaskFilter.LIKE_ESCAPE ? inner.charAt(++i) : c);
+        }
+        return value.toLowerCase(Locale.ROOT).contains(text);
+    }
+
+    protected <T> T inUnitOfWork(Function<UnitOfWork, T> action) {
+        return database.inUnitOfWork(action);
+    }
+
+    protected Table<ID, R> table() {
+        return mapping.table();
+    }
+
+    /**
+     * {@code rows} in the order of {@code sort}, cut to {@code pageable}. Sort properties are row
+     * columns, which carry the entity property names.
+     */
+    protected List<R> page(List<R> rows, Sort sort, Pageable pageable) {
+        List<R> sorted = new ArrayList<>(rows);
+        sorted.sort(ShardMerge.comparator(sort, table()::column));
+        if (pageable.isUnpaged()) {
+            return sorted;
+        }
+        return sorted.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+    }
+
+    protected List<E> entities(List<R> rows) {
+        return inUnitOfWork(unitOfWork -> {
+            List<E> entities = new ArrayList<>(rows.size());
+            rows.forEach(row -> entities.add(unitOfWork.find(mapping.entityType(), table().idOf(row))));
+            return entities;
+        });
+    }
+
+    @Override
+    public <S extends E> S save(S entity) {
+        return inUnitOfWork(unitOfWork -> unitOfWork.persist(entity));
+    }
+
+    @Override
+    public <S extends E> List<S> saveAll(Iterable<S> entities) {
+        return inUnitOfWork(unitOfWork -> {
+            List<S> saved = new ArrayList<>();
+            entities.forEach(entity -> saved.add(unitOfWork.persist(entity)));
+            return saved;
+        });
+    }
+
+    @Override
+    public <S extends E> S saveAndFlush(S entity) {
+        S saved = save(entity);
+        flush();
+        return saved;
+    }
+
+    @Override
+    public <S extends E> List<S> saveAllAndFlush(Iterable<S> entities) {
+        List<S> saved = saveAll(entities);
+        flush();
+        return saved;
+    }
+
+    @Override
+    public void flush() {
+        inUnitOfWork(unitOfWork -> {
+            unitOfWork.flush();
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        return Optional.ofNullable(inUnitOfWork(unitOfWork -> unitOfWork.find(mapping.entityType(), id)));
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return inUnitOfWork(unitOfWork -> unitOfWork.row(mapping, id) != null);
+    }
+
+    @Override
+    public List<E> findAll() {
+        return select(null, row -> true);
+    }
+
+    @Override
+    public List<E> findAllById(Iterable<ID> ids) {
+        return inUnitOfWork(unitOfWork -> {
+            List<E> found = new ArrayList<>();
+            for (ID id : ids) {
+                E entity = unitOfWork.find(mapping.entityType(), id);
+                if (entity != null) {
+                    found.add(entity);
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public List<E> findAll(Sort sort) {
+        return entities(page(rows(null, row -> true), sort, Pageable.unpaged()));
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        List<R> all = rows(null, row -> true);
+        return PageableExecutionUtils.getPage(entities(page(all, pageable.getSort(), pageable)), pageable, all::size);
+    }
+
+    @Override
+    public long count() {
+        return rows(null, row -> true).size();
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        findById(id).ifPresent(this::delete);
+    }
+
+    @Override
+    public void delete(E entity) {
+        inUnitOfWork(unitOfWork -> {
+            unitOfWork.remove(entity);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends ID> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends E> entities) {
+        inUnitOfWork(unitOfWork -> {
+            entities.forEach(unitOfWork::remove);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAll(findAll());
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<E> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<ID> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public E getOne(ID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public E getById(ID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public E getReferenceById(ID id) {
+        return findById(id).orElseThrow(() ->
+            new EntityNotFoundException("Unable to find " + mapping.entityType().getName() + " with id " + id));
+    }
+
+    @Override
+    public <S extends E> Optional<S> findOne(Example<S> example) {
+        return new ExampleQuery<S>(example, Sort.unsorted(), 0).one();
+    }
+
+    @Override
+    public <S extends E> List<S> findAll(Example<S> example) {
+        return findAll(example, Sort.unsorted());
+    }
+
+    @Override
+    public <S extends E> List<S> findAll(Example<S> example, Sort sort) {
+        return new ExampleQuery<S>(example, sort, 0).all();
+    }
+
+    @Override
+    public <S extends E> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return new ExampleQuery<S>(example, Sort.unsorted(), 0).page(pageable);
+    }
+
+    @Override
+    public <S extends E> long count(Example<S> example) {
+        return matching(example).size();
+    }
+
+    @Override
+    public <S extends E> boolean exists(Example<S> example) {
+        return !matching(example).isEmpty();
+    }
+
+    @Override
+    public <S extends E, T> T findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, T> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(example, Sort.unsorted(), 0));
+    }
+
+    /** Rows of the entities matching {@code example}, found by a scan of the whole table. */
+    private List<R> matching(Example<? extends E> example) {
+        Predicate<Object> matches = ExampleMatching.predicate(example);
+        List<ID> ids = select(null, row -> true).stream()
+            .filter(entity -> example.getProbeType().isInstance(entity) && matches.test(entity))
+            .map(mapping::idOf)
+            .toList();
+        return rows(ids, row -> true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> entities) {
+        return (List<T>) entities;
+    }
+
+    /**
+     * Fluent query by example. Results are always whole entities: {@link #project} is only a hint,
+     * as it is for JPA, and {@link #as} accepts the entity type and its supertypes.
+     */
+    private final class ExampleQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Example<? extends E> example;
+        private final Sort sort;
+        private final int limit;
+
+        ExampleQuery(Example<? extends E> example, Sort sort, int limit) {
+            this.example = example;
+            this.sort = sort;
+            this.limit = limit;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(example, this.sort.and(sort), limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(example, sort, limit);
+        }
+
+        @Override
+        public <P> FluentQuery.FetchableFluentQuery<P> as(Class<P> resultType) {
+            if (!resultType.isAssignableFrom(example.getProbeType())) {
+                throw new UnsupportedOperationException("Projections are not supported by the in-memory storage");
+            }
+            return new ExampleQuery<>(example, sort, limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> found = new ExampleQuery<T>(example, sort, 2).all();
+            if (found.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, found.size());
+            }
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            List<T> found = new ExampleQuery<T>(example, sort, 1).all();
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        @Override
+        public List<T> all() {
+            List<R> rows = InMemoryJpaRepository.this.page(matching(example), sort, Pageable.unpaged());
+            return cast(entities(limit > 0 ? rows.subList(0, Math.min(limit, rows.size())) : rows));
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            List<R> rows = matching(example);
+            Sort order = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+            return PageableExecutionUtils.getPage(cast(entities(InMemoryJpaRepository.this.page(rows, order, pageable))),
+                pageable, rows::size);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return all().stream();
+        }
+
+        @Override
+        public long count() {
+            return matching(example).size();
+        }
+
+        @Override
+        public boolean exists() {
+            return !matching(example).isEmpty();
+        }
+    }
+}
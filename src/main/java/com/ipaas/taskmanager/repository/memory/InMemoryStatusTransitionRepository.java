@@ -0,0 +1,46 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import com.ipaas.taskmanager.domain.entity.StatusTransition;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.repository.StatusTransitionRepository;
+
+class InMemoryStatusTransitionRepository extends InMemoryJpaRepository<StatusTransition, Long, StatusTransitionMapping.Row>
+        implements StatusTransitionRepository {
+
+    InMemoryStatusTransitionRepository(InMemoryDatabase database, StatusTransitionMapping mapping) {
+        super(database, mapping);
+    }
+
+    @Override
+    public List<StatusTransition> findByTaskId(UUID taskId) {
+        return timeline(taskId, row -> true);
+    }
+
+    @Override
+    public List<StatusTransition> findTaskTransitions(UUID taskId) {
+        return timeline(taskId, row -> row.subtaskId() == null);
+    }
+
+    @Override
+    public LocalDateTime findLastTaskTransitionTo(UUID taskId, TaskStatus status) {
+        return rows(table().lookup(StatusTransitionMapping.TASK, taskId),
+                row -> taskId.equals(row.taskId()) && row.subtaskId() == null && row.toStatus() == status).stream()
+            .map(StatusTransitionMapping.Row::changedAt)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+    }
+
+    private List<StatusTransition> timeline(UUID taskId, Predicate<StatusTransitionMapping.Row> filter) {
+        return entities(rows(table().lookup(StatusTransitionMapping.TASK, taskId),
+                row -> taskId.equals(row.taskId()) && filter.test(row)).stream()
+            .sorted(Comparator.comparing(StatusTransitionMapping.Row::changedAt)
+                .thenComparing(StatusTransitionMapping.Row::id))
+            .toList());
+    }
+}
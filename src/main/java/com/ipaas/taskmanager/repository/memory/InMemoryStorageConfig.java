@@ -0,0 +1,106 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.ipaas.taskmanager.config.InMemoryStorageProperties;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+import com.ipaas.taskmanager.repository.CycleTimeSketchRepository;
+import com.ipaas.taskmanager.repository.IdempotencyRecordRepository;
+import com.ipaas.taskmanager.repository.StatusTransitionRepository;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskDependencyRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.ThroughputBucketRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.repository.search.TaskSearchRepository;
+
+/**
+ * Wires the embedded storage engine in place of the datasource, JPA and the Spring Data
+ * repositories, which {@code application-inmemory.yml} switches off.
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryStorageConfig {
+
+    private final UserMapping userMapping = new UserMapping();
+    private final SubtaskMapping subtaskMapping = new SubtaskMapping();
+    private final TaskMapping taskMapping = new TaskMapping(subtaskMapping);
+    private final TaskDependencyMapping dependencyMapping = new TaskDependencyMapping();
+    private final ArchivedSubtaskMapping archivedSubtaskMapping = new ArchivedSubtaskMapping();
+    private final ArchivedTaskMapping archivedTaskMapping = new ArchivedTaskMapping(archivedSubtaskMapping);
+    private final IdempotencyRecordMapping idempotencyRecordMapping = new IdempotencyRecordMapping();
+    private final StatusTransitionMapping statusTransitionMapping = new StatusTransitionMapping();
+    private final CycleTimeSketchMapping cycleTimeSketchMapping = new CycleTimeSketchMapping();
+    private final ThroughputBucketMapping throughputBucketMapping = new ThroughputBucketMapping();
+
+    @Bean
+    public InMemoryDatabase inMemoryDatabase(InMemoryStorageProperties properties) {
+        InMemoryStorageProperties.WriteAheadLog log = properties.getWriteAheadLog();
+        return new InMemoryDatabase(
+            List.of(userMapping, taskMapping, subtaskMapping, dependencyMapping, archivedTaskMapping,
+                archivedSubtaskMapping, idempotencyRecordMapping, statusTransitionMapping, cycleTimeSketchMapping,
+                throughputBucketMapping),
+            List.of(),
+            log.isEnabled() ? new WriteAheadLog(Path.of(log.getPath()), log.isFsync()) : null);
+    }
+
+    @Bean
+    public InMemoryTransactionManager transactionManager(InMemoryDatabase database) {
+        return new InMemoryTransactionManager(database);
+    }
+
+    @Bean
+    public UserRepository userRepository(InMemoryDatabase database) {
+        return new InMemoryUserRepository(database, userMapping);
+    }
+
+    @Bean
+    public TaskRepository taskRepository(InMemoryDatabase database) {
+        return new InMemoryTaskRepository(database, taskMapping, userMapping, dependencyMapping);
+    }
+
+    @Bean
+    public SubtaskRepository subtaskRepository(InMemoryDatabase database) {
+        return new InMemorySubtaskRepository(database, subtaskMapping);
+    }
+
+    @Bean
+    public TaskDependencyRepository taskDependencyRepository(InMemoryDatabase database) {
+        return new InMemoryTaskDependencyRepository(database, dependencyMapping, taskMapping);
+    }
+
+    @Bean
+    public ArchivedTaskRepository archivedTaskRepository(InMemoryDatabase database) {
+        return new InMemoryArchivedTaskRepository(database, archivedTaskMapping, taskMapping, subtaskMapping);
+    }
+
+    @Bean
+    public IdempotencyRecordRepository idempotencyRecordRepository(InMemoryDatabase database) {
+        return new InMemoryIdempotencyRecordRepository(database, idempotencyRecordMapping);
+    }
+
+    @Bean
+    public StatusTransitionRepository statusTransitionRepository(InMemoryDatabase database) {
+        return new InMemoryStatusTransitionRepository(database, statusTransitionMapping);
+    }
+
+    @Bean
+    public CycleTimeSketchRepository cycleTimeSketchRepository(InMemoryDatabase database) {
+        return new InMemoryCycleTimeSketchRepository(database, cycleTimeSketchMapping);
+    }
+
+    @Bean
+    public ThroughputBucketRepository throughputBucketRepository(InMemoryDatabase database) {
+        return new InMemoryThroughputBucketRepository(database, throughputBucketMapping);
+    }
+
+    @Bean
+    public TaskSearchRepository taskSearchRepository(InMemoryDatabase database) {
+        return new InMemoryTaskSearchRepository(database, taskMapping, subtaskMapping);
+    }
+}
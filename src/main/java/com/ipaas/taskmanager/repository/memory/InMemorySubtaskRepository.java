@@ -0,0 +1,144 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.projection.TaskDeadline;
+
+class InMemorySubtaskRepository extends InMemoryJpaRepository<Subtask, UUID, SubtaskMapping.Row> implements SubtaskRepository {
+
+    InMemorySubtaskRepository(InMemoryDatabase database, SubtaskMapping mapping) {
+        super(database, mapping);
+    }
+
+    @Override
+    public List<Subtask> findByTaskId(UUID taskId) {
+        return select(byTask(taskId), row -> taskId.equals(row.taskId()));
+    }
+
+    @Override
+    public Optional<UUID> findTaskIdById(UUID subtaskId) {
+        return rows(Set.of(subtaskId), row -> true).stream().map(SubtaskMapping.Row::taskId).findFirst();
+    }
+
+    @Override
+    public List<SubtaskResponseDTO> findResponsesByTaskId(UUID taskId) {
+        return responses(rows(byTask(taskId), row -> taskId.equals(row.taskId())));
+    }
+
+    @Override
+    public List<SubtaskResponseDTO> findResponsesByTaskIdIn(Collection<UUID> taskIds) {
+        return responses(inUnitOfWork(unitOfWork -> {
+            Set<UUID> candidates = new HashSet<>();
+            taskIds.forEach(taskId -> candidates.addAll(byTask(taskId)));
+            return unitOfWork.query(mapping, candidates, row -> taskIds.contains(row.taskId()));
+        }));
+    }
+
+    @Override
+    public List<SubtaskResponseDTO> findResponsesByIdIn(Collection<UUID> ids) {
+        return responses(rows(new HashSet<>(ids), row -> true));
+    }
+
+    @Override
+    public List<SubtaskResponseDTO> findSubtreeResponses(UUID subtaskId, String descendantPrefix) {
+        List<SubtaskMapping.Row> subtree = inUnitOfWork(unitOfWork -> {
+            Set<UUID> candidates = new HashSet<>(table().lookupPrefix(SubtaskMapping.PATH, descendantPrefix));
+            candidates.add(subtaskId);
+            return unitOfWork.query(mapping, candidates,
+                row -> row.id().equals(subtaskId) || row.path().startsWith(descendantPrefix));
+        });
+        return responses(subtree.stream()
+            .sorted(Comparator.comparing(SubtaskMapping.Row::path)
+                .thenComparing(SubtaskMapping.Row::createdAt, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList());
+    }
+
+    @Override
+    public long countIncompleteByTaskId(UUID taskId) {
+        return rows(byTask(taskId), row -> taskId.equals(row.taskId()) && row.status() != TaskStatus.COMPLETED).size();
+    }
+
+    @Override
+    public int movePaths(String oldPrefix, int oldPrefixLength, String newPrefix) {
+        return inUnitOfWork(unitOfWork -> {
+            List<Subtask> moved = unitOfWork.select(mapping, table().lookupPrefix(SubtaskMapping.PATH, oldPrefix),
+                row -> row.path().startsWith(oldPrefix));
+            moved.forEach(subtask -> subtask.setPath(newPrefix + subtask.getPath().substring(oldPrefixLength)));
+            return moved.size();
+        });
+    }
+
+    @Override
+    public Stream<TaskDeadline> streamOpenDeadlines() {
+        return deadlines(rows(null, SubtaskMapping.Row::hasOpenDeadline)).stream();
+    }
+
+    @Override
+    public List<TaskDeadline> findOpenDeadlinesByIdIn(Collection<UUID> subtaskIds) {
+        return deadlines(rows(subtaskIds, SubtaskMapping.Row::hasOpenDeadline));
+    }
+
+    @Override
+    public List<Subtask> findByTaskIdAndStatus(UUID taskId, TaskStatus status) {
+        return select(byTask(taskId), row -> taskId.equals(row.taskId()) && row.status() == status);
+    }
+
+    @Override
+    public long countByTaskIdAndStatus(UUID taskId, TaskStatus status) {
+        return rows(byTask(taskId), row -> taskId.equals(row.taskId()) && row.status() == status).size();
+    }
+
+    @Override
+    public long countByTaskId(UUID taskId) {
+        return rows(byTask(taskId), row -> taskId.equals(row.taskId())).size();
+    }
+
+    @Override
+    public int clearParentsByTaskIdIn(Collection<UUID> taskIds) {
+        return inUnitOfWork(unitOfWork -> {
+            Set<UUID> candidates = new HashSet<>();
+            taskIds.forEach(taskId -> candidates.addAll(byTask(taskId)));
+            List<Subtask> nested = unitOfWork.select(mapping, candidates,
+                row -> taskIds.contains(row.taskId()) && row.parentId() != null);
+            nested.forEach(subtask -> subtask.setParent(null));
+            return nested.size();
+        });
+    }
+
+    @Override
+    public int deleteAllByTaskIdIn(Collection<UUID> taskIds) {
+        return inUnitOfWork(unitOfWork -> {
+            Set<UUID> candidates = new HashSet<>();
+            taskIds.forEach(taskId -> candidates.addAll(byTask(taskId)));
+            List<Subtask> subtasks = unitOfWork.select(mapping, candidates, row -> taskIds.contains(row.taskId()));
+            subtasks.forEach(unitOfWork::remove);
+            return subtasks.size();
+        });
+    }
+
+    private Set<UUID> byTask(UUID taskId) {
+        return table().lookup(SubtaskMapping.TASK, taskId);
+    }
+
+    private static List<TaskDeadline> deadlines(List<SubtaskMapping.Row> rows) {
+        return rows.stream().map(row -> new TaskDeadline(row.taskId(), row.id(), row.dueAt())).toList();
+    }
+
+    private static List<SubtaskResponseDTO> responses(List<SubtaskMapping.Row> rows) {
+        return rows.stream()
+            .map(row -> new SubtaskResponseDTO(row.id(), row.title(), row.description(), row.status(),
+                row.createdAt(), row.updatedAt(), row.completedAt(), row.dueAt(), row.taskId(), row.parentId()))
+            .toList();
+    }
+}
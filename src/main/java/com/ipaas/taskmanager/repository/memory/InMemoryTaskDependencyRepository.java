@@ -0,0 +1,72 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.TaskDependency;
+import com.ipaas.taskmanager.dto.response.TaskDependencyResponseDTO;
+import com.ipaas.taskmanager.repository.TaskDependencyRepository;
+
+class InMemoryTaskDependencyRepository extends InMemoryJpaRepository<TaskDependency, UUID, TaskDependencyMapping.Row>
+        implements TaskDependencyRepository {
+
+    private final TaskMapping taskMapping;
+
+    InMemoryTaskDependencyRepository(InMemoryDatabase database, TaskDependencyMapping mapping, TaskMapping taskMapping) {
+        super(database, mapping);
+        this.taskMapping = taskMapping;
+    }
+
+    @Override
+    public Optional<TaskDependency> findByTaskIdAndDependsOnId(UUID taskId, UUID dependsOnId) {
+        return select(table().lookup(TaskDependencyMapping.TASK, taskId),
+            row -> taskId.equals(row.taskId()) && dependsOnId.equals(row.dependsOnId())).stream().findFirst();
+    }
+
+    @Override
+    public List<UUID> findDependsOnIdsByTaskIdIn(Collection<UUID> taskIds) {
+        return inUnitOfWork(unitOfWork -> unitOfWork.query(mapping, byTasks(taskIds), row -> taskIds.contains(row.taskId())))
+            .stream()
+            .map(TaskDependencyMapping.Row::dependsOnId)
+            .distinct()
+            .toList();
+    }
+
+    @Override
+    public List<TaskDependencyResponseDTO> findResponsesByTaskId(UUID taskId) {
+        List<TaskDependencyMapping.Row> dependencies = rows(table().lookup(TaskDependencyMapping.TASK, taskId),
+            row -> taskId.equals(row.taskId()));
+        return inUnitOfWork(unitOfWork -> dependencies.stream()
+            .sorted(Comparator.comparing(TaskDependencyMapping.Row::createdAt))
+            .map(dependency -> {
+                TaskMapping.Row prerequisite = unitOfWork.row(taskMapping, dependency.dependsOnId());
+                return prerequisite == null ? null : new TaskDependencyResponseDTO(dependency.taskId(),
+                    prerequisite.id(), prerequisite.title(), prerequisite.status(), dependency.createdAt());
+            })
+            .filter(response -> response != null)
+            .toList());
+    }
+
+    @Override
+    public int deleteAllTouchingTaskIdIn(Collection<UUID> taskIds) {
+        return inUnitOfWork(unitOfWork -> {
+            Set<UUID> candidates = byTasks(taskIds);
+            taskIds.forEach(taskId -> candidates.addAll(table().lookup(TaskDependencyMapping.DEPENDS_ON, taskId)));
+            List<TaskDependency> dependencies = unitOfWork.select(mapping, candidates,
+                row -> taskIds.contains(row.taskId()) || taskIds.contains(row.dependsOnId()));
+            dependencies.forEach(unitOfWork::remove);
+            return dependencies.size();
+        });
+    }
+
+    private Set<UUID> byTasks(Collection<UUID> taskIds) {
+        Set<UUID> ids = new HashSet<>();
+        taskIds.forEach(taskId -> ids.addAll(table().lookup(TaskDependencyMapping.TASK, taskId)));
+        return ids;
+    }
+}
@@ -0,0 +1,221 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.repository.TaskFilter;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.projection.TaskDeadline;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+import com.ipaas.taskmanager.repository.projection.TaskTitle;
+
+class InMemoryTaskRepository extends InMemoryJpaRepository<Task, UUID, TaskMapping.Row> implements TaskRepository {
+
+    private static final String PENDING_DEPENDENCIES = "pendingDependencies";
+
+    private final UserMapping userMapping;
+    private final TaskDependencyMapping dependencyMapping;
+
+    InMemoryTaskRepository(InMemoryDatabase database, TaskMapping mapping, UserMapping userMapping,
+            TaskDependencyMapping dependencyMapping) {
+        super(database, mapping);
+        this.userMapping = userMapping;
+        this.dependencyMapping = dependencyMapping;
+    }
+
+    @Override
+    public Page<TaskSummary> findTaskSummaries(TaskFilter filter, boolean includeDescription, Pageable pageable) {
+        List<TaskMapping.Row> matching = rows(candidates(filter.userId(), filter.status()), matches(filter));
+        List<TaskSummary> content = summaries(page(matching, pageable.getSort(), pageable), includeDescription);
+        return PageableExecutionUtils.getPage(content, pageable, matching::size);
+    }
+
+    @Override
+    public Stream<TaskSummary> streamTasksWithFilters(UUID userId, TaskStatus status) {
+        return summaries(rows(candidates(userId, status), matches(TaskFilter.of(userId, status))), true).stream();
+    }
+
+    @Override
+    public Optional<TaskSummary> findSummaryById(UUID taskId) {
+        return summaries(rows(Set.of(taskId), row -> true), true).stream().findFirst();
+    }
+
+    @Override
+    public List<TaskTitle> findTitlesByUserId(UUID userId) {
+        return rows(table().lookup(TaskMapping.USER, userId), row -> userId.equals(row.userId())).stream()
+            .map(row -> new TaskTitle(row.id(), row.title()))
+            .toList();
+    }
+
+    @Override
+    public List<UUID> findIdsByStatusAndCompletedAtBefore(TaskStatus status, LocalDateTime completedBefore,
+            Pageable pageable) {
+        List<TaskMapping.Row> matching = rows(table().lookup(TaskMapping.STATUS, status),
+            row -> row.status() == status && row.completedAt() != null && row.completedAt().isBefore(completedBefore));
+        return page(matching, Sort.by("completedAt"), pageable).stream().map(TaskMapping.Row::id).toList();
+    }
+
+    @Override
+    public Page<TaskSummary> findReadyTasks(UUID userId, Pageable pageable) {
+        List<TaskMapping.Row> ready = rows(table().lookup(TaskMapping.USER, userId),
+            row -> userId.equals(row.userId()) && row.status() == TaskStatus.PENDING && row.pendingDependencies() == 0);
+        return PageableExecutionUtils.getPage(summaries(page(ready, Sort.by("createdAt"), pageable), true),
+            pageable, ready::size);
+    }
+
+    @Override
+    public Page<TaskSummary> findOverdueTasks(UUID userId, LocalDateTime now, Pageable pageable) {
+        List<TaskMapping.Row> overdue = rows(table().lookup(TaskMapping.USER, userId),
+            row -> userId.equals(row.userId()) && row.status() != TaskStatus.COMPLETED && before(row.dueAt(), now));
+        return PageableExecutionUtils.getPage(summaries(page(overdue, Sort.by("dueAt"), pageable), true),
+            pageable, overdue::size);
+    }
+
+    @Override
+    public Stream<TaskDeadline> streamOpenDeadlines() {
+        return deadlines(rows(null, TaskMapping.Row::hasOpenDeadline)).stream();
+    }
+
+    @Override
+    public List<TaskDeadline> findOpenDeadlinesByIdIn(Collection<UUID> taskIds) {
+        return deadlines(rows(taskIds, TaskMapping.Row::hasOpenDeadline));
+    }
+
+    @Override
+    public List<Task> findClaimableTasks(UUID userId, Pageable pageable) {
+        return lockFirst(page(rows(table().lookup(TaskMapping.USER, userId), claimable(userId)), Sort.by("createdAt"),
+            Pageable.unpaged()), claimable(userId), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Task> findExpiredLeases(LocalDateTime now, Pageable pageable) {
+        return lockFirst(page(rows(table().lookup(TaskMapping.STATUS, TaskStatus.IN_PROGRESS), expiredLease(now)),
+            Sort.by("leaseExpiresAt"), Pageable.unpaged()), expiredLease(now), pageable.getPageSize());
+    }
+
+    @Override
+    public Optional<Task> findByIdForUpdate(UUID taskId) {
+        return inUnitOfWork(unitOfWork -> {
+            database.lockRow(unitOfWork, Task.class, taskId);
+            return Optional.ofNullable(unitOfWork.find(Task.class, taskId));
+        });
+    }
+
+    @Override
+    public int adjustPendingDependencies(UUID taskId, int delta) {
+        return inUnitOfWork(unitOfWork -> {
+            if (unitOfWork.row(mapping, taskId) == null) {
+                return 0;
+            }
+            unitOfWork.increment(Task.class, taskId, PENDING_DEPENDENCIES, delta);
+            return 1;
+        });
+    }
+
+    @Override
+    public int releaseDependents(UUID taskId) {
+        return inUnitOfWork(unitOfWork -> {
+            List<TaskDependencyMapping.Row> dependents = unitOfWork.query(dependencyMapping,
+                dependencyMapping.table().lookup(TaskDependencyMapping.DEPENDS_ON, taskId),
+                row -> taskId.equals(row.dependsOnId()));
+            dependents.forEach(dependency ->
+                unitOfWork.increment(Task.class, dependency.taskId(), PENDING_DEPENDENCIES, -1));
+            return dependents.size();
+        });
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<UUID> taskIds) {
+        return inUnitOfWork(unitOfWork -> {
+            List<Task> tasks = unitOfWork.select(mapping, taskIds, row -> true);
+            tasks.forEach(unitOfWork::remove);
+            return tasks.size();
+        });
+    }
+
+    private static Predicate<TaskMapping.Row> claimable(UUID userId) {
+        return row -> userId.equals(row.userId()) && row.status() == TaskStatus.PENDING && row.pendingDependencies() == 0;
+    }
+
+    private static Predicate<TaskMapping.Row> expiredLease(LocalDateTime now) {
+        return row -> row.status() == TaskStatus.IN_PROGRESS && before(row.leaseExpiresAt(), now);
+    }
+
+    /**
+     * {@code FOR UPDATE SKIP LOCKED}: takes up to {@code limit} of the candidates whose lock is free
+     * and that still match once locked, in candidate order.
+     */
+    private List<Task> lockFirst(List<TaskMapping.Row> candidates, Predicate<TaskMapping.Row> filter, int limit) {
+        return inUnitOfWork(unitOfWork -> {
+            List<Task> locked = new ArrayList<>();
+            for (TaskMapping.Row candidate : candidates) {
+                if (locked.size() == limit) {
+                    break;
+                }
+                if (database.tryLockRow(unitOfWork, Task.class, candidate.id())) {
+                    TaskMapping.Row current = table().get(candidate.id());
+                    if (current != null && filter.test(current)) {
+                        locked.add(unitOfWork.find(Task.class, candidate.id()));
+                    }
+                }
+            }
+            return locked;
+        });
+    }
+
+    /** The narrowest index for the filter, or {@code null} to scan every row. */
+    private Collection<UUID> candidates(UUID userId, TaskStatus status) {
+        if (userId != null) {
+            return table().lookup(TaskMapping.USER, userId);
+        }
+        return status != null ? table().lookup(TaskMapping.STATUS, status) : null;
+    }
+
+    private static Predicate<TaskMapping.Row> matches(TaskFilter filter) {
+        return row -> (filter.userId() == null || filter.userId().equals(row.userId()))
+            && (filter.status() == null || filter.status() == row.status())
+            && matchesTitle(row.title(), filter.titlePattern())
+            && atOrAfter(row.createdAt(), filter.createdFrom())
+            && before(row.createdAt(), filter.createdTo())
+            && atOrAfter(row.completedAt(), filter.completedFrom())
+            && before(row.completedAt(), filter.completedTo());
+    }
+
+    // As in SQL, a comparison against a NULL column is never true
+    private static boolean atOrAfter(LocalDateTime value, LocalDateTime from) {
+        return from == null || (value != null && !value.isBefore(from));
+    }
+
+    private static boolean before(LocalDateTime value, LocalDateTime to) {
+        return to == null || (value != null && value.isBefore(to));
+    }
+
+    private static List<TaskDeadline> deadlines(List<TaskMapping.Row> rows) {
+        return rows.stream().map(row -> new TaskDeadline(row.id(), row.dueAt())).toList();
+    }
+
+    private List<TaskSummary> summaries(List<TaskMapping.Row> rows, boolean includeDescription) {
+        return inUnitOfWork(unitOfWork -> rows.stream()
+            .map(row -> {
+                UserMapping.Row user = unitOfWork.row(userMapping, row.userId());
+                return new TaskSummary(row.id(), row.title(), includeDescription ? row.description() : null,
+                    row.status(), row.createdAt(), row.updatedAt(), row.completedAt(), row.dueAt(),
+                    row.userId(), user == null ? null : user.name(), user == null ? null : user.email());
+            })
+            .toList());
+    }
+}
@@ -0,0 +1,86 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+import com.ipaas.taskmanager.repository.search.SearchScoring;
+import com.ipaas.taskmanager.repository.search.TaskSearchRepository;
+
+/**
+ * Search over the in-memory tables. A user's tasks and their subtasks come from the secondary
+ * indexes; without a user every row is scanned.
+ */
+class InMemoryTaskSearchRepository implements TaskSearchRepository {
+
+    private final InMemoryDatabase database;
+    private final TaskMapping taskMapping;
+    private final SubtaskMapping subtaskMapping;
+
+    InMemoryTaskSearchRepository(InMemoryDatabase database, TaskMapping taskMapping, SubtaskMapping subtaskMapping) {
+        this.database = database;
+        this.taskMapping = taskMapping;
+        this.subtaskMapping = subtaskMapping;
+    }
+
+    @Override
+    public List<SearchResultDTO> search(String query, UUID userId, int limit, int offset) {
+        List<String> terms = SearchScoring.terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        return database.inUnitOfWork(unitOfWork -> {
+            List<TaskMapping.Row> tasks = unitOfWork.query(taskMapping,
+                userId == null ? null : taskMapping.table().lookup(TaskMapping.USER, userId),
+                row -> userId == null || userId.equals(row.userId()));
+
+            Set<UUID> taskIds = new HashSet<>();
+            Set<UUID> subtaskCandidates = new HashSet<>();
+            for (TaskMapping.Row task : tasks) {
+                taskIds.add(task.id());
+                subtaskCandidates.addAll(subtaskMapping.table().lookup(SubtaskMapping.TASK, task.id()));
+            }
+            List<SubtaskMapping.Row> subtasks = unitOfWork.query(subtaskMapping,
+                userId == null ? null : subtaskCandidates, row -> taskIds.contains(row.taskId()));
+
+            List<SearchResultDTO> hits = new ArrayList<>();
+            for (TaskMapping.Row task : tasks) {
+                addIfMatching(hits, SearchResultDTO.Type.TASK, task.id(), task.id(), task.title(), task.description(),
+                    task.status(), terms);
+            }
+            for (SubtaskMapping.Row subtask : subtasks) {
+                addIfMatching(hits, SearchResultDTO.Type.SUBTASK, subtask.id(), subtask.taskId(), subtask.title(),
+                    subtask.description(), subtask.status(), terms);
+            }
+
+            return hits.stream()
+                .sorted(Comparator.comparingDouble(SearchResultDTO::getScore).reversed())
+                .skip(offset)
+                .limit(limit)
+                .toList();
+        });
+    }
+
+    private static void addIfMatching(List<SearchResultDTO> hits, SearchResultDTO.Type type, UUID id, UUID taskId,
+            String title, String description, TaskStatus status, List<String> terms) {
+        if (!SearchScoring.matchesAll(title, description, terms)) {
+            return;
+        }
+        hits.add(SearchResultDTO.builder()
+            .type(type)
+            .id(id)
+            .taskId(taskId)
+            .title(title)
+            .status(status)
+            .score(SearchScoring.score(title, description, terms))
+            .titleHighlight(SearchScoring.highlight(title, terms))
+            .descriptionHighlight(SearchScoring.fragment(description, terms))
+            .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.ThroughputBucket;
+import com.ipaas.taskmanager.domain.enums.BucketGranularity;
+import com.ipaas.taskmanager.repository.ThroughputBucketRepository;
+import com.ipaas.taskmanager.repository.projection.ThroughputTotal;
+
+class InMemoryThroughputBucketRepository extends InMemoryJpaRepository<ThroughputBucket, String, ThroughputBucketMapping.Row>
+        implements ThroughputBucketRepository {
+
+    InMemoryThroughputBucketRepository(InMemoryDatabase database, ThroughputBucketMapping mapping) {
+        super(database, mapping);
+    }
+
+    @Override
+    public int addCounts(String id, BucketGranularity granularity, UUID userId, LocalDateTime bucketStart,
+            long tasksCreated, long tasksCompleted, long subtasksCreated, long subtasksCompleted) {
+        return inUnitOfWork(unitOfWork -> {
+            database.lockRow(unitOfWork, ThroughputBucket.class, id);
+            ThroughputBucket bucket = unitOfWork.find(ThroughputBucket.class, id);
+            if (bucket == null) {
+                bucket = unitOfWork.persist(ThroughputBucket.builder()
+                    .id(id)
+                    .granularity(granularity)
+                    .userId(userId)
+                    .bucketStart(bucketStart)
+                    .build());
+            }
+            bucket.setTasksCreated(bucket.getTasksCreated() + tasksCreated);
+            bucket.setTasksCompleted(bucket.getTasksCompleted() + tasksCompleted);
+            bucket.setSubtasksCreated(bucket.getSubtasksCreated() + subtasksCreated);
+            bucket.setSubtasksCompleted(bucket.getSubtasksCompleted() + subtasksCompleted);
+            return 1;
+        });
+    }
+
+    @Override
+    public List<ThroughputBucket> findUserBuckets(UUID userId, BucketGranularity granularity, LocalDateTime from,
+            LocalDateTime to) {
+        return select(table().lookup(ThroughputBucketMapping.USER, userId),
+            row -> userId.equals(row.userId()) && row.in(granularity, from, to));
+    }
+
+    @Override
+    public List<ThroughputTotal> findTotalBuckets(BucketGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, ThroughputTotal> totals = new TreeMap<>();
+        rows(null, row -> row.userId() != null && row.in(granularity, from, to)).forEach(row ->
+            totals.merge(row.bucketStart(), new ThroughputTotal(row.bucketStart(), row.tasksCreated(),
+                row.tasksCompleted(), row.subtasksCreated(), row.subtasksCompleted()),
+                (sum, more) -> new ThroughputTotal(sum.bucketStart(), sum.tasksCreated() + more.tasksCreated(),
+                    sum.tasksCompleted() + more.tasksCompleted(), sum.subtasksCreated() + more.subtasksCreated(),
+                    sum.subtasksCompleted() + more.subtasksCompleted())));
+        return List.copyOf(totals.values());
+    }
+
+    @Override
+    public int deleteBucketsBefore(BucketGranularity granularity, LocalDateTime before) {
+        return inUnitOfWork(unitOfWork -> {
+            List<ThroughputBucket> expired = unitOfWork.select(mapping, null,
+                row -> row.granularity() == granularity && row.bucketStart().isBefore(before));
+            expired.forEach(unitOfWork::remove);
+            return expired.size();
+        });
+    }
+}
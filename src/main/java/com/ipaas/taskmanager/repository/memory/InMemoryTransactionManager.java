@@ -0,0 +1,92 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Binds a {@link UnitOfWork} to the thread for each transaction and commits it into the
+ * {@link InMemoryDatabase}. Supports the usual propagation rules, including suspension for
+ * {@code REQUIRES_NEW}.
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final InMemoryDatabase database;
+
+    public InMemoryTransactionManager(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new TransactionObject((UnitOfWork) TransactionSynchronizationManager.getResource(database));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((TransactionObject) transaction).unitOfWork != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionObject transactionObject = (TransactionObject) transaction;
+        transactionObject.unitOfWork = database.newUnitOfWork(definition.isReadOnly());
+        TransactionSynchronizationManager.bindResource(database, transactionObject.unitOfWork);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((TransactionObject) transaction).unitOfWork = null;
+        return TransactionSynchronizationManager.unbindResource(database);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(database, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        database.commit(((TransactionObject) status.getTransaction()).unitOfWork);
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // Nothing reached the tables; the unit of work is dropped on cleanup
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((TransactionObject) status.getTransaction()).unitOfWork.setRollbackOnly();
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionObject transactionObject = (TransactionObject) transaction;
+        TransactionSynchronizationManager.unbindResourceIfPossible(database);
+        transactionObject.unitOfWork.release();
+    }
+
+    private static final class TransactionObject implements SmartTransactionObject {
+
+        private UnitOfWork unitOfWork;
+
+        private TransactionObject(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return unitOfWork != null && unitOfWork.isRollbackOnly();
+        }
+
+        @Override
+        public void flush() {
+            if (unitOfWork != null) {
+                unitOfWork.flush();
+            }
+        }
+    }
+}
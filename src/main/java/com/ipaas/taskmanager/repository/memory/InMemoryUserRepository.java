@@ -0,0 +1,38 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.repository.UserRepository;
+
+class InMemoryUserRepository extends InMemoryJpaRepository<User, UUID, UserMapping.Row> implements UserRepository {
+
+    InMemoryUserRepository(InMemoryDatabase database, UserMapping mapping) {
+        super(database, mapping);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return select(table().lookup(UserMapping.EMAIL, email), row -> email.equals(row.email())).stream().findFirst();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return !rows(table().lookup(UserMapping.EMAIL, email), row -> email.equals(row.email())).isEmpty();
+    }
+
+    @Override
+    public boolean existsByEmailAndIdNot(String email, UUID id) {
+        return !rows(table().lookup(UserMapping.EMAIL, email),
+            row -> email.equals(row.email()) && !row.id().equals(id)).isEmpty();
+    }
+
+    @Override
+    public Optional<User> findByIdForUpdate(UUID userId) {
+        return inUnitOfWork(unitOfWork -> {
+            database.lockRow(unitOfWork, User.class, userId);
+            return Optional.ofNullable(unitOfWork.find(User.class, userId));
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Secondary index over one column of a {@link Table}. Entries are only changed while a commit is
+ * published; lookups return live views, resolved when the reading query iterates them.
+ */
+final class Index<ID, R> {
+
+    private final Function<R, ?> key;
+    private final boolean unique;
+    private final Map<Object, Set<ID>> entries;
+
+    private Index(Function<R, ?> key, boolean unique, boolean sorted) {
+        this.key = key;
+        this.unique = unique;
+        this.entries = sorted ? new ConcurrentSkipListMap<>() : new ConcurrentHashMap<>();
+    }
+
+    static <ID, R> Index<ID, R> hash(Function<R, ?> key) {
+        return new Index<>(key, false, false);
+    }
+
+    static <ID, R> Index<ID, R> unique(Function<R, ?> key) {
+        return new Index<>(key, true, false);
+    }
+
+    /** Keys must be mutually comparable; supports {@link #prefix} range scans. */
+    static <ID, R> Index<ID, R> sorted(Function<R, ?> key) {
+        return new Index<>(key, false, true);
+    }
+
+    boolean isUnique() {
+        return unique;
+    }
+
+    Object keyOf(R row) {
+        return key.apply(row);
+    }
+
+    /** Live view of the ids for {@code value}, resolved each time it is iterated. */
+    Set<ID> get(Object value) {
+        return new View<>(() -> entries.getOrDefault(value, Set.of()));
+    }
+
+    /** Live view of the ids of rows whose (string) key starts with {@code prefix}. */
+    @SuppressWarnings("unchecked")
+    Set<ID> prefix(String prefix) {
+        return new View<>(() -> {
+            Set<ID> ids = new HashSet<>();
+            ((NavigableMap<Object, Set<ID>>) entries).subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()
+                .forEach(ids::addAll);
+            return ids;
+        });
+    }
+
+    void add(ID id, R row) {
+        Object value = key.apply(row);
+        if (value != null) {
+            entries.computeIfAbsent(value, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    void remove(ID id, R row) {
+        Object value = key.apply(row);
+        if (value == null) {
+            return;
+        }
+        Set<ID> ids = entries.get(value);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                entries.remove(value, ids);
+            }
+        }
+    }
+
+    /**
+     * Set whose contents are looked up on every access, so a lookup taken before a read is evaluated
+     * against the state that read sees.
+     */
+    private static final class View<ID> extends AbstractSet<ID> {
+
+        private final Supplier<Set<ID>> ids;
+
+        View(Supplier<Set<ID>> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public Iterator<ID> iterator() {
+            return Collections.unmodifiableSet(ids.get()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return ids.get().size();
+        }
+
+        @Override
+        public boolean contains(Object id) {
+            return ids.get().contains(id);
+        }
+    }
+}
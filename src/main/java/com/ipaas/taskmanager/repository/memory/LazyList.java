@@ -0,0 +1,69 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One-to-many association loaded on first access, like Hibernate's {@code PersistentBag}.
+ * Equality is identity and {@code toString} does not print the elements, so the Lombok
+ * {@code equals}/{@code toString} of the owning entity do not walk back through the children.
+ * Changes to the list are not persisted; children are saved through their own repository.
+ */
+final class LazyList<E> extends AbstractList<E> {
+
+    private final Supplier<List<E>> loader;
+    private List<E> elements;
+
+    LazyList(Supplier<List<E>> loader) {
+        this.loader = loader;
+    }
+
+    private List<E> elements() {
+        if (elements == null) {
+            elements = new ArrayList<>(loader.get());
+        }
+        return elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return elements().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements().add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return elements().remove(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return elements == null ? "[uninitialized]" : "[" + elements.size() + " elements]";
+    }
+}
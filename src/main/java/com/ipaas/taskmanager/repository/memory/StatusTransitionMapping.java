@@ -0,0 +1,59 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ipaas.taskmanager.domain.entity.StatusTransition;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+final class StatusTransitionMapping extends EntityMapping<StatusTransition, Long, StatusTransitionMapping.Row> {
+
+    static final String TASK = "task";
+
+    // The sequence; starts after the highest id recovered from the write-ahead log
+    private final AtomicLong lastId = new AtomicLong(-1);
+
+    StatusTransitionMapping() {
+        super(StatusTransition.class, new Table<>("status_history", Long.class, Row.class, Row::id)
+            .withIndex(TASK, Index.hash(Row::taskId)));
+    }
+
+    @Override
+    Long idOf(StatusTransition transition) {
+        return transition.getId();
+    }
+
+    @Override
+    void generateId(StatusTransition transition) {
+        lastId.compareAndSet(-1, table().rows().stream().mapToLong(Row::id).max().orElse(0));
+        transition.setId(lastId.incrementAndGet());
+    }
+
+    @Override
+    Row toRow(StatusTransition transition) {
+        return new Row(transition.getId(), transition.getTaskId(), transition.getSubtaskId(),
+            transition.getFromStatus(), transition.getToStatus(), transition.getChangedAt());
+    }
+
+    @Override
+    StatusTransition toEntity(Row row, UnitOfWork unitOfWork) {
+        return StatusTransition.builder()
+            .id(row.id())
+            .taskId(row.taskId())
+            .subtaskId(row.subtaskId())
+            .fromStatus(row.fromStatus())
+            .toStatus(row.toStatus())
+            .changedAt(row.changedAt())
+            .build();
+    }
+
+    record Row(
+            Long id,
+            UUID taskId,
+            UUID subtaskId,
+            TaskStatus fromStatus,
+            TaskStatus toStatus,
+            LocalDateTime changedAt) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+final class SubtaskMapping extends EntityMapping<Subtask, UUID, SubtaskMapping.Row> {
+
+    static final String TASK = "task";
+    /** Sorted, so the descendants of a subtask are one prefix range like {@code idx_subtasks_path}. */
+    static final String PATH = "path";
+
+    SubtaskMapping() {
+        super(Subtask.class, new Table<>("subtasks", UUID.class, Row.class, Row::id)
+            .withIndex(TASK, Index.hash(Row::taskId))
+            .withIndex(PATH, Index.sorted(Row::path)));
+    }
+
+    @Override
+    UUID idOf(Subtask subtask) {
+        return subtask.getId();
+    }
+
+    @Override
+    void generateId(Subtask subtask) {
+        subtask.setId(UUID.randomUUID());
+    }
+
+    @Override
+    Row toRow(Subtask subtask) {
+        return new Row(subtask.getId(), subtask.getTitle(), subtask.getDescription(), subtask.getStatus(),
+            subtask.getCreatedAt(), subtask.getUpdatedAt(), subtask.getCompletedAt(), subtask.getDueAt(),
+            subtask.getTask() == null ? null : subtask.getTask().getId(),
+            subtask.getParent() == null ? null : subtask.getParent().getId(),
+            subtask.getPath());
+    }
+
+    @Override
+    Subtask toEntity(Row row, UnitOfWork unitOfWork) {
+        return Subtask.builder()
+            .id(row.id())
+            .title(row.title())
+            .description(row.description())
+            .status(row.status())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .completedAt(row.completedAt())
+            .dueAt(row.dueAt())
+            .task(unitOfWork.find(Task.class, row.taskId()))
+            .parent(unitOfWork.find(Subtask.class, row.parentId()))
+            .path(row.path())
+            .build();
+    }
+
+    record Row(
+            UUID id,
+            String title,
+            String description,
+            TaskStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime completedAt,
+            LocalDateTime dueAt,
+            UUID taskId,
+            UUID parentId,
+            String path) {
+
+        boolean hasOpenDeadline() {
+            return dueAt != null && status != TaskStatus.COMPLETED;
+        }
+    }
+}
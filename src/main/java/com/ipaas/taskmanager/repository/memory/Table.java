@@ -0,0 +1,201 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Committed rows of one entity type, keyed by id, plus their secondary indexes. Rows are
+ * immutable records; entities are materialized from them per unit of work.
+ */
+final class Table<ID, R extends Record> {
+
+    private final String name;
+    private final Class<ID> idType;
+    private final Class<R> rowType;
+    private final Function<R, ID> idOf;
+    private final ConcurrentHashMap<ID, R> rows = new ConcurrentHashMap<>();
+    private final Map<String, Index<ID, R>> indexes = new LinkedHashMap<>();
+    private final RecordComponent[] components;
+    private final Constructor<R> constructor;
+
+    Table(String name, Class<ID> idType, Class<R> rowType, Function<R, ID> idOf) {
+        this.name = name;
+        this.idType = idType;
+        this.rowType = rowType;
+        this.idOf = idOf;
+        this.components = rowType.getRecordComponents();
+        try {
+            this.constructor = rowType.getDeclaredConstructor(
+                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Row type without canonical constructor: " + rowType, e);
+        }
+    }
+
+    Table<ID, R> withIndex(String indexName, Index<ID, R> index) {
+        indexes.put(indexName, index);
+        return this;
+    }
+
+    String name() {
+        return name;
+    }
+
+    Class<ID> idType() {
+        return idType;
+    }
+
+    Class<R> rowType() {
+        return rowType;
+    }
+
+    ID idOf(R row) {
+        return idOf.apply(row);
+    }
+
+    R get(Object id) {
+        return rows.get(id);
+    }
+
+    Collection<R> rows() {
+        return rows.values();
+    }
+
+    Set<ID> ids() {
+        return rows.keySet();
+    }
+
+    /** Value of the column (record component) {@code column} of {@code row}. */
+    Object column(R row, String column) {
+        for (RecordComponent component : components) {
+            if (component.getName().equals(column)) {
+                return value(component, row);
+            }
+        }
+        throw new IllegalArgumentException("No column " + column + " on " + name);
+    }
+
+    Set<ID> lookup(String indexName, Object value) {
+        return index(indexName).get(value);
+    }
+
+    Set<ID> lookupPrefix(String indexName, String prefix) {
+        return index(indexName).prefix(prefix);
+    }
+
+    private Index<ID, R> index(String indexName) {
+        Index<ID, R> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("No index " + indexName + " on " + name);
+        }
+        return index;
+    }
+
+    /** Fails like a database unique constraint when another row already holds a unique key of {@code row}. */
+    void checkUnique(R row) {
+        ID id = idOf(row);
+        for (Map.Entry<String, Index<ID, R>> entry : indexes.entrySet()) {
+            Index<ID, R> index = entry.getValue();
+            Object value = index.keyOf(row);
+            if (index.isUnique() && value != null
+                    && index.get(value).stream().anyMatch(other -> !other.equals(id))) {
+                throw new DataIntegrityViolationException(
+                    "Unique index " + entry.getKey() + " on " + name + " violated by " + value);
+            }
+        }
+    }
+
+    /** {@code index=value} for every unique index of {@code row}. */
+    List<String> uniqueKeys(R row) {
+        List<String> keys = new ArrayList<>();
+        indexes.forEach((indexName, index) -> {
+            Object value = index.keyOf(row);
+            if (index.isUnique() && value != null) {
+                keys.add(indexName + "=" + value);
+            }
+        });
+        return keys;
+    }
+
+    /** Must be called with the database commit lock held. */
+    void put(R row) {
+        ID id = idOf(row);
+        R previous = rows.put(id, row);
+        for (Index<ID, R> index : indexes.values()) {
+            if (previous != null) {
+                index.remove(id, previous);
+            }
+            index.add(id, row);
+        }
+    }
+
+    /** Must be called with the database commit lock held. */
+    void remove(Object id) {
+        R previous = rows.remove(id);
+        if (previous != null) {
+            for (Index<ID, R> index : indexes.values()) {
+                index.remove(idOf(previous), previous);
+            }
+        }
+    }
+
+    /**
+     * Column-level merge for concurrent writers: columns this transaction changed since it read
+     * {@code snapshot} come from {@code current}, the others from the latest committed row. This
+     * is what an SQL UPDATE of only the dirty columns does.
+     */
+    R merge(R snapshot, R current, R latest) {
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Object mine = value(components[i], current);
+            values[i] = Objects.equals(mine, value(components[i], snapshot)) ? value(components[i], latest) : mine;
+        }
+        return newRow(values);
+    }
+
+    /** Adds {@code delta} to the integer column {@code column} of {@code row}. */
+    R increment(R row, String column, int delta) {
+        Object[] values = new Object[components.length];
+        boolean found = false;
+        for (int i = 0; i < components.length; i++) {
+            values[i] = value(components[i], row);
+            if (components[i].getName().equals(column)) {
+                values[i] = (Integer) values[i] + delta;
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("No column " + column + " on " + name);
+        }
+        return newRow(values);
+    }
+
+    private R newRow(Object[] values) {
+        try {
+            return constructor.newInstance(values);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build row of " + name, e);
+        }
+    }
+
+    private static Object value(RecordComponent component, Record row) {
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + component.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.TaskDependency;
+
+final class TaskDependencyMapping extends EntityMapping<TaskDependency, UUID, TaskDependencyMapping.Row> {
+
+    static final String TASK = "task";
+    static final String DEPENDS_ON = "dependsOn";
+    /** {@code uk_task_dependencies_edge}. */
+    static final String EDGE = "edge";
+
+    TaskDependencyMapping() {
+        super(TaskDependency.class, new Table<>("task_dependencies", UUID.class, Row.class, Row::id)
+            .withIndex(TASK, Index.hash(Row::taskId))
+            .withIndex(DEPENDS_ON, Index.hash(Row::dependsOnId))
+            .withIndex(EDGE, Index.unique(row -> row.taskId() + "/" + row.dependsOnId())));
+    }
+
+    @Override
+    UUID idOf(TaskDependency dependency) {
+        return dependency.getId();
+    }
+
+    @Override
+    void generateId(TaskDependency dependency) {
+        dependency.setId(UUID.randomUUID());
+    }
+
+    @Override
+    Row toRow(TaskDependency dependency) {
+        return new Row(dependency.getId(),
+            dependency.getTask() == null ? null : dependency.getTask().getId(),
+            dependency.getDependsOn() == null ? null : dependency.getDependsOn().getId(),
+            dependency.getCreatedAt());
+    }
+
+    @Override
+    TaskDependency toEntity(Row row, UnitOfWork unitOfWork) {
+        return TaskDependency.builder()
+            .id(row.id())
+            .task(unitOfWork.find(Task.class, row.taskId()))
+            .dependsOn(unitOfWork.find(Task.class, row.dependsOnId()))
+            .createdAt(row.createdAt())
+            .build();
+    }
+
+    record Row(UUID id, UUID taskId, UUID dependsOnId, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+final class TaskMapping extends EntityMapping<Task, UUID, TaskMapping.Row> {
+
+    static final String USER = "user";
+    static final String STATUS = "status";
+
+    private final SubtaskMapping subtaskMapping;
+
+    TaskMapping(SubtaskMapping subtaskMapping) {
+        super(Task.class, new Table<>("tasks", UUID.class, Row.class, Row::id)
+            .withIndex(USER, Index.hash(Row::userId))
+            .withIndex(STATUS, Index.hash(Row::status)));
+        this.subtaskMapping = subtaskMapping;
+    }
+
+    @Override
+    UUID idOf(Task task) {
+        return task.getId();
+    }
+
+    @Override
+    void generateId(Task task) {
+        task.setId(UUID.randomUUID());
+    }
+
+    @Override
+    Row toRow(Task task) {
+        return new Row(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getCreatedAt(),
+            task.getUpdatedAt(), task.getCompletedAt(), task.getDueAt(), task.getLeaseExpiresAt(), task.getLeaseToken(),
+            task.getPendingDependencies(), task.getUser() == null ? null : task.getUser().getId());
+    }
+
+    @Override
+    Task toEntity(Row row, UnitOfWork unitOfWork) {
+        return Task.builder()
+            .id(row.id())
+            .title(row.title())
+            .description(row.description())
+            .status(row.status())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .completedAt(row.completedAt())
+            .dueAt(row.dueAt())
+            .leaseExpiresAt(row.leaseExpiresAt())
+            .leaseToken(row.leaseToken())
+            .pendingDependencies(row.pendingDependencies())
+            .user(unitOfWork.find(User.class, row.userId()))
+            .subtasks(new LazyList<>(() -> unitOfWork.select(subtaskMapping,
+                subtaskMapping.table().lookup(SubtaskMapping.TASK, row.id()),
+                subtask -> row.id().equals(subtask.taskId()))))
+            .build();
+    }
+
+    record Row(
+            UUID id,
+            String title,
+            String description,
+            TaskStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime completedAt,
+            LocalDateTime dueAt,
+            LocalDateTime leaseExpiresAt,
+            UUID leaseToken,
+            int pendingDependencies,
+            UUID userId) {
+
+        boolean hasOpenDeadline() {
+            return dueAt != null && status != TaskStatus.COMPLETED;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.ThroughputBucket;
+import com.ipaas.taskmanager.domain.enums.BucketGranularity;
+
+final class ThroughputBucketMapping extends EntityMapping<ThroughputBucket, String, ThroughputBucketMapping.Row> {
+
+    static final String USER = "user";
+
+    ThroughputBucketMapping() {
+        super(ThroughputBucket.class, new Table<>("throughput_buckets", String.class, Row.class, Row::id)
+            .withIndex(USER, Index.hash(Row::userId)));
+    }
+
+    @Override
+    String idOf(ThroughputBucket bucket) {
+        return bucket.getId();
+    }
+
+    @Override
+    Row toRow(ThroughputBucket bucket) {
+        return new Row(bucket.getId(), bucket.getGranularity(), bucket.getUserId(), bucket.getBucketStart(),
+            bucket.getTasksCreated(), bucket.getTasksCompleted(), bucket.getSubtasksCreated(),
+            bucket.getSubtasksCompleted());
+    }
+
+    @Override
+    ThroughputBucket toEntity(Row row, UnitOfWork unitOfWork) {
+        return ThroughputBucket.builder()
+            .id(row.id())
+            .granularity(row.granularity())
+            .userId(row.userId())
+            .bucketStart(row.bucketStart())
+            .tasksCreated(row.tasksCreated())
+            .tasksCompleted(row.tasksCompleted())
+            .subtasksCreated(row.subtasksCreated())
+            .subtasksCompleted(row.subtasksCompleted())
+            .build();
+    }
+
+    record Row(
+            String id,
+            BucketGranularity granularity,
+            UUID userId,
+            LocalDateTime bucketStart,
+            long tasksCreated,
+            long tasksCompleted,
+            long subtasksCreated,
+            long subtasksCompleted) {
+
+        boolean in(BucketGranularity granularity, LocalDateTime from, LocalDateTime to) {
+            return this.granularity == granularity && !bucketStart.isBefore(from) && bucketStart.isBefore(to);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+
+/**
+ * Per-transaction persistence context: an identity map of the entities read or written in the
+ * transaction together with the row each one was read as. Nothing reaches the tables until
+ * {@link InMemoryDatabase#commit}, where dirty entities are detected by comparing rows, so a
+ * rolled back transaction simply drops its unit of work.
+ */
+final class UnitOfWork {
+
+    private final InMemoryDatabase database;
+    private final boolean readOnly;
+    private final Map<Key, Managed<?, ?, ?>> managed = new LinkedHashMap<>();
+    private final Map<Key, Map<String, Integer>> increments = new LinkedHashMap<>();
+    private final List<Lock> heldLocks = new ArrayList<>();
+    private boolean rollbackOnly;
+
+    UnitOfWork(InMemoryDatabase database, boolean readOnly) {
+        this.database = database;
+        this.readOnly = readOnly;
+    }
+
+    boolean isReadOnly() {
+        return readOnly;
+    }
+
+    boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    <E> E find(Class<E> type, Object id) {
+        if (id == null) {
+            return null;
+        }
+
+        Managed<?, ?, ?> entry = managed.get(new Key(type, id));
+        if (entry != null) {
+            return entry.removed ? null : type.cast(entry.entity);
+        }
+        return load(database.mapping(type), id);
+    }
+
+    private <E, ID, R extends Record> E load(EntityMapping<E, ID, R> mapping, Object id) {
+        R row = mapping.table().get(id);
+        if (row == null) {
+            return null;
+        }
+
+        E entity = mapping.toEntity(row, this);
+        managed.put(new Key(mapping.entityType(), id), new Managed<>(mapping, entity, row));
+        return entity;
+    }
+
+    /** Row of {@code id} as this transaction sees it, without materializing an entity. */
+    <E, ID, R extends Record> R row(EntityMapping<E, ID, R> mapping, Object id) {
+        Managed<?, ?, ?> entry = managed.get(new Key(mapping.entityType(), id));
+        if (entry != null) {
+            return entry.removed ? null : mapping.toRow(mapping.entityType().cast(entry.entity));
+        }
+        return mapping.table().get(id);
+    }
+
+    /**
+     * Rows matching {@code filter} as this transaction sees them: committed rows among
+     * {@code candidates} (all rows when {@code null}) overlaid with the entities of this unit of
+     * work, which may have been created or changed since they were read. Index lookups passed as
+     * {@code candidates} are resolved here, in the same read as the rows.
+     */
+    <E, ID, R extends Record> List<R> query(EntityMapping<E, ID, R> mapping, Collection<ID> candidates, Predicate<R> filter) {
+        return database.read(() -> queryCommitted(mapping, candidates, filter));
+    }
+
+    private <E, ID, R extends Record> List<R> queryCommitted(EntityMapping<E, ID, R> mapping, Collection<ID> candidates,
+            Predicate<R> filter) {
+        Map<Object, R> rows = new LinkedHashMap<>();
+        Iterable<ID> ids = candidates != null ? candidates : mapping.table().ids();
+        for (ID id : ids) {
+            if (managed.containsKey(new Key(mapping.entityType(), id))) {
+                continue;
+            }
+            R row = mapping.table().get(id);
+            if (row != null && filter.test(row)) {
+                rows.put(id, row);
+            }
+        }
+        for (Map.Entry<Key, Managed<?, ?, ?>> entry : managed.entrySet()) {
+            if (entry.getKey().type() == mapping.entityType() && !entry.getValue().removed) {
+                R row = mapping.toRow(mapping.entityType().cast(entry.getValue().entity));
+                if (filter.test(row)) {
+                    rows.put(entry.getKey().id(), row);
+                }
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    /** Entities for the rows {@link #query} returns, in the same order. */
+    <E, ID, R extends Record> List<E> select(EntityMapping<E, ID, R> mapping, Collection<ID> candidates, Predicate<R> filter) {
+        List<E> entities = new ArrayList<>();
+        for (R row : query(mapping, candidates, filter)) {
+            entities.add(find(mapping.entityType(), mapping.table().idOf(row)));
+        }
+        return entities;
+    }
+
+    <E> E persist(E entity) {
+        EntityMapping<E, ?, ?> mapping = database.mapping(entityClass(entity));
+        Key key = keyOf(mapping, entity);
+        if (key != null && managed.containsKey(key) && managed.get(key).entity == entity) {
+            return entity;
+        }
+
+        if (key == null) {
+            mapping.prePersist(entity);
+            mapping.generateId(entity);
+            register(mapping, entity, null);
+            return entity;
+        }
+
+        // An id was set by the caller: update the stored row when there is one, like merge()
+        Object existing = find(mapping.entityType(), key.id());
+        if (existing == null) {
+            mapping.prePersist(entity);
+            register(mapping, entity, null);
+        } else {
+            Managed<?, ?, ?> previous = managed.get(key);
+            register(mapping, entity, previous.snapshot);
+        }
+        return entity;
+    }
+
+    <E> void remove(E entity) {
+        EntityMapping<E, ?, ?> mapping = database.mapping(entityClass(entity));
+        Key key = keyOf(mapping, entity);
+        if (key == null || find(mapping.entityType(), key.id()) == null) {
+            return;
+        }
+        managed.get(key).removed = true;
+    }
+
+    /** Atomic {@code column = column + delta}, applied to the latest committed row at commit. */
+    void increment(Class<?> type, Object id, String column, int delta) {
+        increments.computeIfAbsent(new Key(type, id), key -> new LinkedHashMap<>())
+            .merge(column, delta, Integer::sum);
+    }
+
+    /** Holds {@code lock} until the transaction completes. */
+    void hold(Lock lock) {
+        lock.lock();
+        heldLocks.add(lock);
+    }
+
+    /** {@link #hold} without waiting: {@code false} if another transaction holds the lock. */
+    boolean tryHold(Lock lock) {
+        if (!lock.tryLock()) {
+            return false;
+        }
+        heldLocks.add(lock);
+        return true;
+    }
+
+    /** Validates constraints early, as a JPA flush would. */
+    void flush() {
+        for (Managed<?, ?, ?> entry : managed.values()) {
+            if (!entry.removed) {
+                entry.checkUnique();
+            }
+        }
+    }
+
+    Collection<Managed<?, ?, ?>> managedEntities() {
+        return managed.values();
+    }
+
+    Map<Key, Map<String, Integer>> increments() {
+        return increments;
+    }
+
+    void release() {
+        for (int i = heldLocks.size() - 1; i >= 0; i--) {
+            heldLocks.get(i).unlock();
+        }
+        heldLocks.clear();
+    }
+
+    private <E, ID, R extends Record> void register(EntityMapping<E, ID, R> mapping, Object entity, Record snapshot) {
+        E typed = mapping.entityType().cast(entity);
+        managed.put(new Key(mapping.entityType(), mapping.idOf(typed)),
+            new Managed<>(mapping, typed, mapping.table().rowType().cast(snapshot)));
+    }
+
+    private static <E> Key keyOf(EntityMapping<E, ?, ?> mapping, E entity) {
+        Object id = mapping.idOf(entity);
+        return id == null ? null : new Key(mapping.entityType(), id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Class<E> entityClass(E entity) {
+        return (Class<E>) entity.getClass();
+    }
+
+    record Key(Class<?> type, Object id) {
+    }
+
+    static final class Managed<E, ID, R extends Record> {
+
+        final EntityMapping<E, ID, R> mapping;
+        final E entity;
+        /** Row as read from the table; {@code null} for entities created in this transaction. */
+        final R snapshot;
+        boolean removed;
+
+        Managed(EntityMapping<E, ID, R> mapping, E entity, R snapshot) {
+            this.mapping = mapping;
+            this.entity = entity;
+            this.snapshot = snapshot;
+        }
+
+        R currentRow() {
+            return mapping.toRow(entity);
+        }
+
+        void checkUnique() {
+            mapping.table().checkUnique(currentRow());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.entity.User;
+
+final class UserMapping extends EntityMapping<User, UUID, UserMapping.Row> {
+
+    static final String EMAIL = "email";
+
+    UserMapping() {
+        super(User.class, new Table<>("users", UUID.class, Row.class, Row::id)
+            .withIndex(EMAIL, Index.unique(Row::email)));
+    }
+
+    @Override
+    UUID idOf(User user) {
+        return user.getId();
+    }
+
+    @Override
+    void generateId(User user) {
+        user.setId(UUID.randomUUID());
+    }
+
+    @Override
+    Row toRow(User user) {
+        return new Row(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt(),
+            user.getDeletedAt(), user.getActive());
+    }
+
+    @Override
+    User toEntity(Row row, UnitOfWork unitOfWork) {
+        return User.builder()
+            .id(row.id())
+            .name(row.name())
+            .email(row.email())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .deletedAt(row.deletedAt())
+            .active(row.active())
+            .build();
+    }
+
+    record Row(
+            UUID id,
+            String name,
+            String email,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime deletedAt,
+            Boolean active) {
+    }
+}
@@ -0,0 +1,256 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only redo log of committed transactions, one JSON line per commit. A commit is only
+ * applied to the tables after its line was written (and forced to disk when {@code fsync} is
+ * on), so replaying the file rebuilds every acknowledged commit. Only the last line can be torn
+ * by a crash; it is cut off, and an unreadable line before other commits stops startup. After a
+ * clean replay the log is compacted into one put per live row.
+ */
+@Slf4j
+final class WriteAheadLog implements AutoCloseable {
+
+    private static final int COMPACTION_ROWS_PER_LINE = 1000;
+
+    private final Path path;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private FileChannel channel;
+    private UncheckedIOException unusable;
+
+    WriteAheadLog(Path path, boolean fsync) {
+        this.path = path;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Rebuilds {@code tables} from the log and opens it for appending. A clean log is compacted;
+     * one whose last record is torn is only cut back to the last complete commit, with the torn
+     * bytes kept next to it. An unreadable record anywhere else fails startup.
+     *
+     * @return number of transactions replayed
+     */
+    int recover(Map<String, Table<?, ?>> tables) {
+        Replay replay = replay(tables);
+        if (replay.tornAt() < 0) {
+            compact(tables);
+        } else {
+            dropTornTail(replay.tornAt());
+        }
+        return replay.transactions();
+    }
+
+    private Replay replay(Map<String, Table<?, ?>> tables) {
+        if (!Files.exists(path)) {
+            return new Replay(0, -1);
+        }
+
+        int transactions = 0;
+        long offset = 0;
+        long tornAt = -1;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            for (int b = in.read(); b != -1 || line.size() > 0; b = in.read()) {
+                if (b != -1 && b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                long start = offset;
+                offset += line.size() + (b == -1 ? 0 : 1);
+                String text = line.toString(StandardCharsets.UTF_8);
+                line.reset();
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (tornAt >= 0) {
+                    throw new IllegalStateException("Write-ahead log " + path + " has an unreadable entry at byte "
+                        + tornAt + " followed by further commits; refusing to start with a partial replay");
+                }
+
+                JsonNode commit;
+                try {
+                    commit = objectMapper.readTree(text);
+                } catch (JsonProcessingException e) {
+                    tornAt = start;
+                    continue;
+                }
+                for (JsonNode change : commit) {
+                    replay(tables.get(change.get("table").asText()), change);
+                }
+                transactions++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read write-ahead log " + path, e);
+        }
+        return new Replay(transactions, tornAt);
+    }
+
+    /** Cuts the log back to {@code length} bytes, saving what follows, and opens it for appending. */
+    private void dropTornTail(long length) {
+        Path torn = path.resolveSibling(path.getFileName() + ".torn-" + System.currentTimeMillis());
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            try (FileChannel out = FileChannel.open(torn, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                file.transferTo(length, file.size() - length, out);
+                out.force(true);
+            }
+            file.truncate(length);
+            file.force(true);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate write-ahead log " + path, e);
+        }
+        log.warn("Dropped a torn last entry from write-ahead log {}; saved it to {}", path, torn);
+    }
+
+    private <ID, R extends Record> void replay(Table<ID, R> table, JsonNode change) throws JsonProcessingException {
+        JsonNode row = change.get("row");
+        if (row == null || row.isNull()) {
+            table.remove(objectMapper.treeToValue(change.get("id"), table.idType()));
+        } else {
+            table.put(objectMapper.treeToValue(row, table.rowType()));
+        }
+    }
+
+    /** Rewrites the log as a snapshot of {@code tables} and opens it for appending. */
+    private void compact(Map<String, Table<?, ?>> tables) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path snapshot = Files.createTempFile(parent, path.getFileName().toString(), ".compact");
+
+            try (FileChannel out = FileChannel.open(snapshot, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (Table<?, ?> table : tables.values()) {
+                    Iterator<? extends Record> rows = table.rows().iterator();
+                    while (rows.hasNext()) {
+                        List<Change> chunk = new ArrayList<>(COMPACTION_ROWS_PER_LINE);
+                        while (rows.hasNext() && chunk.size() < COMPACTION_ROWS_PER_LINE) {
+                            Record row = rows.next();
+                            chunk.add(Change.put(table, idOf(table, row), row));
+                        }
+                        write(out, chunk);
+                    }
+                }
+                out.force(true);
+            }
+            Files.move(snapshot, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact write-ahead log " + path, e);
+        }
+    }
+
+    /**
+     * Called with the database commit lock held. A failed append is cut back off the log, so the
+     * next commit does not land behind a partial line; if that fails too, the log refuses further
+     * appends, since a later commit after the torn line would make the log unreadable at startup.
+     */
+    void append(List<Change> changes) {
+        if (unusable != null) {
+            throw new IllegalStateException("Write-ahead log " + path + " could not be repaired after a failed append", unusable);
+        }
+        long end = -1;
+        try {
+            // The end of the file rather than position(), which is unspecified for a channel in append mode
+            end = channel.size();
+            write(channel, changes);
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException("Cannot append to write-ahead log " + path, e);
+            if (end >= 0) {
+                truncate(end, failure);
+            }
+            throw failure;
+        }
+    }
+
+    private void truncate(long length, UncheckedIOException failure) {
+        try {
+            channel.truncate(length);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+            unusable = failure;
+            log.error("Could not cut a failed append off write-ahead log {}; refusing further commits", path, e);
+        }
+    }
+
+    private void write(FileChannel out, List<Change> changes) throws IOException {
+        ArrayNode commit = objectMapper.createArrayNode();
+        for (Change change : changes) {
+            ObjectNode node = commit.addObject();
+            node.put("table", change.table().name());
+            node.set("id", objectMapper.valueToTree(change.id()));
+            node.set("row", objectMapper.valueToTree(change.row()));
+        }
+
+        ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(commit) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            out.write(line);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ID, R extends Record> Object idOf(Table<ID, R> table, Record row) {
+        return table.idOf((R) row);
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Could not close write-ahead log {}", path, e);
+        }
+    }
+
+    /** A row written ({@code row} set) or deleted ({@code row} null) by a commit. */
+    record Change(Table<?, ?> table, Object id, Record row) {
+
+        static Change put(Table<?, ?> table, Object id, Record row) {
+            return new Change(table, id, row);
+        }
+
+        static Change delete(Table<?, ?> table, Object id) {
+            return new Change(table, id, null);
+        }
+    }
+
+    /** {@code tornAt} is the byte offset of a torn last entry, or -1 when the log was read to the end. */
+    private record Replay(int transactions, long tornAt) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.ipaas.taskmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Due date of an open task, or of an open subtask when {@code subtaskId} is set. Subtasks live
+ * on the shard of their task, so {@code taskId} always locates the row.
+ */
+public record TaskDeadline(UUID taskId, UUID subtaskId, LocalDateTime dueAt) {
+
+    public TaskDeadline(UUID taskId, LocalDateTime dueAt) {
+        this(taskId, null, dueAt);
+    }
+
+    public UUID id() {
+        return subtaskId != null ? subtaskId : taskId;
+    }
+}
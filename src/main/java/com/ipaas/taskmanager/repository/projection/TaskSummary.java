@@ -0,0 +1,24 @@
+package com.ipaas.taskmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+
+/**
+ * Read-only row for task listings, built straight from the result set with a JPQL
+ * constructor expression so no managed {@code Task} or {@code User} proxy is created.
+ */
+public record TaskSummary(
+        UUID id,
+        String title,
+        String description,
+        TaskStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime completedAt,
+        LocalDateTime dueAt,
+        UUID userId,
+        String userName,
+        String userEmail) {
+}
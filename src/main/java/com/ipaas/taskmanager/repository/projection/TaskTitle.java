@@ -0,0 +1,6 @@
+package com.ipaas.taskmanager.repository.projection;
+
+import java.util.UUID;
+
+public record TaskTitle(UUID id, String title) {
+}
@@ -0,0 +1,8 @@
+package com.ipaas.taskmanager.repository.projection;
+
+import java.time.LocalDateTime;
+
+/** One bucket's counts summed over every user on a shard. */
+public record ThroughputTotal(LocalDateTime bucketStart, long tasksCreated, long tasksCompleted, long subtasksCreated,
+        long subtasksCompleted) {
+}
@@ -0,0 +1,83 @@
+package com.ipaas.taskmanager.repository.search;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Portable search for databases without text search (H2 in tests and local runs). Each term is a
+ * substring match, so it scans instead of using an index; ranking and highlighting are done in
+ * memory over a bounded candidate set.
+ */
+@RequiredArgsConstructor
+public class JpqlTaskSearchRepository implements TaskSearchRepository {
+
+    static final int MAX_CANDIDATES = 1000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<SearchResultDTO> search(String query, UUID userId, int limit, int offset) {
+        List<String> terms = SearchScoring.terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<SearchResultDTO> hits = new ArrayList<>();
+        hits.addAll(find(SearchResultDTO.Type.TASK,
+                "SELECT t.id, t.id, t.title, t.description, t.status FROM Task t " +
+                "WHERE (:userId IS NULL OR t.user.id = :userId)", "t", terms, userId));
+        hits.addAll(find(SearchResultDTO.Type.SUBTASK,
+                "SELECT s.id, s.task.id, s.title, s.description, s.status FROM Subtask s " +
+                "WHERE (:userId IS NULL OR s.task.user.id = :userId)", "s", terms, userId));
+
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(SearchResultDTO::getScore).reversed())
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    private List<SearchResultDTO> find(SearchResultDTO.Type type, String select, String alias,
+            List<String> terms, UUID userId) {
+        String conditions = IntStream.range(0, terms.size())
+                .mapToObj(i -> " AND (LOWER(%1$s.title) LIKE :term%2$d OR LOWER(%1$s.description) LIKE :term%2$d)"
+                        .formatted(alias, i))
+                .collect(Collectors.joining());
+
+        var typedQuery = entityManager.createQuery(select + conditions, Object[].class)
+                .setParameter("userId", userId)
+                .setMaxResults(MAX_CANDIDATES);
+        for (int i = 0; i < terms.size(); i++) {
+            typedQuery.setParameter("term" + i, "%" + terms.get(i) + "%");
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(row -> toResult(type, row, terms))
+                .toList();
+    }
+
+    private SearchResultDTO toResult(SearchResultDTO.Type type, Object[] row, List<String> terms) {
+        String title = (String) row[2];
+        String description = (String) row[3];
+
+        return SearchResultDTO.builder()
+                .type(type)
+                .id((UUID) row[0])
+                .taskId((UUID) row[1])
+                .title(title)
+                .status((TaskStatus) row[4])
+                .score(SearchScoring.score(title, description, terms))
+                .titleHighlight(SearchScoring.highlight(title, terms))
+                .descriptionHighlight(SearchScoring.fragment(description, terms))
+                .build();
+    }
+}
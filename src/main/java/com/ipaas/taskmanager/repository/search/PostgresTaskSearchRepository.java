@@ -0,0 +1,127 @@
+package com.ipaas.taskmanager.repository.search;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Search backed by Postgres text search. The GIN indexes are expression indexes over the existing
+ * columns, so Postgres keeps them current on every write (including the bulk archive paths) and
+ * there is no extra column for the application to maintain. The {@code simple} configuration is
+ * used because titles mix Portuguese and English, where language stemming would misfire.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+
+    private static final String DOCUMENT = "to_tsvector('simple', coalesce(%1$s.title, '') || ' ' || coalesce(%1$s.description, ''))";
+
+    private static final String WEIGHTED_DOCUMENT = "setweight(to_tsvector('simple', coalesce(%1$s.title, '')), 'A') || "
+            + "setweight(to_tsvector('simple', coalesce(%1$s.description, '')), 'B')";
+
+    /*
+     * ts_headline copies the stored text as it is, markup included. It marks matches with control
+     * characters, stripped from the input first, and the text is HTML-escaped in Java before they
+     * become <mark> tags, so stored markup can never reach a client unescaped.
+     */
+    private static final char MATCH_START = '\u0001';
+    private static final char MATCH_END = '\u0002';
+    private static final String HIGHLIGHT_OPTIONS = "('StartSel=' || chr(1) || ', StopSel=' || chr(2))";
+    private static final String HEADLINE_TEXT = "translate(%s, chr(1) || chr(2), '')";
+
+    // Headlines are computed only for the page that survives LIMIT; ts_headline re-parses the text
+    private static final String SEARCH_SQL = """
+            WITH query AS (SELECT websearch_to_tsquery('simple', :query) AS q),
+            ranked AS (
+                SELECT 'TASK' AS type, t.id, t.id AS task_id, t.title, t.description, t.status,
+                       ts_rank(%1$s, query.q) AS score
+                FROM tasks t, query
+                WHERE %2$s @@ query.q
+                  AND (CAST(:userId AS uuid) IS NULL OR t.user_id = CAST(:userId AS uuid))
+                UNION ALL
+                SELECT 'SUBTASK' AS type, s.id, s.task_id, s.title, s.description, s.status,
+                       ts_rank(%3$s, query.q) AS score
+                FROM subtasks s JOIN tasks t ON t.id = s.task_id, query
+                WHERE %4$s @@ query.q
+                  AND (CAST(:userId AS uuid) IS NULL OR t.user_id = CAST(:userId AS uuid))
+                ORDER BY score DESC
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT r.type, r.id, r.task_id, r.title, r.status, r.score,
+                   ts_headline('simple', %6$s, query.q, %5$s || ', HighlightAll=true') AS title_highlight,
+                   CASE WHEN to_tsvector('simple', coalesce(r.description, '')) @@ query.q
+                        THEN ts_headline('simple', %7$s, query.q, %5$s || ', MaxFragments=2, MaxWords=20, MinWords=5')
+                   END AS description_highlight
+            FROM ranked r, query
+            ORDER BY r.score DESC
+            """.formatted(WEIGHTED_DOCUMENT.formatted("t"), DOCUMENT.formatted("t"),
+                    WEIGHTED_DOCUMENT.formatted("s"), DOCUMENT.formatted("s"), HIGHLIGHT_OPTIONS,
+                    HEADLINE_TEXT.formatted("coalesce(r.title, '')"), HEADLINE_TEXT.formatted("r.description"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    /**
+     * Builds the GIN indexes if they are missing. CONCURRENTLY keeps the tables writable while a
+     * large table is indexed; the statements are idempotent so every instance can run them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        for (int shard : shardRouter.shards()) {
+            shardRouter.callOnShard(shard, () -> {
+                createIndex("idx_tasks_fts", "tasks", DOCUMENT.formatted("tasks"));
+                createIndex("idx_subtasks_fts", "subtasks", DOCUMENT.formatted("subtasks"));
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public List<SearchResultDTO> search(String query, UUID userId, int limit, int offset) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("userId", userId == null ? null : userId.toString(), Types.VARCHAR)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        return jdbcTemplate.query(SEARCH_SQL, parameters, (rs, rowNum) -> SearchResultDTO.builder()
+                .type(SearchResultDTO.Type.valueOf(rs.getString("type")))
+                .id(rs.getObject("id", UUID.class))
+                .taskId(rs.getObject("task_id", UUID.class))
+                .title(rs.getString("title"))
+                .status(TaskStatus.valueOf(rs.getString("status")))
+                .score(rs.getDouble("score"))
+                .titleHighlight(markup(rs.getString("title_highlight")))
+                .descriptionHighlight(markup(rs.getString("description_highlight")))
+                .build());
+    }
+
+    private static String markup(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(String.valueOf(MATCH_START), HIGHLIGHT_START)
+                .replace(String.valueOf(MATCH_END), HIGHLIGHT_END);
+    }
+
+    private void createIndex(String name, String table, String expression) {
+        try {
+            jdbcTemplate.getJdbcTemplate().execute(
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + table + " USING GIN ((" + expression + "))");
+        } catch (RuntimeException e) {
+            log.warn("Could not create full-text index {}; search will fall back to sequential scans", name, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ipaas.taskmanager.repository.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Term splitting, ranking and highlighting for the search implementations that match in the
+ * application instead of in the database.
+ */
+public final class SearchScoring {
+
+    static final int MAX_TERMS = 8;
+    private static final int FRAGMENT_CONTEXT = 60;
+
+    private SearchScoring() {
+    }
+
+    /** Same weighting as the Postgres setweight: title matches count more than description matches. */
+    public static double score(String title, String description, List<String> terms) {
+        return terms.stream()
+                .mapToDouble(term -> occurrences(title, term) + 0.4 * occurrences(description, term))
+                .sum();
+    }
+
+    /** Whether every term occurs in the title or the description. */
+    public static boolean matchesAll(String title, String description, List<String> terms) {
+        return terms.stream().allMatch(term -> occurrences(title, term) > 0 || occurrences(description, term) > 0);
+    }
+
+    public static List<String> terms(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    /** HTML-escapes {@code text} and wraps the term matches in the highlight markers. */
+    public static String highlight(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+
+        boolean[] marked = new boolean[text.length()];
+        for (String term : terms) {
+            for (int at = indexOf(text, term, 0); at >= 0; at = indexOf(text, term, at + term.length())) {
+                Arrays.fill(marked, at, at + term.length(), true);
+            }
+        }
+
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        for (int start = 0, end; start < text.length(); start = end) {
+            end = start + 1;
+            while (end < text.length() && marked[end] == marked[start]) {
+                end++;
+            }
+            String run = HtmlUtils.htmlEscape(text.substring(start, end));
+            highlighted.append(marked[start]
+                    ? TaskSearchRepository.HIGHLIGHT_START + run + TaskSearchRepository.HIGHLIGHT_END
+                    : run);
+        }
+        return highlighted.toString();
+    }
+
+    public static String fragment(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+
+        int first = terms.stream()
+                .mapToInt(term -> indexOf(text, term, 0))
+                .filter(index -> index >= 0)
+                .min()
+                .orElse(-1);
+        if (first < 0) {
+            return null;
+        }
+
+        int start = Math.max(0, first - FRAGMENT_CONTEXT);
+        int end = Math.min(text.length(), first + FRAGMENT_CONTEXT);
+        return (start > 0 ? "..." : "") + highlight(text.substring(start, end), terms) + (end < text.length() ? "..." : "");
+    }
+
+    private static int occurrences(String text, String term) {
+        if (text == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int at = indexOf(text, term, 0); at >= 0; at = indexOf(text, term, at + term.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Case-insensitive search on the original text. Lower-casing the whole text first would give
+     * offsets into a different string: some characters change length, such as {@code İ}.
+     */
+    private static int indexOf(String text, String term, int from) {
+        for (int at = from; at <= text.length() - term.length(); at++) {
+            if (text.regionMatches(true, at, term, 0, term.length())) {
+                return at;
+            }
+        }
+        return -1;
+    }
+}
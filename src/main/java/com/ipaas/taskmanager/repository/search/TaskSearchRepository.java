@@ -0,0 +1,18 @@
+package com.ipaas.taskmanager.repository.search;
+
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over task and subtask titles and descriptions. Every term of the
+ * query has to match; title matches rank above description matches.
+ */
+public interface TaskSearchRepository {
+
+    String HIGHLIGHT_START = "<mark>";
+    String HIGHLIGHT_END = "</mark>";
+
+    List<SearchResultDTO> search(String query, UUID userId, int limit, int offset);
+}
@@ -0,0 +1,69 @@
+package com.ipaas.taskmanager.scheduler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.service.CycleTimeRecorder;
+import com.ipaas.taskmanager.service.CycleTimeService;
+import com.ipaas.taskmanager.service.CycleTimeService.SketchKey;
+import com.ipaas.taskmanager.sharding.ShardIds;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Merges the completions recorded in memory into the persisted daily sketches, one transaction
+ * per shard. A shard whose merge fails keeps its deltas for the next run, so nothing recorded is
+ * lost short of the process dying between two flushes; shutdown flushes one last time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "taskmanager.cycle-times", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CycleTimeSketchFlusher {
+
+    private final CycleTimeRecorder cycleTimeRecorder;
+    private final CycleTimeService cycleTimeService;
+    private final ShardRouter shardRouter;
+    private final Map<SketchKey, Histogram> pending = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${taskmanager.cycle-times.flush-interval:PT1M}")
+    public synchronized void flush() {
+        cycleTimeRecorder.drain().forEach((key, delta) -> pending.merge(key, delta, (unflushed, more) -> {
+            unflushed.add(more);
+            return unflushed;
+        }));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Map<SketchKey, Histogram>> byShard = pending.entrySet().stream()
+            .collect(Collectors.groupingBy(entry -> ShardIds.shardOf(entry.getKey().userId()),
+                Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        byShard.forEach((shard, deltas) -> {
+            try {
+                shardRouter.callOnShard(shard, () -> {
+                    cycleTimeService.mergeSketches(deltas);
+                    return null;
+                });
+                deltas.keySet().forEach(pending::remove);
+            } catch (RuntimeException e) {
+                log.warn("Could not flush {} cycle time sketches on shard {}; retrying on the next run",
+                    deltas.size(), shard, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
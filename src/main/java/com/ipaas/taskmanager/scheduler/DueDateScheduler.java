@@ -0,0 +1,154 @@
+package com.ipaas.taskmanager.scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipaas.taskmanager.config.DueDateProperties;
+import com.ipaas.taskmanager.event.DueDateSetEvent;
+import com.ipaas.taskmanager.event.TaskDeadlineEvent;
+import com.ipaas.taskmanager.repository.projection.TaskDeadline;
+import com.ipaas.taskmanager.service.TaskDeadlineService;
+import com.ipaas.taskmanager.sharding.ShardIds;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes {@link TaskDeadlineEvent}s when open tasks and subtasks reach their reminder time and
+ * their due date. Every open due date sits in an in-process {@link TimingWheel}, loaded from the
+ * database on startup and extended from {@link DueDateSetEvent}s, so nothing polls the tables.
+ * When timers fire their rows are re-read in one query per shard and only deadlines that still
+ * hold (not completed, same due date) are published.
+ *
+ * <p>Due dates that passed while the application was down are not replayed; the overdue listing
+ * covers them. Every instance runs its own wheel, so each publishes its own events.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "taskmanager.due-dates", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DueDateScheduler {
+
+    private final TaskDeadlineService taskDeadlineService;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DueDateProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TimingWheel<Alarm> wheel;
+    // Guards against the same alarm being added by both the startup load and an event
+    private final Set<Alarm> scheduled = new HashSet<>();
+
+    public DueDateScheduler(TaskDeadlineService taskDeadlineService, ShardRouter shardRouter,
+            ApplicationEventPublisher eventPublisher, DueDateProperties properties, MeterRegistry meterRegistry) {
+        this.taskDeadlineService = taskDeadlineService;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.wheel = new TimingWheel<>(properties.getTick().toMillis(), properties.getWheelSize(),
+            System.currentTimeMillis());
+        Gauge.builder("taskmanager.due_dates.scheduled", this, DueDateScheduler::scheduledCount)
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOpenDeadlines() {
+        int[] loaded = {0};
+        for (int shard : shardRouter.shards()) {
+            shardRouter.callOnShard(shard, () -> {
+                taskDeadlineService.forEachOpenDeadline(deadline -> {
+                    schedule(deadline);
+                    loaded[0]++;
+                });
+                return null;
+            });
+        }
+        log.info("Loaded {} open due dates, {} alarms scheduled", loaded[0], scheduledCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDueDateSet(DueDateSetEvent event) {
+        // A due date set in the past, or inside the reminder lead, is reported right away
+        List<Alarm> due = schedule(new TaskDeadline(event.taskId(), event.subtaskId(), event.dueAt()));
+        due.forEach(this::publish);
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.due-dates.tick:PT1S}")
+    public void fireDueAlarms() {
+        List<Alarm> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+            due.forEach(scheduled::remove);
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Alarm>> byShard = due.stream()
+            .collect(Collectors.groupingBy(alarm -> ShardIds.shardOf(alarm.deadline().taskId())));
+        byShard.forEach((shard, alarms) -> {
+            Set<TaskDeadline> current = new HashSet<>(shardRouter.callOnShard(shard,
+                () -> taskDeadlineService.findCurrent(alarms.stream().map(Alarm::deadline).distinct().toList())));
+            alarms.stream()
+                .filter(alarm -> current.contains(alarm.deadline()))
+                .forEach(this::publish);
+        });
+    }
+
+    /** @return the alarms whose time has already come, which are not kept */
+    private List<Alarm> schedule(TaskDeadline deadline) {
+        List<Alarm> due = new ArrayList<>(2);
+        if (!properties.getReminderLead().isZero()) {
+            add(new Alarm(TaskDeadlineEvent.Type.REMINDER, deadline), deadline.dueAt().minus(properties.getReminderLead()), due);
+        }
+        add(new Alarm(TaskDeadlineEvent.Type.OVERDUE, deadline), deadline.dueAt(), due);
+        return due;
+    }
+
+    private void add(Alarm alarm, LocalDateTime at, List<Alarm> due) {
+        synchronized (wheel) {
+            if (scheduled.contains(alarm)) {
+                return;
+            }
+            if (wheel.schedule(at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), alarm)) {
+                scheduled.add(alarm);
+                return;
+            }
+        }
+        due.add(alarm);
+    }
+
+    private void publish(Alarm alarm) {
+        TaskDeadline deadline = alarm.deadline();
+        log.debug("Task {} subtask {} {} (due at {})", deadline.taskId(), deadline.subtaskId(), alarm.type(),
+            deadline.dueAt());
+        meterRegistry.counter("taskmanager.due_dates.events", "type", alarm.type().name().toLowerCase()).increment();
+        eventPublisher.publishEvent(new TaskDeadlineEvent(alarm.type(), deadline.taskId(), deadline.subtaskId(),
+            deadline.dueAt()));
+    }
+
+    private int scheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private record Alarm(TaskDeadlineEvent.Type type, TaskDeadline deadline) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.ipaas.taskmanager.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.config.ClaimProperties;
+import com.ipaas.taskmanager.service.TaskClaimService;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Returns claimed tasks whose lease ran out to PENDING, one batch per transaction, so a worker
+ * that died mid-task does not hold its tasks forever.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "taskmanager.claim.reaper", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LeaseReaper {
+
+    private final TaskClaimService taskClaimService;
+    private final ClaimProperties claimProperties;
+    private final ShardRouter shardRouter;
+
+    @Scheduled(fixedDelayString = "${taskmanager.claim.reaper.interval:PT30S}")
+    public void releaseExpiredLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+
+        for (int shard : shardRouter.shards()) {
+            total += shardRouter.callOnShard(shard, () -> releaseShard(now));
+        }
+
+        if (total > 0) {
+            log.info("Returned {} tasks with expired leases to PENDING", total);
+        }
+    }
+
+    private int releaseShard(LocalDateTime now) {
+        ClaimProperties.Reaper reaper = claimProperties.getReaper();
+        int total = 0;
+
+        for (int batch = 0; batch < reaper.getMaxBatchesPerRun(); batch++) {
+            int released = taskClaimService.releaseExpiredLeases(now, reaper.getBatchSize());
+            total += released;
+
+            if (released < reaper.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ipaas.taskmanager.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.config.ArchiveProperties;
+import com.ipaas.taskmanager.service.TaskArchiveService;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "taskmanager.archive", name = "enabled", havingValue = "true")
+public class TaskArchiver {
+
+    private final TaskArchiveService taskArchiveService;
+    private final ArchiveProperties archiveProperties;
+    private final ShardRouter shardRouter;
+
+    @Scheduled(fixedDelayString = "${taskmanager.archive.interval:PT1H}")
+    public void archiveCompletedTasks() {
+        LocalDateTime completedBefore = LocalDateTime.now().minus(archiveProperties.getCompletedOlderThan());
+        int total = 0;
+
+        for (int shard : shardRouter.shards()) {
+            total += shardRouter.callOnShard(shard, () -> archiveShard(completedBefore));
+        }
+
+        if (total > 0) {
+            log.info("Archived {} tasks completed before {}", total, completedBefore);
+        }
+    }
+
+    private int archiveShard(LocalDateTime completedBefore) {
+        int total = 0;
+
+        for (int batch = 0; batch < archiveProperties.getMaxBatchesPerRun(); batch++) {
+            int archived = taskArchiveService.archiveBatch(completedBefore, archiveProperties.getBatchSize());
+            total += archived;
+
+            if (archived < archiveProperties.getBatchSize()) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(archiveProperties.getBatchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ipaas.taskmanager.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.service.ThroughputService;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** Deletes hourly throughput buckets past their retention, shard by shard. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "taskmanager.throughput", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ThroughputBucketPurger {
+
+    private final ThroughputService throughputService;
+    private final ShardRouter shardRouter;
+
+    @Scheduled(fixedDelayString = "${taskmanager.throughput.purge-interval:PT1H}")
+    public void purgeExpiredBuckets() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+
+        for (int shard : shardRouter.shards()) {
+            total += shardRouter.callOnShard(shard, () -> throughputService.purgeHourlyBuckets(now));
+        }
+
+        if (total > 0) {
+            log.info("Deleted {} hourly throughput buckets past their retention", total);
+        }
+    }
+}
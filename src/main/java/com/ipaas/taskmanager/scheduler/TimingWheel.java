@@ -0,0 +1,130 @@
+package com.ipaas.taskmanager.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one slot per tick; every level above has slots as wide
+ * as a full turn of the level below, and levels are added as far-off deadlines need them. A
+ * timer sits in the lowest level whose turn still reaches it and cascades down one level each
+ * time the slot it sits in comes up, so scheduling is O(1) and advancing costs O(1) per tick plus
+ * the timers that move.
+ *
+ * <p>Deadlines are rounded up to the next tick, so a timer never fires early and fires at most
+ * one tick late. Not thread-safe; the caller serializes access.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Timer<T>>[]> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        levels.add(newLevel());
+    }
+
+    /**
+     * Schedules {@code item} for {@code deadlineMillis}. Returns {@code false}, without keeping the
+     * item, if that deadline has already been reached.
+     */
+    boolean schedule(long deadlineMillis, T item) {
+        long tick = Math.ceilDiv(deadlineMillis, tickMillis);
+        if (tick <= currentTick) {
+            return false;
+        }
+        insert(new Timer<>(tick, item));
+        size++;
+        return true;
+    }
+
+    /** Moves the clock to {@code nowMillis} and returns the items whose deadline was reached, earliest first. */
+    List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade from the top so a timer can drop through several levels within the same tick
+            for (int level = levels.size() - 1; level > 0; level--) {
+                long span = span(level);
+                if (currentTick % span == 0) {
+                    for (Timer<T> timer : drain(level, (int) ((currentTick / span) % wheelSize))) {
+                        if (timer.tick() <= currentTick) {
+                            expire(timer, expired);
+                        } else {
+                            insert(timer);
+                        }
+                    }
+                }
+            }
+            for (Timer<T> timer : drain(0, (int) (currentTick % wheelSize))) {
+                expire(timer, expired);
+            }
+        }
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void expire(Timer<T> timer, List<T> expired) {
+        expired.add(timer.item());
+        size--;
+    }
+
+    /**
+     * The lowest level whose current turn reaches the timer. The slot the timer lands in is then
+     * always ahead of the clock, so it is drained before that slot is reused by the next turn.
+     */
+    private void insert(Timer<T> timer) {
+        int level = 0;
+        while (timer.tick() / span(level) - currentTick / span(level) >= wheelSize) {
+            level++;
+            if (level == levels.size()) {
+                levels.add(newLevel());
+            }
+        }
+        int slot = (int) ((timer.tick() / span(level)) % wheelSize);
+        List<Timer<T>>[] slots = levels.get(level);
+        if (slots[slot] == null) {
+            slots[slot] = new ArrayList<>();
+        }
+        slots[slot].add(timer);
+    }
+
+    private List<Timer<T>> drain(int level, int slot) {
+        List<Timer<T>>[] slots = levels.get(level);
+        List<Timer<T>> timers = slots[slot];
+        if (timers == null) {
+            return List.of();
+        }
+        slots[slot] = null;
+        return timers;
+    }
+
+    /** Ticks covered by one slot of {@code level}. */
+    private long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        return span;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Timer<T>>[] newLevel() {
+        return new List[wheelSize];
+    }
+
+    private record Timer<T>(long tick, T item) {
+    }
+}
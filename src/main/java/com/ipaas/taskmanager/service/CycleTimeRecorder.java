@@ -0,0 +1,71 @@
+package com.ipaas.taskmanager.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipaas.taskmanager.config.CycleTimeProperties;
+import com.ipaas.taskmanager.domain.enums.CycleTimeMetric;
+import com.ipaas.taskmanager.event.TaskCompletedEvent;
+import com.ipaas.taskmanager.service.CycleTimeService.SketchKey;
+
+/**
+ * Records the lead and cycle time of every committed completion into in-process HdrHistogram
+ * recorders, one per metric, user and day. Recording is lock-free and costs the completing
+ * request nothing; {@link #drain} hands the accumulated intervals to the flusher, which merges
+ * them into the persisted sketches.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskmanager.cycle-times", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CycleTimeRecorder {
+
+    private final int significantDigits;
+    private final ConcurrentMap<SketchKey, Recorder> recorders = new ConcurrentHashMap<>();
+
+    public CycleTimeRecorder(CycleTimeProperties properties) {
+        this.significantDigits = properties.getSignificantDigits();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        LocalDate day = event.completedAt().toLocalDate();
+        record(new SketchKey(CycleTimeMetric.LEAD_TIME, event.userId(), day), event.createdAt(), event.completedAt());
+        if (event.startedAt() != null) {
+            record(new SketchKey(CycleTimeMetric.CYCLE_TIME, event.userId(), day), event.startedAt(), event.completedAt());
+        }
+    }
+
+    /**
+     * Everything recorded since the previous call, by sketch. Recorders of past days that saw
+     * nothing since the previous call are dropped, so the map only holds recent days.
+     */
+    public Map<SketchKey, Histogram> drain() {
+        LocalDate today = LocalDate.now();
+        Map<SketchKey, Histogram> drained = new HashMap<>();
+        recorders.forEach((key, recorder) -> {
+            Histogram interval = recorder.getIntervalHistogram();
+            if (interval.getTotalCount() > 0) {
+                drained.put(key, interval);
+            } else if (key.day().isBefore(today)) {
+                recorders.remove(key, recorder);
+            }
+        });
+        return drained;
+    }
+
+    private void record(SketchKey key, LocalDateTime from, LocalDateTime to) {
+        long seconds = Math.max(0, Duration.between(from, to).toSeconds());
+        recorders.computeIfAbsent(key, k -> new Recorder(significantDigits)).recordValue(seconds);
+    }
+}
@@ -0,0 +1,187 @@
+package com.ipaas.taskmanager.service;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.config.CycleTimeProperties;
+import com.ipaas.taskmanager.domain.entity.CycleTimeSketch;
+import com.ipaas.taskmanager.domain.enums.CycleTimeMetric;
+import com.ipaas.taskmanager.dto.response.CycleTimeReportDTO;
+import com.ipaas.taskmanager.dto.response.CycleTimeWindowDTO;
+import com.ipaas.taskmanager.dto.response.DurationPercentilesDTO;
+import com.ipaas.taskmanager.exception.task.InvalidCycleTimeWindowException;
+import com.ipaas.taskmanager.repository.CycleTimeSketchRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lead and cycle time percentiles from the persisted daily sketches. Reports never touch the
+ * tasks table: a user's window reads at most two rows per day, the global one two rows per day
+ * and shard, and the percentiles come from the merged histograms.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CycleTimeService {
+
+    private final CycleTimeSketchRepository cycleTimeSketchRepository;
+    private final ShardRouter shardRouter;
+    private final CycleTimeProperties properties;
+
+    /**
+     * Adds per-user deltas, all for users on one shard, to their daily sketches and to the
+     * shard's daily totals. Rows are locked in id order, so concurrent flushes from several
+     * instances cannot deadlock.
+     */
+    public void mergeSketches(Map<SketchKey, Histogram> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        shardRouter.routeToUser(deltas.keySet().iterator().next().userId());
+
+        Map<SketchKey, Histogram> withTotals = new HashMap<>(deltas);
+        deltas.forEach((key, delta) -> withTotals.merge(new SketchKey(key.metric(), null, key.day()), delta,
+            (total, more) -> {
+                Histogram sum = newHistogram();
+                sum.add(total);
+                sum.add(more);
+                return sum;
+            }));
+
+        LocalDateTime now = LocalDateTime.now();
+        withTotals.entrySet().stream()
+            .sorted(Comparator.comparing(entry -> entry.getKey().id()))
+            .forEach(entry -> merge(entry.getKey(), entry.getValue(), now));
+    }
+
+    /**
+     * Percentiles per day between {@code from} and {@code to}, both inclusive, and over the
+     * whole window, for one user or for everyone when {@code userId} is {@code null}.
+     */
+    @Transactional(readOnly = true)
+    public CycleTimeReportDTO getReport(UUID userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidCycleTimeWindowException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxWindowDays()) {
+            throw new InvalidCycleTimeWindowException(
+                "A report covers at most " + properties.getMaxWindowDays() + " days");
+        }
+
+        List<CycleTimeSketch> sketches;
+        if (userId != null) {
+            shardRouter.routeToUser(userId);
+            sketches = cycleTimeSketchRepository.findByUserIdAndDayBetween(userId, from, to);
+        } else {
+            sketches = shardRouter.queryEachShard(shard -> cycleTimeSketchRepository.findTotalsByDayBetween(from, to))
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+        }
+
+        Map<LocalDate, Map<CycleTimeMetric, Histogram>> byDay = new HashMap<>();
+        for (CycleTimeSketch sketch : sketches) {
+            byDay.computeIfAbsent(sketch.getDay(), day -> new HashMap<>())
+                .computeIfAbsent(sketch.getMetric(), metric -> newHistogram())
+                .add(decode(sketch.getHistogram()));
+        }
+
+        Map<CycleTimeMetric, Histogram> total = new HashMap<>();
+        List<CycleTimeWindowDTO> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Map<CycleTimeMetric, Histogram> histograms = byDay.getOrDefault(day, Map.of());
+            histograms.forEach((metric, histogram) -> total.computeIfAbsent(metric, m -> newHistogram()).add(histogram));
+            days.add(toWindow(day, day, histograms));
+        }
+
+        return CycleTimeReportDTO.builder()
+            .userId(userId)
+            .total(toWindow(from, to, total))
+            .days(days)
+            .build();
+    }
+
+    private void merge(SketchKey key, Histogram delta, LocalDateTime now) {
+        String id = key.id();
+        CycleTimeSketch sketch = cycleTimeSketchRepository.findByIdForUpdate(id)
+            .orElseGet(() -> CycleTimeSketch.builder()
+                .id(id)
+                .metric(key.metric())
+                .userId(key.userId())
+                .day(key.day())
+                .build());
+
+        Histogram merged = newHistogram();
+        if (sketch.getHistogram() != null) {
+            merged.add(decode(sketch.getHistogram()));
+        }
+        merged.add(delta);
+        sketch.setHistogram(encode(merged));
+        sketch.setUpdatedAt(now);
+        cycleTimeSketchRepository.save(sketch);
+    }
+
+    /** Auto-resizing, so any duration fits and histograms of any range can be added in. */
+    private Histogram newHistogram() {
+        return new Histogram(properties.getSignificantDigits());
+    }
+
+    private static CycleTimeWindowDTO toWindow(LocalDate from, LocalDate to, Map<CycleTimeMetric, Histogram> histograms) {
+        return CycleTimeWindowDTO.builder()
+            .from(from)
+            .to(to)
+            .leadTime(toPercentiles(histograms.get(CycleTimeMetric.LEAD_TIME)))
+            .cycleTime(toPercentiles(histograms.get(CycleTimeMetric.CYCLE_TIME)))
+            .build();
+    }
+
+    private static DurationPercentilesDTO toPercentiles(Histogram histogram) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return DurationPercentilesDTO.builder().build();
+        }
+        return DurationPercentilesDTO.builder()
+            .count(histogram.getTotalCount())
+            .p50Seconds(histogram.getValueAtPercentile(50))
+            .p90Seconds(histogram.getValueAtPercentile(90))
+            .p99Seconds(histogram.getValueAtPercentile(99))
+            .maxSeconds(histogram.getMaxValue())
+            .build();
+    }
+
+    private static byte[] encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private static Histogram decode(byte[] bytes) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt cycle time sketch", e);
+        }
+    }
+
+    /** One persisted sketch; a {@code null} user stands for the shard's totals. */
+    public record SketchKey(CycleTimeMetric metric, UUID userId, LocalDate day) {
+
+        String id() {
+            return CycleTimeSketch.idOf(metric, userId, day);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.ipaas.taskmanager.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ipaas.taskmanager.config.IdempotencyProperties;
+import com.ipaas.taskmanager.domain.entity.IdempotencyRecord;
+import com.ipaas.taskmanager.exception.IdempotencyKeyReusedException;
+import com.ipaas.taskmanager.exception.IdempotentRequestInProgressException;
+import com.ipaas.taskmanager.ratelimit.ClientIdentity;
+import com.ipaas.taskmanager.repository.IdempotencyRecordRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays the stored response of a POST that already succeeded with the same
+ * {@code Idempotency-Key}, so client retries don't create duplicates. Keys are scoped by the
+ * calling client ({@link ClientIdentity}), so two clients picking the same key never collide.
+ * Lookups go through an in-memory cache first, then the {@code idempotency_keys} table. Before
+ * the request runs its key is reserved with an insert-if-absent, so a duplicate arriving at
+ * another instance while the first is still running gets a 409 instead of executing again.
+ * The request and the completed record commit in one transaction on the shard the request
+ * writes to, so a crash can never leave the write done and the key reusable.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final ClientIdentity clientIdentity;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, IdempotencyRecord> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper,
+            IdempotencyProperties properties, ClientIdentity clientIdentity, ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.clientIdentity = clientIdentity;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+
+    /**
+     * Runs {@code action} at most once per key, client and scope.
+     *
+     * @param shard the shard {@code action} writes to; the record is kept there so both commit together
+     */
+    public <T> ResponseEntity<T> execute(String key, String scope, int shard, Object request, Class<T> responseType,
+            Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String id = scope + ":" + clientIdentity.of(currentRequest()) + ":" + key;
+        String requestHash = hash(scope, request);
+
+        IdempotencyRecord stored = shardRouter.callOnShard(shard, () -> lookup(id));
+        if (stored != null) {
+            return replay(stored, requestHash, responseType);
+        }
+
+        CompletableFuture<IdempotencyRecord> execution = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(id, execution);
+        if (running != null) {
+            return replay(await(running), requestHash, responseType);
+        }
+
+        try {
+            // Another request may have finished between the lookup and claiming the key
+            stored = cache.getIfPresent(id);
+            if (stored != null) {
+                execution.complete(stored);
+                return replay(stored, requestHash, responseType);
+            }
+
+            stored = shardRouter.callOnShard(shard, () -> reserve(id, requestHash));
+            if (stored != null) {
+                execution.complete(stored);
+                return replay(stored, requestHash, responseType);
+            }
+
+            Completed<T> completed;
+            try {
+                completed = shardRouter.callOnShard(shard, () -> transactionTemplate.execute(status -> {
+                    ResponseEntity<T> response = action.get();
+                    return new Completed<>(response, store(id, requestHash, response));
+                }));
+            } catch (RuntimeException e) {
+                shardRouter.callOnShard(shard, () -> idempotencyRecordRepository.deleteReservation(id));
+                throw e;
+            }
+            cacheIfCompleted(completed.record());
+            execution.complete(completed.record());
+            return completed.response();
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, execution);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.idempotency.purge-interval:PT15M}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        for (int shard : shardRouter.shards()) {
+            purged += shardRouter.callOnShard(shard, () -> idempotencyRecordRepository.deleteExpired(now));
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private IdempotencyRecord lookup(String id) {
+        IdempotencyRecord cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return idempotencyRecordRepository.findByIdAndExpiresAtAfter(id, LocalDateTime.now())
+            .map(this::cacheIfCompleted)
+            .orElse(null);
+    }
+
+    /**
+     * Reserves the key for this request.
+     *
+     * @return {@code null} when the key is now reserved, otherwise the record holding it
+     */
+    private IdempotencyRecord reserve(String id, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (idempotencyRecordRepository.reserve(id, requestHash, now, now.plus(properties.getReservationTimeout())) == 1) {
+                return null;
+            }
+            IdempotencyRecord holder = idempotencyRecordRepository.findByIdAndExpiresAtAfter(id, now).orElse(null);
+            if (holder != null) {
+                return cacheIfCompleted(holder);
+            }
+            // The holder expired (or failed and was released) between the insert and the lookup
+            idempotencyRecordRepository.deleteExpiredById(id, now);
+        }
+        throw new IdempotentRequestInProgressException("A request with this idempotency key is still being processed");
+    }
+
+    private IdempotencyRecord cacheIfCompleted(IdempotencyRecord record) {
+        if (!record.isInProgress()) {
+            cache.put(record.getId(), record);
+        }
+        return record;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    }
+
+    private IdempotencyRecord store(String id, String requestHash, ResponseEntity<?> response) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+            .id(id)
+            .requestHash(requestHash)
+            .statusCode(response.getStatusCode().value())
+            .responseBody(write(response.getBody()))
+            .location(response.getHeaders().getLocation() == null ? null : response.getHeaders().getLocation().toString())
+            .createdAt(now)
+            .expiresAt(now.plus(properties.getTtl()))
+            .build();
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            // Completes the reservation taken by this request, in the request's own transaction
+            idempotencyRecordRepository.save(record);
+        } else {
+            idempotencyRecordRepository.deleteReservation(id);
+        }
+        return record;
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (record.isInProgress()) {
+            throw new IdempotentRequestInProgressException("A request with this idempotency key is still being processed");
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("Idempotency key was already used with a different request");
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.getStatusCode())
+            .header(REPLAYED_HEADER, "true");
+        if (record.getLocation() != null) {
+            builder.location(URI.create(record.getLocation()));
+        }
+        try {
+            return builder.body(record.getResponseBody() == null
+                ? null
+                : objectMapper.readValue(record.getResponseBody(), responseType));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(String scope, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(scope.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not hash idempotent request", e);
+        }
+    }
+
+    private record Completed<T>(ResponseEntity<T> response, IdempotencyRecord record) {
+    }
+
+    private String write(Object body) {
+        try {
+            return body == null ? null : objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ipaas.taskmanager.service;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-array cache whose values live in direct {@link ByteBuffer} slabs outside the Java heap;
+ * the heap only holds a small index entry per key. Slabs are filled in turn like a ring: when
+ * the last one is full, the oldest slab is reused and every entry in it is evicted at once, so
+ * the memory used is bounded by {@code capacity} and no compaction is ever needed.
+ * <p>
+ * Writers are serialized. Readers copy without locking and then check that the slab was not
+ * reused meanwhile. To keep a slow loader from caching a value that was invalidated while it
+ * was loading, callers take a {@link #token} before loading and hand it to {@link #put}.
+ */
+final class OffHeapSlabCache<K> {
+
+    private static final int VERSION_STRIPES = 4096;
+
+    private final ByteBuffer[] slabs;
+    private final int slabSize;
+    private final long timeToLiveNanos;
+    private final AtomicLongArray slabGenerations;
+    private final List<List<K>> slabKeys;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Map<K, Entry> index = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int currentSlab;
+    private int writeOffset;
+
+    OffHeapSlabCache(long capacity, int slabSize, long timeToLiveNanos) {
+        int slabCount = (int) Math.max(1, capacity / slabSize);
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabSize = slabSize;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.slabGenerations = new AtomicLongArray(slabCount);
+        this.slabKeys = new ArrayList<>(slabCount);
+        for (int i = 0; i < slabCount; i++) {
+            slabKeys.add(new ArrayList<>());
+        }
+    }
+
+    /** @return a copy of the cached value, or {@code null} */
+    byte[] get(K key) {
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.writtenAt >= timeToLiveNanos) {
+            index.remove(key, entry);
+            return null;
+        }
+
+        byte[] value = new byte[entry.length];
+        slabs[entry.slab].get(entry.offset, value);
+        // The copy must be complete before the generation is re-read
+        VarHandle.acquireFence();
+        if (slabGenerations.get(entry.slab) != entry.generation) {
+            index.remove(key, entry);
+            return null;
+        }
+        return value;
+    }
+
+    long token(K key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * Stores {@code value} unless {@code key} was invalidated after {@code token} was taken or
+     * the value does not fit in a slab.
+     *
+     * @return whether the value was stored
+     */
+    boolean put(K key, long token, byte[] value) {
+        if (value.length > slabSize) {
+            return false;
+        }
+
+        writeLock.lock();
+        try {
+            if (versions.get(stripe(key)) != token) {
+                return false;
+            }
+            if (writeOffset + value.length > slabSize) {
+                currentSlab = (currentSlab + 1) % slabs.length;
+                writeOffset = 0;
+                recycle(currentSlab);
+            }
+
+            ByteBuffer slab = slabs[currentSlab];
+            if (slab == null) {
+                slab = ByteBuffer.allocateDirect(slabSize);
+                slabs[currentSlab] = slab;
+            }
+            slab.put(writeOffset, value);
+
+            Entry entry = new Entry(currentSlab, writeOffset, value.length, slabGenerations.get(currentSlab), System.nanoTime());
+            writeOffset += value.length;
+            slabKeys.get(currentSlab).add(key);
+            index.put(key, entry);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void invalidate(K key) {
+        versions.incrementAndGet(stripe(key));
+        index.remove(key);
+    }
+
+    void invalidateAll() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        index.clear();
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    /** Bytes reserved off-heap so far; slabs are allocated on first use. */
+    long allocatedBytes() {
+        long allocated = 0;
+        for (ByteBuffer slab : slabs) {
+            if (slab != null) {
+                allocated += slab.capacity();
+            }
+        }
+        return allocated;
+    }
+
+    private void recycle(int slab) {
+        // Readers that copied from the old contents see the new generation and discard the copy
+        slabGenerations.incrementAndGet(slab);
+        VarHandle.fullFence();
+        List<K> keys = slabKeys.get(slab);
+        for (K key : keys) {
+            index.computeIfPresent(key, (k, entry) -> entry.slab == slab ? null : entry);
+        }
+        keys.clear();
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), VERSION_STRIPES);
+    }
+
+    private record Entry(int slab, int offset, int length, long generation, long writtenAt) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Collapses concurrent calls with the same key into one execution: the first caller runs the
+ * loader and every caller that arrives while it is running receives the same result (or error).
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter shared;
+
+    SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("taskmanager.coalescing.calls")
+            .tag("name", name)
+            .tag("outcome", "executed")
+            .register(meterRegistry);
+        this.shared = Counter.builder("taskmanager.coalescing.calls")
+            .tag("name", name)
+            .tag("outcome", "shared")
+            .register(meterRegistry);
+    }
+
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> execution = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            shared.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            execution.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
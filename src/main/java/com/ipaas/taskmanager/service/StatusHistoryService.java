@@ -0,0 +1,91 @@
+package com.ipaas.taskmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.domain.entity.StatusTransition;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.StatusTransitionDTO;
+import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+import com.ipaas.taskmanager.repository.StatusTransitionRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Append-only log of task and subtask status changes. Transitions are written in the caller's
+ * transaction, so the history commits or rolls back with the change itself. Recording never
+ * reads: ids come from a pooled sequence and the inserts wait for the flush, where they go out
+ * in JDBC batches together with the status updates.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StatusHistoryService {
+
+    private final StatusTransitionRepository statusTransitionRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ShardRouter shardRouter;
+
+    public void recordTaskTransition(UUID taskId, TaskStatus fromStatus, TaskStatus toStatus, LocalDateTime changedAt) {
+        record(taskId, null, fromStatus, toStatus, changedAt);
+    }
+
+    /** Subtasks are logged under their task, so one index lookup returns the whole timeline. */
+    public void recordSubtaskTransition(UUID taskId, UUID subtaskId, TaskStatus fromStatus, TaskStatus toStatus,
+            LocalDateTime changedAt) {
+        record(taskId, subtaskId, fromStatus, toStatus, changedAt);
+    }
+
+    /** When the task last moved to {@code status}, or {@code null} if it never did. */
+    @Transactional(readOnly = true)
+    public LocalDateTime findLastTransitionTo(UUID taskId, TaskStatus status) {
+        return statusTransitionRepository.findLastTaskTransitionTo(taskId, status);
+    }
+
+    /**
+     * Status changes of a task, and optionally of its subtasks, oldest first. History is kept
+     * after the task is archived.
+     */
+    @Transactional(readOnly = true)
+    public List<StatusTransitionDTO> getTaskHistory(UUID taskId, boolean includeSubtasks) {
+        shardRouter.routeToTask(taskId);
+        if (!taskRepository.existsById(taskId) && !archivedTaskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException("Task not found with ID: " + taskId);
+        }
+
+        List<StatusTransition> transitions = includeSubtasks
+            ? statusTransitionRepository.findByTaskId(taskId)
+            : statusTransitionRepository.findTaskTransitions(taskId);
+        return transitions.stream()
+            .map(transition -> StatusTransitionDTO.builder()
+                .taskId(transition.getTaskId())
+                .subtaskId(transition.getSubtaskId())
+                .fromStatus(transition.getFromStatus())
+                .toStatus(transition.getToStatus())
+                .changedAt(transition.getChangedAt())
+                .build())
+            .toList();
+    }
+
+    private void record(UUID taskId, UUID subtaskId, TaskStatus fromStatus, TaskStatus toStatus,
+            LocalDateTime changedAt) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        statusTransitionRepository.save(StatusTransition.builder()
+            .taskId(taskId)
+            .subtaskId(subtaskId)
+            .fromStatus(fromStatus)
+            .toStatus(toStatus)
+            .changedAt(changedAt)
+            .build());
+    }
+}
@@ -4,20 +4,32 @@ import com.ipaas.taskmanager.domain.entity.Subtask;
 import com.ipaas.taskmanager.domain.entity.Task;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
 import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.MoveSubtaskDTO;
 import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
 import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.event.DueDateSetEvent;
+import com.ipaas.taskmanager.event.SubtaskCompletedEvent;
+import com.ipaas.taskmanager.event.SubtaskCreatedEvent;
+import com.ipaas.taskmanager.event.TaskChangedEvent;
 import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.exception.subtask.InvalidSubtaskParentException;
 import com.ipaas.taskmanager.exception.subtask.SubtaskNotFoundException;
 import com.ipaas.taskmanager.mapper.SubtaskMapper;
 import com.ipaas.taskmanager.repository.SubtaskRepository;
 import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,48 +39,183 @@ public class SubtaskService {
     private final SubtaskRepository subtaskRepository;
     private final TaskRepository taskRepository;
     private final SubtaskMapper subtaskMapper;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusHistoryService statusHistoryService;
 
     public SubtaskResponseDTO createSubtask(UUID taskId, CreateSubtaskDTO createSubtaskDTO) {
+        shardRouter.routeToTask(taskId);
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
 
         Subtask subtask = subtaskMapper.toEntity(createSubtaskDTO);
         subtask.setTask(task);
+
+        if (createSubtaskDTO.getParentSubtaskId() != null) {
+            // Same lock as moveSubtask, so the parent cannot be moved between reading its path and saving the child
+            taskRepository.findByIdForUpdate(taskId);
+            Subtask parent = findParent(createSubtaskDTO.getParentSubtaskId(), taskId);
+            subtask.setParent(parent);
+            subtask.setPath(descendantPrefix(parent));
+        }
         
         Subtask savedSubtask = subtaskRepository.save(subtask);
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId));
+        eventPublisher.publishEvent(new SubtaskCreatedEvent(savedSubtask.getId(), taskId, task.getUser().getId()));
+        if (savedSubtask.getDueAt() != null) {
+            eventPublisher.publishEvent(new DueDateSetEvent(taskId, savedSubtask.getId(), savedSubtask.getDueAt()));
+        }
         return subtaskMapper.toResponseDTO(savedSubtask);
     }
 
+    @Transactional(readOnly = true)
     public List<SubtaskResponseDTO> getSubtasksByTaskId(UUID taskId) {
+        shardRouter.routeToTask(taskId);
         if (!taskRepository.existsById(taskId)) {
             throw new TaskNotFoundException("Task not found with id: " + taskId);
         }
 
-        List<Subtask> subtasks = subtaskRepository.findByTaskId(taskId);
-        return subtaskMapper.toResponseDTOList(subtasks);
+        return subtaskRepository.findResponsesByTaskId(taskId);
     }
 
     public SubtaskResponseDTO updateSubtaskStatus(UUID subtaskId, UpdateSubtaskStatusDTO updateSubtaskStatusDTO) {
+        shardRouter.routeToSubtask(subtaskId);
         Subtask subtask = subtaskRepository.findById(subtaskId)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
 
         TaskStatus newStatus = updateSubtaskStatusDTO.getStatus();
+        TaskStatus currentStatus = subtask.getStatus();
+        LocalDateTime now = LocalDateTime.now();
         subtask.setStatus(newStatus);
 
         if (newStatus == TaskStatus.COMPLETED) {
-            subtask.setCompletedAt(LocalDateTime.now());
+            subtask.setCompletedAt(now);
         } else {
             subtask.setCompletedAt(null);
         }
 
         Subtask updatedSubtask = subtaskRepository.save(subtask);
+        Task task = updatedSubtask.getTask();
+        statusHistoryService.recordSubtaskTransition(task.getId(), subtaskId, currentStatus, newStatus, now);
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getId()));
+        if (newStatus == TaskStatus.COMPLETED && currentStatus != TaskStatus.COMPLETED) {
+            eventPublisher.publishEvent(new SubtaskCompletedEvent(subtaskId, task.getId(), task.getUser().getId(), now));
+        }
         return subtaskMapper.toResponseDTO(updatedSubtask);
     }
 
+    /**
+     * Applies many status changes in one transaction. When the same subtask appears more than
+     * once the last change wins. Subtasks that don't exist are left out of the result. With
+     * sharding the caller binds the shard, and every id in the batch must live on it.
+     */
+    public Map<UUID, SubtaskResponseDTO> updateSubtaskStatuses(Map<UUID, TaskStatus> updates) {
+        List<Subtask> subtasks = subtaskRepository.findAllById(updates.keySet());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Subtask> completed = new ArrayList<>();
+        for (Subtask subtask : subtasks) {
+            TaskStatus newStatus = updates.get(subtask.getId());
+            statusHistoryService.recordSubtaskTransition(subtask.getTask().getId(), subtask.getId(),
+                    subtask.getStatus(), newStatus, now);
+            if (newStatus == TaskStatus.COMPLETED && subtask.getStatus() != TaskStatus.COMPLETED) {
+                completed.add(subtask);
+            }
+            subtask.setStatus(newStatus);
+            subtask.setCompletedAt(newStatus == TaskStatus.COMPLETED ? now : null);
+        }
+        subtaskRepository.flush();
+        subtasks.stream()
+                .map(subtask -> subtask.getTask().getId())
+                .distinct()
+                .forEach(taskId -> eventPublisher.publishEvent(new TaskChangedEvent(taskId)));
+        publishCompletions(completed, now);
+
+        // One projection query instead of a lazy description load per subtask
+        return subtaskRepository.findResponsesByIdIn(subtasks.stream().map(Subtask::getId).toList()).stream()
+                .collect(Collectors.toMap(SubtaskResponseDTO::getId, Function.identity()));
+    }
+
+    /** Resolves the owners of all the subtasks' tasks in one query. */
+    private void publishCompletions(List<Subtask> completed, LocalDateTime completedAt) {
+        if (completed.isEmpty()) {
+            return;
+        }
+        Map<UUID, UUID> ownerByTask = taskRepository.findAllById(
+                        completed.stream().map(subtask -> subtask.getTask().getId()).distinct().toList()).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task.getUser().getId()));
+        for (Subtask subtask : completed) {
+            UUID taskId = subtask.getTask().getId();
+            eventPublisher.publishEvent(new SubtaskCompletedEvent(subtask.getId(), taskId, ownerByTask.get(taskId),
+                    completedAt));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubtaskResponseDTO> getSubtree(UUID subtaskId) {
+        shardRouter.routeToSubtask(subtaskId);
+        Subtask subtask = subtaskRepository.findById(subtaskId)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+
+        return subtaskRepository.findSubtreeResponses(subtaskId, descendantPrefix(subtask));
+    }
+
+    /**
+     * Moves a subtask and everything below it under another subtask of the same task, or to the
+     * top level when no parent is given. Descendant paths are rewritten by a single UPDATE.
+     */
+    public SubtaskResponseDTO moveSubtask(UUID subtaskId, MoveSubtaskDTO moveSubtaskDTO) {
+        shardRouter.routeToSubtask(subtaskId);
+        UUID taskId = subtaskRepository.findTaskIdById(subtaskId)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+
+        // Serialises moves within a task so two concurrent moves cannot nest subtrees into each other;
+        // the subtask and its path are read only once the lock is held, so they reflect any earlier move
+        taskRepository.findByIdForUpdate(taskId);
+        Subtask subtask = subtaskRepository.findById(subtaskId)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+
+        String oldPrefix = descendantPrefix(subtask);
+        Subtask newParent = null;
+        String newPath = Subtask.ROOT_PATH;
+
+        if (moveSubtaskDTO.getParentSubtaskId() != null) {
+            newParent = findParent(moveSubtaskDTO.getParentSubtaskId(), taskId);
+            if (newParent.getId().equals(subtaskId) || newParent.getPath().startsWith(oldPrefix)) {
+                throw new InvalidSubtaskParentException(
+                        "Cannot move subtask " + subtaskId + " under itself or one of its descendants");
+            }
+            newPath = descendantPrefix(newParent);
+        }
+
+        subtask.setParent(newParent);
+        subtask.setPath(newPath);
+        subtaskRepository.movePaths(oldPrefix, oldPrefix.length(), newPath + subtaskId + "/");
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId));
+
+        return subtaskMapper.toResponseDTO(subtask);
+    }
+
     public SubtaskResponseDTO getSubtaskById(UUID subtaskId) {
+        shardRouter.routeToSubtask(subtaskId);
         Subtask subtask = subtaskRepository.findById(subtaskId)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
         
         return subtaskMapper.toResponseDTO(subtask);
     }
-} 
\ No newline at end of file
+
+    private Subtask findParent(UUID parentSubtaskId, UUID taskId) {
+        Subtask parent = subtaskRepository.findById(parentSubtaskId)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + parentSubtaskId));
+
+        if (!parent.getTask().getId().equals(taskId)) {
+            throw new InvalidSubtaskParentException(
+                    "Parent subtask " + parentSubtaskId + " does not belong to task " + taskId);
+        }
+        return parent;
+    }
+
+    private String descendantPrefix(Subtask subtask) {
+        return subtask.getPath() + subtask.getId() + "/";
+    }
+}
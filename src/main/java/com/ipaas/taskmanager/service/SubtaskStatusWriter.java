@@ -0,0 +1,227 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import com.ipaas.taskmanager.config.SubtaskGroupCommitProperties;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.exception.subtask.SubtaskNotFoundException;
+import com.ipaas.taskmanager.exception.subtask.SubtaskStatusUpdateTimeoutException;
+import com.ipaas.taskmanager.exception.subtask.SubtaskStatusWriterUnavailableException;
+import com.ipaas.taskmanager.sharding.ShardIds;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entry point for subtask status updates. With group commit enabled, updates are queued and a
+ * single writer thread applies everything that arrived within {@code max-delay} in one
+ * transaction, completing each caller after the commit. Otherwise calls go straight to
+ * {@link SubtaskService#updateSubtaskStatus}.
+ * <p>
+ * Callers check {@code running} and enqueue under the read side of {@code lifecycle}; {@link #stop()} flips
+ * {@code running} under the write side, so nothing can be queued after the writer's final drain.
+ */
+@Service
+@Slf4j
+public class SubtaskStatusWriter implements SmartLifecycle {
+
+    private final SubtaskService subtaskService;
+    private final SubtaskGroupCommitProperties properties;
+    private final ShardRouter shardRouter;
+    private final BlockingQueue<PendingUpdate> queue;
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public SubtaskStatusWriter(SubtaskService subtaskService, SubtaskGroupCommitProperties properties,
+            ShardRouter shardRouter) {
+        this.subtaskService = subtaskService;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    public SubtaskResponseDTO updateSubtaskStatus(UUID subtaskId, UpdateSubtaskStatusDTO updateSubtaskStatusDTO) {
+        PendingUpdate update = enqueue(subtaskId, updateSubtaskStatusDTO.getStatus());
+        if (update == null) {
+            return subtaskService.updateSubtaskStatus(subtaskId, updateSubtaskStatusDTO);
+        }
+
+        try {
+            return update.result().get(properties.getResponseTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Subtask status update failed", e.getCause());
+        } catch (TimeoutException e) {
+            // The update stays queued and may still commit; the caller only stops waiting for it
+            throw new SubtaskStatusUpdateTimeoutException("Timed out waiting for subtask status update of " + subtaskId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SubtaskStatusWriterUnavailableException("Interrupted while waiting for subtask status update", e);
+        }
+    }
+
+    /** Queues the update, or returns {@code null} when the writer is not running and the caller should apply it directly. */
+    private PendingUpdate enqueue(UUID subtaskId, TaskStatus status) {
+        lifecycle.readLock().lock();
+        try {
+            if (!running) {
+                return null;
+            }
+            PendingUpdate update = new PendingUpdate(subtaskId, status, new CompletableFuture<>());
+            if (!queue.offer(update, properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SubtaskStatusWriterUnavailableException("Subtask status queue is full");
+            }
+            return update;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SubtaskStatusWriterUnavailableException("Interrupted while queueing subtask status update", e);
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("subtask-status-writer").daemon().start(this::drain);
+    }
+
+    @Override
+    public void stop() {
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        current.interrupt();
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        failLeftovers();
+    }
+
+    /** Fails whatever the writer did not get to, e.g. when it outlived the join timeout, so no caller waits forever. */
+    private void failLeftovers() {
+        List<PendingUpdate> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (leftovers.isEmpty()) {
+            return;
+        }
+        log.warn("Subtask status writer stopped with {} queued updates", leftovers.size());
+        SubtaskStatusWriterUnavailableException stopped = new SubtaskStatusWriterUnavailableException("Subtask status writer stopped");
+        leftovers.forEach(update -> update.result().completeExceptionally(stopped));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<PendingUpdate> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // Stopping: flush whatever is already queued before exiting
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingUpdate> batch) throws InterruptedException {
+        PendingUpdate first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + properties.getMaxDelay().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            queue.drainTo(batch, properties.getMaxBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.getMaxBatchSize() || remaining <= 0) {
+                return;
+            }
+            PendingUpdate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingUpdate> batch) {
+        // A transaction is bound to one shard, so a batch spanning shards commits once per shard
+        Map<Integer, List<PendingUpdate>> byShard = batch.stream()
+            .collect(Collectors.groupingBy(update -> ShardIds.shardOf(update.subtaskId()), TreeMap::new, Collectors.toList()));
+        byShard.forEach((shard, updates) -> shardRouter.callOnShard(shard, () -> {
+            commitShard(updates);
+            return null;
+        }));
+    }
+
+    private void commitShard(List<PendingUpdate> batch) {
+        Map<UUID, TaskStatus> updates = new LinkedHashMap<>();
+        batch.forEach(update -> updates.put(update.subtaskId(), update.status()));
+
+        Map<UUID, SubtaskResponseDTO> updated;
+        try {
+            updated = subtaskService.updateSubtaskStatuses(updates);
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} subtask status updates failed", batch.size(), e);
+            batch.forEach(update -> update.result().completeExceptionally(e));
+            return;
+        }
+
+        for (PendingUpdate update : batch) {
+            SubtaskResponseDTO response = updated.get(update.subtaskId());
+            if (response == null) {
+                update.result().completeExceptionally(
+                    new SubtaskNotFoundException("Subtask not found with id: " + update.subtaskId()));
+            } else {
+                update.result().complete(response);
+            }
+        }
+    }
+
+    private record PendingUpdate(UUID subtaskId, TaskStatus status, CompletableFuture<SubtaskResponseDTO> result) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.ipaas.taskmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.event.TaskChangedEvent;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskDependencyRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final SubtaskRepository subtaskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Moves one batch of tasks completed before {@code completedBefore} (and their subtasks)
+     * into the archive tables. Rows are copied with INSERT ... SELECT so nothing is hydrated.
+     *
+     * @return number of tasks archived; zero when there is nothing left to move
+     */
+    public int archiveBatch(LocalDateTime completedBefore, int batchSize) {
+        List<UUID> taskIds = taskRepository.findIdsByStatusAndCompletedAtBefore(
+            TaskStatus.COMPLETED, completedBefore, PageRequest.of(0, batchSize));
+
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+
+        archivedTaskRepository.copyFromTasks(taskIds, LocalDateTime.now());
+        archivedTaskRepository.copySubtasksFromTasks(taskIds);
+        // The archive kept parent and path; unlinking first keeps parent_id from blocking the delete
+        subtaskRepository.clearParentsByTaskIdIn(taskIds);
+        subtaskRepository.deleteAllByTaskIdIn(taskIds);
+        // Archived tasks are completed, so their dependents were already released
+        taskDependencyRepository.deleteAllTouchingTaskIdIn(taskIds);
+        // Cached responses of archived tasks would still say archived=false
+        taskIds.forEach(taskId -> eventPublisher.publishEvent(new TaskChangedEvent(taskId)));
+        return taskRepository.deleteAllByIdIn(taskIds);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ipaas.taskmanager.config.AutocompleteProperties;
+import com.ipaas.taskmanager.dto.response.TaskSuggestionDTO;
+import com.ipaas.taskmanager.event.TaskCreatedEvent;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.sharding.ShardIds;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+/**
+ * Per-user title autocomplete. A user's index is loaded from the database on their first lookup
+ * and afterwards kept current from {@link TaskCreatedEvent}s, so keystrokes never hit the database.
+ */
+@Service
+public class TaskAutocompleteService {
+
+    private final TaskRepository taskRepository;
+    private final AutocompleteProperties properties;
+    private final ShardRouter shardRouter;
+    private final Cache<UUID, TitlePrefixIndex> indexes;
+
+    public TaskAutocompleteService(TaskRepository taskRepository, AutocompleteProperties properties,
+            ShardRouter shardRouter) {
+        this.taskRepository = taskRepository;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        this.indexes = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxUsers())
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .build();
+    }
+
+    public List<TaskSuggestionDTO> suggest(UUID userId, String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit < 1) {
+            return List.of();
+        }
+
+        TitlePrefixIndex index = indexes.get(userId,
+            id -> new TitlePrefixIndex(shardRouter.callOnShard(ShardIds.shardOf(id),
+                () -> taskRepository.findTitlesByUserId(id))));
+        return index.suggest(prefix, Math.min(limit, properties.getMaxLimit()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskCreated(TaskCreatedEvent event) {
+        // Users that were never looked up are left cold; their index is built from the table on demand
+        TitlePrefixIndex index = indexes.getIfPresent(event.userId());
+        if (index != null) {
+            index.add(event.taskId(), event.title());
+        }
+    }
+}
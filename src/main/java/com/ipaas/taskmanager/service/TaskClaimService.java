@@ -0,0 +1,159 @@
+package com.ipaas.taskmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.config.ClaimProperties;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskClaimResponseDTO;
+import com.ipaas.taskmanager.event.TaskChangedEvent;
+import com.ipaas.taskmanager.exception.task.InvalidClaimLimitException;
+import com.ipaas.taskmanager.exception.task.TaskLeaseConflictException;
+import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.mapper.TaskMapper;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Work-queue access to tasks. Workers claim ready tasks in bulk instead of racing on status
+ * updates: each claim locks its rows with {@code SKIP LOCKED}, so concurrent claimers take
+ * disjoint tasks without waiting on each other, and moves them to IN_PROGRESS under a lease.
+ * Each claim issues a fresh lease token; renewing, releasing or completing a leased task requires
+ * it, so a worker whose lease ran out and was re-claimed cannot touch the task anymore. Leases
+ * that run out are returned to PENDING by {@link #releaseExpiredLeases}.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskClaimService {
+
+    private final TaskRepository taskRepository;
+    private final SubtaskRepository subtaskRepository;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+    private final ClaimProperties properties;
+    private final StatusHistoryService statusHistoryService;
+
+    /**
+     * Claims up to {@code limit} of the user's oldest ready tasks. Returns fewer, possibly none,
+     * when there are not enough unclaimed ones.
+     */
+    public TaskClaimResponseDTO claimTasks(UUID userId, int limit) {
+        if (limit < 1) {
+            throw new InvalidClaimLimitException("limit must be at least 1");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plus(properties.getLeaseDuration());
+        UUID leaseToken = UUID.randomUUID();
+
+        shardRouter.routeToUser(userId);
+        List<Task> claimed = taskRepository.findClaimableTasks(userId,
+            PageRequest.of(0, Math.min(limit, properties.getMaxLimit())));
+        claimed.forEach(task -> {
+            statusHistoryService.recordTaskTransition(task.getId(), task.getStatus(), TaskStatus.IN_PROGRESS, now);
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setLeaseExpiresAt(leaseExpiresAt);
+            task.setLeaseToken(leaseToken);
+        });
+        taskRepository.saveAllAndFlush(claimed);
+        claimed.forEach(task -> eventPublisher.publishEvent(new TaskChangedEvent(task.getId())));
+        return toClaimResponse(leaseToken, leaseExpiresAt, claimed);
+    }
+
+    /**
+     * Extends the lease on a claimed task by another lease duration, as long as {@code leaseToken}
+     * still holds it. A lease that ran out but was not reaped yet can still be renewed.
+     */
+    public TaskClaimResponseDTO renewLease(UUID taskId, UUID leaseToken) {
+        Task task = findLeasedTask(taskId, leaseToken);
+        task.setLeaseExpiresAt(LocalDateTime.now().plus(properties.getLeaseDuration()));
+        taskRepository.save(task);
+        return toClaimResponse(leaseToken, task.getLeaseExpiresAt(), List.of(task));
+    }
+
+    /** Gives a claimed task back to the queue before its lease runs out. */
+    public void releaseLease(UUID taskId, UUID leaseToken) {
+        Task task = findLeasedTask(taskId, leaseToken);
+        statusHistoryService.recordTaskTransition(taskId, task.getStatus(), TaskStatus.PENDING, LocalDateTime.now());
+        task.setStatus(TaskStatus.PENDING);
+        task.setLeaseExpiresAt(null);
+        task.setLeaseToken(null);
+        taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId));
+    }
+
+    /**
+     * Returns up to {@code batchSize} IN_PROGRESS tasks whose lease expired before {@code now} to
+     * PENDING on the current shard. Rows a worker is updating right now are skipped, not waited on.
+     *
+     * @return the number of tasks released
+     */
+    public int releaseExpiredLeases(LocalDateTime now, int batchSize) {
+        List<Task> expired = taskRepository.findExpiredLeases(now, PageRequest.of(0, batchSize));
+        expired.forEach(task -> {
+            statusHistoryService.recordTaskTransition(task.getId(), task.getStatus(), TaskStatus.PENDING, now);
+            task.setStatus(TaskStatus.PENDING);
+            task.setLeaseExpiresAt(null);
+            task.setLeaseToken(null);
+        });
+        taskRepository.saveAll(expired);
+        expired.forEach(task -> eventPublisher.publishEvent(new TaskChangedEvent(task.getId())));
+        return expired.size();
+    }
+
+    /**
+     * Rejects a change to {@code task} unless {@code leaseToken} is the one of its current lease.
+     * A task without a lease only accepts changes that carry no token.
+     */
+    static void checkLease(Task task, UUID leaseToken) {
+        if (task.getLeaseToken() == null && leaseToken == null) {
+            return;
+        }
+        if (task.getLeaseToken() == null) {
+            throw new TaskLeaseConflictException("Task with ID " + task.getId() + " is not leased");
+        }
+        if (!task.getLeaseToken().equals(leaseToken)) {
+            throw new TaskLeaseConflictException("Task with ID " + task.getId() + " is leased under another token");
+        }
+    }
+
+    private Task findLeasedTask(UUID taskId, UUID leaseToken) {
+        shardRouter.routeToTask(taskId);
+        Task task = taskRepository.findByIdForUpdate(taskId)
+            .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
+        if (task.getLeaseToken() == null) {
+            throw new TaskLeaseConflictException("Task with ID " + taskId + " is not leased");
+        }
+        checkLease(task, leaseToken);
+        return task;
+    }
+
+    private TaskClaimResponseDTO toClaimResponse(UUID leaseToken, LocalDateTime leaseExpiresAt, List<Task> tasks) {
+        Map<UUID, List<SubtaskResponseDTO>> subtasksByTask = tasks.isEmpty()
+            ? Map.of()
+            : subtaskRepository.findResponsesByTaskIdIn(tasks.stream().map(Task::getId).toList()).stream()
+                .collect(Collectors.groupingBy(SubtaskResponseDTO::getTaskId));
+
+        return TaskClaimResponseDTO.builder()
+            .leaseToken(leaseToken)
+            .leaseExpiresAt(leaseExpiresAt)
+            .tasks(tasks.stream()
+                .map(task -> taskMapper.toDTO(task, subtasksByTask.getOrDefault(task.getId(), List.of())))
+                .toList())
+            .build();
+    }
+}
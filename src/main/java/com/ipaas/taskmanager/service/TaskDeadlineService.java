@@ -0,0 +1,59 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.projection.TaskDeadline;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads open due dates of tasks and subtasks on the current shard, for the deadline scheduler.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskDeadlineService {
+
+    private final TaskRepository taskRepository;
+    private final SubtaskRepository subtaskRepository;
+
+    public void forEachOpenDeadline(Consumer<TaskDeadline> consumer) {
+        try (Stream<TaskDeadline> tasks = taskRepository.streamOpenDeadlines()) {
+            tasks.forEach(consumer);
+        }
+        try (Stream<TaskDeadline> subtasks = subtaskRepository.streamOpenDeadlines()) {
+            subtasks.forEach(consumer);
+        }
+    }
+
+    /**
+     * The deadlines that still hold: the row exists, is not completed and has the same due date.
+     */
+    public List<TaskDeadline> findCurrent(Collection<TaskDeadline> deadlines) {
+        Set<UUID> taskIds = deadlines.stream()
+            .filter(deadline -> deadline.subtaskId() == null)
+            .map(TaskDeadline::taskId)
+            .collect(Collectors.toSet());
+        Set<UUID> subtaskIds = deadlines.stream()
+            .map(TaskDeadline::subtaskId)
+            .filter(subtaskId -> subtaskId != null)
+            .collect(Collectors.toSet());
+
+        Set<TaskDeadline> open = Stream.concat(
+                taskIds.isEmpty() ? Stream.empty() : taskRepository.findOpenDeadlinesByIdIn(taskIds).stream(),
+                subtaskIds.isEmpty() ? Stream.empty() : subtaskRepository.findOpenDeadlinesByIdIn(subtaskIds).stream())
+            .collect(Collectors.toSet());
+        return deadlines.stream().filter(open::contains).toList();
+    }
+}
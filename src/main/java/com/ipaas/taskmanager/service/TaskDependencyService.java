@@ -0,0 +1,146 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.TaskDependency;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.TaskDependencyResponseDTO;
+import com.ipaas.taskmanager.exception.task.InvalidTaskDependencyException;
+import com.ipaas.taskmanager.exception.task.TaskDependencyCycleException;
+import com.ipaas.taskmanager.exception.task.TaskDependencyNotFoundException;
+import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.repository.TaskDependencyRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.sharding.ShardIds;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains the dependency graph between tasks of the same user. Readiness is tracked
+ * incrementally through {@link Task#getPendingDependencies()}: adding an edge to an unfinished
+ * prerequisite increments it, and completing a task decrements it on all dependents
+ * (see {@link TaskService#updateTaskStatus}), so the graph is never walked to answer "what can start".
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskDependencyService {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+
+    public TaskDependencyResponseDTO addDependency(UUID taskId, UUID dependsOnTaskId) {
+        if (taskId.equals(dependsOnTaskId)) {
+            throw new InvalidTaskDependencyException("A task cannot depend on itself: " + taskId);
+        }
+        // Tasks live on their user's shard, so tasks on different shards never share a user
+        if (ShardIds.shardOf(taskId) != ShardIds.shardOf(dependsOnTaskId)) {
+            throw new InvalidTaskDependencyException("Tasks " + taskId + " and " + dependsOnTaskId
+                + " belong to different users");
+        }
+        shardRouter.routeToTask(taskId);
+
+        Task task = taskRepository.findById(taskId)
+            .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            throw new InvalidTaskDependencyException("Cannot add dependencies to completed task: " + taskId);
+        }
+
+        // Serialises graph changes per user so two concurrent inserts cannot close a cycle together,
+        // and locks the prerequisite so it cannot complete between the status check and the increment
+        userRepository.findByIdForUpdate(task.getUser().getId());
+        Task dependsOn = taskRepository.findByIdForUpdate(dependsOnTaskId)
+            .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + dependsOnTaskId));
+
+        if (!dependsOn.getUser().getId().equals(task.getUser().getId())) {
+            throw new InvalidTaskDependencyException("Tasks " + taskId + " and " + dependsOnTaskId
+                + " belong to different users");
+        }
+
+        TaskDependency dependency = taskDependencyRepository.findByTaskIdAndDependsOnId(taskId, dependsOnTaskId)
+            .orElse(null);
+        if (dependency == null) {
+            if (dependsTransitivelyOn(dependsOnTaskId, taskId)) {
+                throw new TaskDependencyCycleException("Task " + dependsOnTaskId + " already depends on " + taskId);
+            }
+
+            dependency = taskDependencyRepository.save(TaskDependency.builder()
+                .task(task)
+                .dependsOn(dependsOn)
+                .build());
+
+            if (dependsOn.getStatus() != TaskStatus.COMPLETED) {
+                taskRepository.adjustPendingDependencies(taskId, 1);
+            }
+        }
+
+        return new TaskDependencyResponseDTO(taskId, dependsOnTaskId, dependsOn.getTitle(),
+            dependsOn.getStatus(), dependency.getCreatedAt());
+    }
+
+    public void removeDependency(UUID taskId, UUID dependsOnTaskId) {
+        shardRouter.routeToTask(taskId);
+        Task dependsOn = taskRepository.findByIdForUpdate(dependsOnTaskId)
+            .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + dependsOnTaskId));
+        TaskDependency dependency = taskDependencyRepository.findByTaskIdAndDependsOnId(taskId, dependsOnTaskId)
+            .orElseThrow(() -> new TaskDependencyNotFoundException(
+                "Task " + taskId + " does not depend on " + dependsOnTaskId));
+
+        taskDependencyRepository.delete(dependency);
+
+        if (dependsOn.getStatus() != TaskStatus.COMPLETED) {
+            taskRepository.adjustPendingDependencies(taskId, -1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDependencyResponseDTO> getDependencies(UUID taskId) {
+        shardRouter.routeToTask(taskId);
+        if (!taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException("Task not found with ID: " + taskId);
+        }
+
+        return taskDependencyRepository.findResponsesByTaskId(taskId);
+    }
+
+    /**
+     * Breadth-first walk over prerequisites starting at {@code from}, one query per level and
+     * chunk, stopping as soon as {@code target} is reached.
+     */
+    private boolean dependsTransitivelyOn(UUID from, UUID target) {
+        Set<UUID> visited = new HashSet<>();
+        visited.add(from);
+        List<UUID> frontier = List.of(from);
+
+        while (!frontier.isEmpty()) {
+            List<UUID> next = new ArrayList<>();
+            for (int start = 0; start < frontier.size(); start += LOOKUP_CHUNK_SIZE) {
+                List<UUID> chunk = frontier.subList(start, Math.min(start + LOOKUP_CHUNK_SIZE, frontier.size()));
+                for (UUID prerequisite : taskDependencyRepository.findDependsOnIdsByTaskIdIn(chunk)) {
+                    if (prerequisite.equals(target)) {
+                        return true;
+                    }
+                    if (visited.add(prerequisite)) {
+                        next.add(prerequisite);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return false;
+    }
+}
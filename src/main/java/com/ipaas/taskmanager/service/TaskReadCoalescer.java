@@ -0,0 +1,44 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight front for the hot task reads. Runs outside the service transactions so a
+ * burst of identical requests turns into one database load whose result is shared.
+ */
+@Service
+public class TaskReadCoalescer {
+
+    private final TaskService taskService;
+    private final SubtaskService subtaskService;
+    private final SingleFlight<TaskReadKey, TaskResponseDTO> taskReads;
+    private final SingleFlight<UUID, List<SubtaskResponseDTO>> subtaskReads;
+
+    public TaskReadCoalescer(TaskService taskService, SubtaskService subtaskService, MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.subtaskService = subtaskService;
+        this.taskReads = new SingleFlight<>("getTaskById", meterRegistry);
+        this.subtaskReads = new SingleFlight<>("getSubtasksByTaskId", meterRegistry);
+    }
+
+    public TaskResponseDTO getTaskById(UUID taskId, TaskFieldSelection selection) {
+        return taskReads.execute(new TaskReadKey(taskId, selection),
+            () -> taskService.getTaskById(taskId, selection));
+    }
+
+    public List<SubtaskResponseDTO> getSubtasksByTaskId(UUID taskId) {
+        return subtaskReads.execute(taskId, () -> subtaskService.getSubtasksByTaskId(taskId));
+    }
+
+    private record TaskReadKey(UUID taskId, TaskFieldSelection selection) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanager.config.TaskCacheProperties;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.event.TaskChangedEvent;
+import com.ipaas.taskmanager.event.UserUpdatedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Full task responses, serialized once to JSON and kept off-heap so hot reads are answered by
+ * copying bytes, without loading entities or building DTOs, and without adding long-lived
+ * objects to the heap. Filled by {@link TaskService} reads and invalidated after commit by
+ * {@link TaskChangedEvent} and {@link UserUpdatedEvent}.
+ */
+@Slf4j
+@Service
+public class TaskResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final OffHeapSlabCache<UUID> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskResponseCache(ObjectMapper objectMapper, TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.cache = new OffHeapSlabCache<>(properties.getCapacity().toBytes(), (int) properties.getSlabSize().toBytes(),
+            properties.getTimeToLive().toNanos());
+        this.hits = Counter.builder("taskmanager.task_cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("taskmanager.task_cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("taskmanager.task_cache.entries", cache, OffHeapSlabCache::size).register(meterRegistry);
+        Gauge.builder("taskmanager.task_cache.allocated", cache, OffHeapSlabCache::allocatedBytes)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /** @return the task's JSON response, or {@code null} when it is not cached */
+    public byte[] getJson(UUID taskId) {
+        if (!enabled) {
+            return null;
+        }
+
+        byte[] json = cache.get(taskId);
+        (json != null ? hits : misses).increment();
+        return json;
+    }
+
+    /** Must be taken before the task is read, and passed to {@link #put}. */
+    public long token(UUID taskId) {
+        return cache.token(taskId);
+    }
+
+    /** Inside a transaction the response is only cached once it commits. */
+    public void put(UUID taskId, long token, TaskResponseDTO task) {
+        if (!enabled) {
+            return;
+        }
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not cache task {}", taskId, e);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(taskId, token, json);
+                }
+            });
+        } else {
+            cache.put(taskId, token, json);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        cache.invalidate(event.taskId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        // Users are renamed rarely and own many tasks; dropping everything beats indexing tasks by user
+        cache.invalidateAll();
+    }
+}
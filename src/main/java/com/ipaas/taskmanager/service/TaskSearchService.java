@@ -0,0 +1,50 @@
+package com.ipaas.taskmanager.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+import com.ipaas.taskmanager.exception.task.InvalidSearchQueryException;
+import com.ipaas.taskmanager.repository.search.TaskSearchRepository;
+import com.ipaas.taskmanager.sharding.ShardMerge;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    static final int MAX_QUERY_LENGTH = 200;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskSearchRepository taskSearchRepository;
+    private final ShardRouter shardRouter;
+
+    public List<SearchResultDTO> search(String query, UUID userId, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        int offset = Math.max(page, 0) * limit;
+
+        if (userId == null && shardRouter.isSharded()) {
+            // Scores are comparable across shards, so the global page is cut from each shard's top rows
+            List<List<SearchResultDTO>> shardResults = shardRouter.queryEachShard(
+                shard -> taskSearchRepository.search(query.strip(), null, offset + limit, 0));
+            return ShardMerge.page(shardResults, Comparator.comparingDouble(SearchResultDTO::getScore).reversed(), offset, limit);
+        }
+
+        shardRouter.routeToUser(userId);
+        return taskSearchRepository.search(query.strip(), userId, limit, offset);
+    }
+}
@@ -1,32 +1,54 @@
 package com.ipaas.taskmanager.service;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
 import com.ipaas.taskmanager.domain.entity.Task;
 import com.ipaas.taskmanager.domain.entity.User;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
 import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
 import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
 import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
 import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.event.DueDateSetEvent;
+import com.ipaas.taskmanager.event.TaskChangedEvent;
+import com.ipaas.taskmanager.event.TaskCompletedEvent;
+import com.ipaas.taskmanager.event.TaskCreatedEvent;
+import com.ipaas.taskmanager.exception.task.TaskBlockedByDependenciesException;
 import com.ipaas.taskmanager.exception.task.TaskCannotBeCompletedException;
 import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
 import com.ipaas.taskmanager.exception.task.InvalidTaskStatusTransitionException;
 import com.ipaas.taskmanager.exception.user.UserInactiveException;
 import com.ipaas.taskmanager.exception.user.UserNotFoundException;
 import com.ipaas.taskmanager.mapper.TaskMapper;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+import com.ipaas.taskmanager.repository.OffsetPageRequest;
 import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskFilter;
 import com.ipaas.taskmanager.repository.TaskRepository;
 import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+import com.ipaas.taskmanager.sharding.ShardMerge;
+import com.ipaas.taskmanager.sharding.ShardRouter;
 
 import lombok.RequiredArgsConstructor;  
 
@@ -38,9 +60,15 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final SubtaskRepository subtaskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+    private final TaskResponseCache taskResponseCache;
+    private final StatusHistoryService statusHistoryService;
 
     public TaskResponseDTO createTask(CreateTaskDTO createTaskDTO) {
+        shardRouter.routeToUser(createTaskDTO.getUserId());
         User user = userRepository.findById(createTaskDTO.getUserId())
             .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + createTaskDTO.getUserId()));
         
@@ -51,34 +79,167 @@ public class TaskService {
         Task task = taskMapper.toEntity(createTaskDTO);
         task.setUser(user);
         taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskCreatedEvent(task.getId(), user.getId(), task.getTitle()));
+        if (task.getDueAt() != null) {
+            eventPublisher.publishEvent(new DueDateSetEvent(task.getId(), null, task.getDueAt()));
+        }
         
         return taskMapper.toDTO(task);
     }
 
     public TaskResponseDTO getTaskById(UUID taskId) {
-        Task task = taskRepository.findById(taskId)
+        shardRouter.routeToTask(taskId);
+        long cacheToken = taskResponseCache.token(taskId);
+        TaskResponseDTO task = taskRepository.findById(taskId)
+            .map(found -> taskMapper.toDTO(found, subtaskRepository.findResponsesByTaskId(taskId)))
+            .or(() -> archivedTaskRepository.findById(taskId).map(taskMapper::toArchivedDTO))
             .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
-        
-        return taskMapper.toDTO(task);
+        taskResponseCache.put(taskId, cacheToken, task);
+        return task;
     }
 
+    @Transactional(readOnly = true)
+    public TaskResponseDTO getTaskById(UUID taskId, TaskFieldSelection selection) {
+        shardRouter.routeToTask(taskId);
+        if (selection.isAll()) {
+            return getTaskById(taskId);
+        }
 
+        return taskRepository.findSummaryById(taskId)
+            .map(task -> taskMapper.toDTO(task, selection.includesSubtasks()
+                ? subtaskRepository.findResponsesByTaskId(taskId)
+                : null))
+            .or(() -> archivedTaskRepository.findById(taskId).map(task -> taskMapper.toArchivedDTO(task, selection)))
+            .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
+    }
 
+    @Transactional(readOnly = true)
     public PageResponseDTO<TaskResponseDTO> getTasksWithFilters(UUID userId, TaskStatus status, String title, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findTasksWithFilters(userId, status, title, pageable);
-        
-        List<TaskResponseDTO> filteredTasks = tasks.getContent().stream()
-            .map(taskMapper::toDTO)
-            .filter(task -> title == null || title.isEmpty() || 
-                task.getTitle().toLowerCase().contains(title.toLowerCase()))
+        return getTasksWithFilters(TaskFilter.of(userId, status, title), false, TaskFieldSelection.ALL, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskResponseDTO> getTasksWithFilters(UUID userId, TaskStatus status, String title,
+            boolean includeArchived, TaskFieldSelection selection, Pageable pageable) {
+        return getTasksWithFilters(TaskFilter.of(userId, status, title), includeArchived, selection, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskResponseDTO> getTasksWithFilters(TaskFilter filter,
+            boolean includeArchived, TaskFieldSelection selection, Pageable pageable) {
+        if (filter.userId() == null && shardRouter.isSharded()) {
+            return getTasksAcrossShards(filter, includeArchived, selection, pageable);
+        }
+
+        shardRouter.routeToUser(filter.userId());
+        return listTasks(filter, includeArchived, selection, pageable);
+    }
+
+    /**
+     * Cross-user listing with sharding: every shard lists its first {@code offset + size} rows and
+     * the page is cut from the merge, in the requested sort, with live and archived rows interleaved.
+     */
+    private PageResponseDTO<TaskResponseDTO> getTasksAcrossShards(TaskFilter filter,
+            boolean includeArchived, TaskFieldSelection selection, Pageable pageable) {
+        Pageable window = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), pageable.getSort());
+        List<PageResponseDTO<TaskResponseDTO>> shardPages = shardRouter.queryEachShard(
+            shard -> listTasks(filter, includeArchived, selection, window));
+
+        Comparator<TaskResponseDTO> order = ShardMerge.comparator(pageable.getSort(), TaskService::sortValue);
+        List<TaskResponseDTO> content = ShardMerge.page(
+            shardPages.stream().map(PageResponseDTO::getContent).toList(), order, pageable.getOffset(), pageable.getPageSize());
+        long totalElements = shardPages.stream().mapToLong(PageResponseDTO::getTotalElements).sum();
+
+        return toPageResponse(new PageImpl<>(content, pageable, totalElements), pageable);
+    }
+
+    private static Object sortValue(TaskResponseDTO task, String property) {
+        return switch (property) {
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            case "completedAt" -> task.getCompletedAt();
+            case "id" -> task.getId();
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+        };
+    }
+
+    private PageResponseDTO<TaskResponseDTO> listTasks(TaskFilter filter,
+            boolean includeArchived, TaskFieldSelection selection, Pageable pageable) {
+        if (includeArchived) {
+            return listLiveAndArchivedTasks(filter, selection, pageable);
+        }
+
+        Page<TaskSummary> tasks = taskRepository.findTaskSummaries(filter, selection.includesDescription(), pageable);
+        List<TaskResponseDTO> pageTasks = toDTOs(tasks.getContent(), selection);
+        return toPageResponse(new PageImpl<>(pageTasks, pageable, tasks.getTotalElements()), pageable);
+    }
+
+    /**
+     * Both tables list their first {@code offset + size} rows in the requested sort and the page is cut
+     * from their merge, the same way shards are combined. Unsorted listings keep live rows first.
+     */
+    private PageResponseDTO<TaskResponseDTO> listLiveAndArchivedTasks(TaskFilter filter,
+            TaskFieldSelection selection, Pageable pageable) {
+        Pageable window = new OffsetPageRequest(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()),
+            pageable.getSort());
+        Page<TaskSummary> live = taskRepository.findTaskSummaries(filter, selection.includesDescription(), window);
+        List<ArchivedTask> archived = archivedTaskRepository.findArchivedTasksWithFilters(filter.userId(),
+            filter.status(), filter.titlePattern(), filter.createdFrom(), filter.createdTo(), filter.completedFrom(),
+            filter.completedTo(), window);
+        long archivedTotal = archivedTaskRepository.countArchivedTasksWithFilters(filter.userId(), filter.status(),
+            filter.titlePattern(), filter.createdFrom(), filter.createdTo(), filter.completedFrom(), filter.completedTo());
+
+        List<ListedTask> page = ShardMerge.page(
+            List.of(live.getContent().stream().map(ListedTask::live).toList(),
+                archived.stream().map(ListedTask::archived).toList()),
+            ShardMerge.comparator(pageable.getSort(), ListedTask::sortValue),
+            pageable.getOffset(), pageable.getPageSize());
+
+        // Subtasks are loaded only for the live rows that made it into the page
+        List<TaskSummary> pageLive = page.stream().map(ListedTask::summary).filter(Objects::nonNull).toList();
+        Map<UUID, TaskResponseDTO> liveById = toDTOs(pageLive, selection).stream()
+            .collect(Collectors.toMap(TaskResponseDTO::getId, Function.identity()));
+        List<TaskResponseDTO> pageTasks = page.stream()
+            .map(row -> row.summary() != null ? liveById.get(row.summary().id()) : taskMapper.toArchivedDTO(row.archivedTask(), selection))
             .toList();
-        
-        Page<TaskResponseDTO> tasksPage = new PageImpl<>(
-            filteredTasks, 
-            pageable, 
-            tasks.getTotalElements()
-        );
-        
+
+        return toPageResponse(new PageImpl<>(pageTasks, pageable, live.getTotalElements() + archivedTotal), pageable);
+    }
+
+    private List<TaskResponseDTO> toDTOs(List<TaskSummary> tasks, TaskFieldSelection selection) {
+        Map<UUID, List<SubtaskResponseDTO>> subtasksByTask = selection.includesSubtasks()
+            ? loadSubtasks(tasks)
+            : null;
+        return tasks.stream()
+            .map(task -> taskMapper.toDTO(task, subtasksByTask == null
+                ? null
+                : subtasksByTask.getOrDefault(task.id(), List.of())))
+            .toList();
+    }
+
+    /** A live or archived row, compared on the listing sort before either is mapped. */
+    private record ListedTask(TaskSummary summary, ArchivedTask archivedTask) {
+
+        static ListedTask live(TaskSummary summary) {
+            return new ListedTask(summary, null);
+        }
+
+        static ListedTask archived(ArchivedTask archivedTask) {
+            return new ListedTask(null, archivedTask);
+        }
+
+        Object sortValue(String property) {
+            return switch (property) {
+                case "createdAt" -> summary != null ? summary.createdAt() : archivedTask.getCreatedAt();
+                case "updatedAt" -> summary != null ? summary.updatedAt() : archivedTask.getUpdatedAt();
+                case "completedAt" -> summary != null ? summary.completedAt() : archivedTask.getCompletedAt();
+                case "id" -> summary != null ? summary.id() : archivedTask.getId();
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+            };
+        }
+    }
+
+    private static PageResponseDTO<TaskResponseDTO> toPageResponse(Page<TaskResponseDTO> tasksPage, Pageable pageable) {
         return PageResponseDTO.<TaskResponseDTO>builder()
                 .content(tasksPage.getContent())
                 .totalElements(tasksPage.getTotalElements())
@@ -90,30 +251,115 @@ public class TaskService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public void streamTasks(UUID userId, TaskStatus status, Consumer<TaskResponseDTO> consumer) {
+        if (userId == null && shardRouter.isSharded()) {
+            // Shard by shard, so a cross-user export is not ordered globally
+            shardRouter.forEachShard(shard -> streamShardTasks(null, status, consumer));
+            return;
+        }
+
+        shardRouter.routeToUser(userId);
+        streamShardTasks(userId, status, consumer);
+    }
+
+    private void streamShardTasks(UUID userId, TaskStatus status, Consumer<TaskResponseDTO> consumer) {
+        try (Stream<TaskSummary> tasks = taskRepository.streamTasksWithFilters(userId, status)) {
+            tasks.forEach(task -> consumer.accept(taskMapper.toDTO(task, null)));
+        }
+    }
+
+    /**
+     * Pending tasks of a user whose dependencies are all completed, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskResponseDTO> getReadyTasks(UUID userId, Pageable pageable) {
+        shardRouter.routeToUser(userId);
+        Page<TaskSummary> tasks = taskRepository.findReadyTasks(userId, pageable);
+        Map<UUID, List<SubtaskResponseDTO>> subtasksByTask = loadSubtasks(tasks.getContent());
+
+        Page<TaskResponseDTO> readyPage = tasks.map(task ->
+            taskMapper.toDTO(task, subtasksByTask.getOrDefault(task.id(), List.of())));
+
+        return toPageResponse(readyPage, pageable);
+    }
+
+    /**
+     * Open tasks of a user whose due date has passed, most overdue first.
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskResponseDTO> getOverdueTasks(UUID userId, Pageable pageable) {
+        shardRouter.routeToUser(userId);
+        Page<TaskSummary> tasks = taskRepository.findOverdueTasks(userId, LocalDateTime.now(), pageable);
+        Map<UUID, List<SubtaskResponseDTO>> subtasksByTask = loadSubtasks(tasks.getContent());
+
+        Page<TaskResponseDTO> overduePage = tasks.map(task ->
+            taskMapper.toDTO(task, subtasksByTask.getOrDefault(task.id(), List.of())));
+
+        return toPageResponse(overduePage, pageable);
+    }
+
+    private Map<UUID, List<SubtaskResponseDTO>> loadSubtasks(List<TaskSummary> tasks) {
+        if (tasks.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> taskIds = tasks.stream().map(TaskSummary::id).toList();
+        return subtaskRepository.findResponsesByTaskIdIn(taskIds).stream()
+            .collect(Collectors.groupingBy(SubtaskResponseDTO::getTaskId));
+    }
+
     public TaskResponseDTO updateTaskStatus(UUID taskId, UpdateTaskStatusDTO updateTaskStatusDTO) {
-        Task task = taskRepository.findById(taskId)
+        shardRouter.routeToTask(taskId);
+        // Locked so a concurrent claim or lease renewal cannot slip in between the lease check and the update
+        Task task = taskRepository.findByIdForUpdate(taskId)
             .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
         
         TaskStatus newStatus = updateTaskStatusDTO.getStatus();
         TaskStatus currentStatus = task.getStatus();
         
         validateStatusTransition(currentStatus, newStatus);
+        TaskClaimService.checkLease(task, updateTaskStatusDTO.getLeaseToken());
+
+        // A task that gained a dependency while in progress can still be moved back to PENDING
+        if (newStatus != TaskStatus.PENDING && task.getPendingDependencies() > 0) {
+            throw new TaskBlockedByDependenciesException(
+                "Cannot move task with ID " + taskId + " to " + newStatus + " because "
+                    + task.getPendingDependencies() + " of its dependencies are not completed");
+        }
         
         if (newStatus == TaskStatus.COMPLETED) {
             validateTaskCanBeCompleted(task);
         }
         
+        LocalDateTime now = LocalDateTime.now();
         task.setStatus(newStatus);
+        // Any explicit status change ends a lease taken through the claim API
+        task.setLeaseExpiresAt(null);
+        task.setLeaseToken(null);
         
         if (newStatus == TaskStatus.COMPLETED) {
-            task.setCompletedAt(LocalDateTime.now());
+            task.setCompletedAt(now);
         } else if (currentStatus == TaskStatus.COMPLETED && newStatus != TaskStatus.COMPLETED) {
             task.setCompletedAt(null);
         }
         
         Task updatedTask = taskRepository.save(task);
+        statusHistoryService.recordTaskTransition(taskId, currentStatus, newStatus, now);
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId));
+
+        if (newStatus == TaskStatus.COMPLETED) {
+            taskRepository.releaseDependents(taskId);
+            // Only a task completed from IN_PROGRESS has a cycle time
+            LocalDateTime startedAt = currentStatus == TaskStatus.IN_PROGRESS
+                ? statusHistoryService.findLastTransitionTo(taskId, TaskStatus.IN_PROGRESS)
+                : null;
+            eventPublisher.publishEvent(new TaskCompletedEvent(taskId, task.getUser().getId(), task.getCreatedAt(),
+                startedAt, now));
+        }
         
-        return taskMapper.toDTO(updatedTask);
+        // Subtasks through the projection: mapping the lazy collection would load each description separately
+        return taskMapper.toDTO(updatedTask, subtaskRepository.findResponsesByTaskId(taskId));
     }
 
     private void validateStatusTransition(TaskStatus currentStatus, TaskStatus newStatus) {
@@ -126,16 +372,11 @@ public class TaskService {
     }
 
     private void validateTaskCanBeCompleted(Task task) {
-        List<Subtask> subtasks = subtaskRepository.findByTaskId(task.getId());
-        if (!subtasks.isEmpty()) {
-            boolean hasIncompleteSubtasks = subtasks.stream()
-                .anyMatch(subtask -> subtask.getStatus() != TaskStatus.COMPLETED);
-            
-            if (hasIncompleteSubtasks) {
-                throw new TaskCannotBeCompletedException(
-                    "Cannot complete task with ID " + task.getId() + " because it has incomplete subtasks"
-                );
-            }
+        // Nested subtasks keep the task_id of their task, so one count covers every depth
+        if (subtaskRepository.countIncompleteByTaskId(task.getId()) > 0) {
+            throw new TaskCannotBeCompletedException(
+                "Cannot complete task with ID " + task.getId() + " because it has incomplete subtasks"
+            );
         }
     }
 
@@ -0,0 +1,53 @@
+package com.ipaas.taskmanager.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.ipaas.taskmanager.event.SubtaskCompletedEvent;
+import com.ipaas.taskmanager.event.SubtaskCreatedEvent;
+import com.ipaas.taskmanager.event.TaskCompletedEvent;
+import com.ipaas.taskmanager.event.TaskCreatedEvent;
+import com.ipaas.taskmanager.service.ThroughputService.ThroughputCounts;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts creations and completions of tasks and subtasks into the persisted throughput buckets.
+ * The listeners run synchronously inside the writing transaction, so a count is never lost to a
+ * crash and never outlives a rolled back write.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "taskmanager.throughput", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ThroughputRecorder {
+
+    private static final ThroughputCounts TASK_CREATED = new ThroughputCounts(1, 0, 0, 0);
+    private static final ThroughputCounts TASK_COMPLETED = new ThroughputCounts(0, 1, 0, 0);
+    private static final ThroughputCounts SUBTASK_CREATED = new ThroughputCounts(0, 0, 1, 0);
+    private static final ThroughputCounts SUBTASK_COMPLETED = new ThroughputCounts(0, 0, 0, 1);
+
+    private final ThroughputService throughputService;
+
+    @EventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        throughputService.record(event.userId(), LocalDateTime.now(), TASK_CREATED);
+    }
+
+    @EventListener
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        throughputService.record(event.userId(), event.completedAt(), TASK_COMPLETED);
+    }
+
+    @EventListener
+    public void onSubtaskCreated(SubtaskCreatedEvent event) {
+        throughputService.record(event.userId(), LocalDateTime.now(), SUBTASK_CREATED);
+    }
+
+    @EventListener
+    public void onSubtaskCompleted(SubtaskCompletedEvent event) {
+        throughputService.record(event.userId(), event.completedAt(), SUBTASK_COMPLETED);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ipaas.taskmanager.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipaas.taskmanager.config.ThroughputProperties;
+import com.ipaas.taskmanager.domain.entity.ThroughputBucket;
+import com.ipaas.taskmanager.domain.enums.BucketGranularity;
+import com.ipaas.taskmanager.dto.response.ThroughputBucketDTO;
+import com.ipaas.taskmanager.dto.response.ThroughputReportDTO;
+import com.ipaas.taskmanager.exception.task.InvalidThroughputWindowException;
+import com.ipaas.taskmanager.repository.ThroughputBucketRepository;
+import com.ipaas.taskmanager.repository.projection.ThroughputTotal;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Created and completed counts from the pre-aggregated hourly and daily buckets. Reports read
+ * the coarsest rollup that fits the requested interval and sum consecutive buckets into it, so
+ * the tasks table is never scanned.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ThroughputService {
+
+    private static final Duration DAY = Duration.ofDays(1);
+
+    private final ThroughputBucketRepository throughputBucketRepository;
+    private final ShardRouter shardRouter;
+    private final ThroughputProperties properties;
+
+    /**
+     * Adds the counts of one of the user's writes, made at {@code at}, to the user's hourly and
+     * daily buckets. Runs in the writer's transaction, so the counts commit or roll back with the
+     * write; only the user's own rows are locked, and shard totals are summed when read.
+     */
+    public void record(UUID userId, LocalDateTime at, ThroughputCounts counts) {
+        shardRouter.routeToUser(userId);
+        LocalDateTime hour = at.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime day = at.truncatedTo(ChronoUnit.DAYS);
+
+        // Always in id order (DAY before HOUR), so two writes of one user cannot deadlock
+        Stream.of(new BucketKey(BucketGranularity.DAY, userId, day), new BucketKey(BucketGranularity.HOUR, userId, hour))
+            .forEach(key -> throughputBucketRepository.addCounts(key.id(), key.granularity(), key.userId(), key.start(),
+                counts.tasksCreated(), counts.tasksCompleted(), counts.subtasksCreated(), counts.subtasksCompleted()));
+    }
+
+    /**
+     * Counts between {@code from} (inclusive) and {@code to} (exclusive) in buckets of
+     * {@code interval}, for one user or for everyone when {@code userId} is {@code null}. Whole-day
+     * intervals read the daily rollup and start at midnight; shorter ones read the hourly rollup,
+     * start on the hour and are limited to its retention.
+     */
+    @Transactional(readOnly = true)
+    public ThroughputReportDTO getReport(UUID userId, LocalDateTime from, LocalDateTime to, Duration interval) {
+        if (interval.isNegative() || interval.isZero() || interval.toSeconds() % 3600 != 0 || interval.toNanosPart() != 0) {
+            throw new InvalidThroughputWindowException("interval must be a whole number of hours");
+        }
+        boolean daily = interval.compareTo(DAY) >= 0;
+        if (daily && interval.toSeconds() % DAY.toSeconds() != 0) {
+            throw new InvalidThroughputWindowException("Intervals of a day or more must be a whole number of days");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidThroughputWindowException("from must be before to");
+        }
+
+        BucketGranularity granularity = daily ? BucketGranularity.DAY : BucketGranularity.HOUR;
+        LocalDateTime start = from.truncatedTo(daily ? ChronoUnit.DAYS : ChronoUnit.HOURS);
+        if (!daily && start.isBefore(LocalDateTime.now().minus(properties.getHourlyRetention()))) {
+            throw new InvalidThroughputWindowException("Hourly buckets are kept for "
+                + properties.getHourlyRetention() + "; use a whole-day interval for older data");
+        }
+        long bucketCount = (Duration.between(start, to).toSeconds() + interval.toSeconds() - 1) / interval.toSeconds();
+        if (bucketCount > properties.getMaxBuckets()) {
+            throw new InvalidThroughputWindowException("A report returns at most " + properties.getMaxBuckets()
+                + " buckets; use a longer interval or a shorter window");
+        }
+
+        List<ThroughputTotal> rows;
+        if (userId != null) {
+            shardRouter.routeToUser(userId);
+            rows = throughputBucketRepository.findUserBuckets(userId, granularity, start, to).stream()
+                .map(row -> new ThroughputTotal(row.getBucketStart(), row.getTasksCreated(), row.getTasksCompleted(),
+                    row.getSubtasksCreated(), row.getSubtasksCompleted()))
+                .toList();
+        } else {
+            rows = shardRouter.queryEachShard(shard -> throughputBucketRepository.findTotalBuckets(granularity, start, to))
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+        }
+
+        ThroughputCounts[] counts = new ThroughputCounts[(int) bucketCount];
+        for (ThroughputTotal row : rows) {
+            int index = (int) (Duration.between(start, row.bucketStart()).toSeconds() / interval.toSeconds());
+            ThroughputCounts rowCounts = new ThroughputCounts(row.tasksCreated(), row.tasksCompleted(),
+                row.subtasksCreated(), row.subtasksCompleted());
+            counts[index] = counts[index] == null ? rowCounts : counts[index].plus(rowCounts);
+        }
+
+        List<ThroughputBucketDTO> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            ThroughputCounts bucket = counts[i] == null ? ThroughputCounts.NONE : counts[i];
+            buckets.add(ThroughputBucketDTO.builder()
+                .start(start.plus(interval.multipliedBy(i)))
+                .tasksCreated(bucket.tasksCreated())
+                .tasksCompleted(bucket.tasksCompleted())
+                .subtasksCreated(bucket.subtasksCreated())
+                .subtasksCompleted(bucket.subtasksCompleted())
+                .build());
+        }
+
+        return ThroughputReportDTO.builder()
+            .userId(userId)
+            .interval(daily ? "P" + interval.toDays() + "D" : interval.toString())
+            .buckets(buckets)
+            .build();
+    }
+
+    /** Deletes hourly buckets past their retention on the current shard. */
+    public int purgeHourlyBuckets(LocalDateTime now) {
+        return throughputBucketRepository.deleteBucketsBefore(BucketGranularity.HOUR,
+            now.truncatedTo(ChronoUnit.HOURS).minus(properties.getHourlyRetention()));
+    }
+
+    /** One user's persisted bucket. */
+    public record BucketKey(BucketGranularity granularity, UUID userId, LocalDateTime start) {
+
+        String id() {
+            return ThroughputBucket.idOf(granularity, userId, start);
+        }
+    }
+
+    public record ThroughputCounts(long tasksCreated, long tasksCompleted, long subtasksCreated, long subtasksCompleted) {
+
+        static final ThroughputCounts NONE = new ThroughputCounts(0, 0, 0, 0);
+
+        public ThroughputCounts plus(ThroughputCounts other) {
+            return new ThroughputCounts(tasksCreated + other.tasksCreated, tasksCompleted + other.tasksCompleted,
+                subtasksCreated + other.subtasksCreated, subtasksCompleted + other.subtasksCompleted);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ipaas.taskmanager.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import com.ipaas.taskmanager.dto.response.TaskSuggestionDTO;
+import com.ipaas.taskmanager.repository.projection.TaskTitle;
+
+/**
+ * Sorted array of normalized keys, one per word start of every title ("send invoice" yields
+ * "send invoice" and "invoice"), answered by binary search to the first key with the prefix and a
+ * forward scan. Reads are lock-free against an immutable snapshot; adds copy the array, which is
+ * cheap next to the write that triggered them.
+ */
+class TitlePrefixIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_START = Pattern.compile("(?<![\\p{L}\\p{N}])[\\p{L}\\p{N}]");
+
+    private record Entry(String key, UUID taskId, String title) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key).thenComparing(Entry::taskId);
+
+    private volatile Entry[] entries;
+
+    TitlePrefixIndex(List<TaskTitle> titles) {
+        List<Entry> built = new ArrayList<>();
+        titles.forEach(title -> addEntries(built, title.id(), title.title()));
+        Entry[] sorted = built.toArray(Entry[]::new);
+        Arrays.sort(sorted, ORDER);
+        this.entries = sorted;
+    }
+
+    List<TaskSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        Entry[] snapshot = entries;
+
+        Set<UUID> seen = new LinkedHashSet<>();
+        List<TaskSuggestionDTO> suggestions = new ArrayList<>(limit);
+        for (int i = lowerBound(snapshot, key); i < snapshot.length && suggestions.size() < limit; i++) {
+            Entry entry = snapshot[i];
+            if (!entry.key().startsWith(key)) {
+                break;
+            }
+            if (seen.add(entry.taskId())) {
+                suggestions.add(new TaskSuggestionDTO(entry.taskId(), entry.title()));
+            }
+        }
+        return suggestions;
+    }
+
+    synchronized void add(UUID taskId, String title) {
+        List<Entry> added = new ArrayList<>();
+        addEntries(added, taskId, title);
+
+        Entry[] current = entries;
+        Entry[] merged = Arrays.copyOf(current, current.length + added.size());
+        int size = current.length;
+        for (Entry entry : added) {
+            int at = Arrays.binarySearch(merged, 0, size, entry, ORDER);
+            int insertion = at >= 0 ? at : -at - 1;
+            System.arraycopy(merged, insertion, merged, insertion + 1, size - insertion);
+            merged[insertion] = entry;
+            size++;
+        }
+        entries = merged;
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).strip();
+    }
+
+    private static void addEntries(List<Entry> target, UUID taskId, String title) {
+        String normalized = normalize(title);
+        var matcher = WORD_START.matcher(normalized);
+        while (matcher.find()) {
+            target.add(new Entry(normalized.substring(matcher.start()), taskId, title));
+        }
+    }
+
+    private static int lowerBound(Entry[] snapshot, String key) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
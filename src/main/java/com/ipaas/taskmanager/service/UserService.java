@@ -3,6 +3,7 @@ package com.ipaas.taskmanager.service;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,11 +11,13 @@ import com.ipaas.taskmanager.domain.entity.User;
 import com.ipaas.taskmanager.dto.request.CreateUserDTO;
 import com.ipaas.taskmanager.dto.request.UpdateUserDTO;
 import com.ipaas.taskmanager.dto.response.UserResponseDTO;
+import com.ipaas.taskmanager.event.UserUpdatedEvent;
 import com.ipaas.taskmanager.exception.user.UserAlreadyExistsException;
 import com.ipaas.taskmanager.exception.user.UserInactiveException;
 import com.ipaas.taskmanager.exception.user.UserNotFoundException;
 import com.ipaas.taskmanager.mapper.UserMapper;
 import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,19 +30,29 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponseDTO createUser(CreateUserDTO createUserDTO) {
-        if(userRepository.existsByEmail(createUserDTO.getEmail())) {
+        if(emailTaken(createUserDTO.getEmail())) {
             throw new UserAlreadyExistsException("Already exists a user with this email: " + createUserDTO.getEmail());
         }
         
+        // The user's id records this shard, and their tasks and subtasks follow it there
+        shardRouter.routeToShard(shardFor(createUserDTO));
         User user = userMapper.toEntity(createUserDTO);
         User savedUser = userRepository.save(user);
         
         return userMapper.toDTO(savedUser);
     }
 
+    /** The shard a new user is created on. */
+    public int shardFor(CreateUserDTO createUserDTO) {
+        return shardRouter.shardForKey(createUserDTO.getEmail());
+    }
+
     public UserResponseDTO getUserById(UUID userId) {
+        shardRouter.routeToUser(userId);
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
         
@@ -51,11 +64,12 @@ public class UserService {
     }
 
     public UserResponseDTO updateUser(UUID userId, UpdateUserDTO updateUserDTO) {
+        shardRouter.routeToUser(userId);
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
         
         if (updateUserDTO.getEmail() != null && !updateUserDTO.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(updateUserDTO.getEmail())) {
+            if (emailTaken(updateUserDTO.getEmail())) {
                 throw new UserAlreadyExistsException("Already exists a user with this email: " + updateUserDTO.getEmail());
             }
         }
@@ -69,11 +83,13 @@ public class UserService {
         }
         
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
         
         return userMapper.toDTO(updatedUser);
     }
 
     public void deleteUser(UUID userId) {
+        shardRouter.routeToUser(userId);
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
         
@@ -86,4 +102,15 @@ public class UserService {
         userRepository.save(user);
         
     }
+
+    /**
+     * Emails keep their home shard only until they are changed, so uniqueness is checked on
+     * every shard.
+     */
+    private boolean emailTaken(String email) {
+        if (!shardRouter.isSharded()) {
+            return userRepository.existsByEmail(email);
+        }
+        return shardRouter.queryEachShard(shard -> userRepository.existsByEmail(email)).contains(true);
+    }
 }
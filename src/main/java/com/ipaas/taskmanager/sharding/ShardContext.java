@@ -0,0 +1,29 @@
+package com.ipaas.taskmanager.sharding;
+
+/**
+ * Shard the current thread's database work goes to; {@code null} means the default (first) shard.
+ * Set through {@link ShardRouter} rather than directly.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.util.UUID;
+
+/**
+ * Shard-encoded ids: an RFC 9562 version 8 UUID whose low 12 bits of the most significant half
+ * carry the shard index, so a task, subtask or user id is enough to find its database without a
+ * lookup. Ids created before sharding (version 4) belong to shard 0.
+ */
+public final class ShardIds {
+
+    public static final int MAX_SHARDS = 1 << 12;
+
+    private static final int VERSION = 8;
+    private static final long VERSION_AND_SHARD_MASK = 0xFFFFL;
+    private static final long SHARD_MASK = 0x0FFFL;
+
+    private ShardIds() {
+    }
+
+    public static UUID newId(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard index out of range: " + shard);
+        }
+
+        UUID random = UUID.randomUUID();
+        long mostSignificant = (random.getMostSignificantBits() & ~VERSION_AND_SHARD_MASK) | ((long) VERSION << 12) | shard;
+        // The variant bits of the random UUID are already the RFC 9562 ones
+        return new UUID(mostSignificant, random.getLeastSignificantBits());
+    }
+
+    public static int shardOf(UUID id) {
+        return id.version() == VERSION ? (int) (id.getMostSignificantBits() & SHARD_MASK) : 0;
+    }
+}
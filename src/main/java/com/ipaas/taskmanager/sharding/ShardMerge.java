@@ -0,0 +1,91 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Helpers for scatter-gather reads: every shard returns its first {@code offset + size} rows in
+ * the requested order and the requested page is cut from the merged result.
+ */
+public final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    /**
+     * K-way merge of lists that are each already in {@code order}, skipping {@code offset} rows and
+     * returning the next {@code size}. Ties go to the earlier list, so each source keeps its own order.
+     */
+    public static <T> List<T> page(List<List<T>> shardRows, Comparator<? super T> order, long offset, int size) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Comparator
+            .<Cursor<T>, T>comparing(Cursor::head, order)
+            .thenComparingInt(Cursor::source));
+        for (int source = 0; source < shardRows.size(); source++) {
+            Iterator<T> rows = shardRows.get(source).iterator();
+            if (rows.hasNext()) {
+                heads.add(new Cursor<>(source, rows.next(), rows));
+            }
+        }
+
+        List<T> page = new ArrayList<>(size);
+        long skipped = 0;
+        while (page.size() < size && !heads.isEmpty()) {
+            Cursor<T> next = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(next.head());
+            }
+            if (next.rows().hasNext()) {
+                heads.add(new Cursor<>(next.source(), next.rows().next(), next.rows()));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Comparator equivalent to the database {@code ORDER BY} for {@code sort}: nulls go where each
+     * order's null handling puts them, or last ascending and first descending like PostgreSQL when
+     * it is left native, and UUIDs compare as unsigned bytes.
+     */
+    public static <T> Comparator<T> comparator(Sort sort, BiFunction<T, String, Object> property) {
+        Comparator<T> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Object> values = ShardMerge::compareValues;
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            values = nullsFirst(order) ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+            comparator = comparator.thenComparing(item -> property.apply(item, order.getProperty()), values);
+        }
+        return comparator;
+    }
+
+    private static boolean nullsFirst(Sort.Order order) {
+        return switch (order.getNullHandling()) {
+            case NULLS_FIRST -> true;
+            case NULLS_LAST -> false;
+            case NATIVE -> order.isDescending();
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object left, Object right) {
+        if (left instanceof UUID leftId && right instanceof UUID rightId) {
+            int result = Long.compareUnsigned(leftId.getMostSignificantBits(), rightId.getMostSignificantBits());
+            return result != 0 ? result
+                : Long.compareUnsigned(leftId.getLeastSignificantBits(), rightId.getLeastSignificantBits());
+        }
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private record Cursor<T>(int source, T head, Iterator<T> rows) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Decides which shard database a unit of work runs against. Users are placed on a shard by
+ * consistent hashing of their email when they are created; from then on the shard is encoded
+ * in their id and in the ids of their tasks and subtasks, so routing an id is a bit mask.
+ * <p>
+ * Routing binds the current transaction to a shard before its first statement; the datasource
+ * connection is only fetched lazily, so this works from inside {@code @Transactional} methods.
+ * With sharding disabled every method here is a no-op over a single shard 0.
+ */
+@Component
+public class ShardRouter {
+
+    private final List<String> shardNames;
+    private final ConsistentHashRing ring;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardRouter(ShardingProperties properties, @Nullable PlatformTransactionManager transactionManager) {
+        if (!properties.isEnabled()) {
+            this.shardNames = List.of("default");
+            this.ring = null;
+            this.readOnlyTransaction = null;
+            this.fanOutExecutor = null;
+            return;
+        }
+        if (properties.getShards().isEmpty() || properties.getShards().size() > ShardIds.MAX_SHARDS) {
+            throw new IllegalStateException("Sharding needs between 1 and " + ShardIds.MAX_SHARDS + " shards");
+        }
+
+        this.shardNames = properties.getShards().stream().map(ShardingProperties.Shard::getName).toList();
+        this.ring = new ConsistentHashRing(shardNames, properties.getVirtualNodes());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public boolean isSharded() {
+        return ring != null;
+    }
+
+    public List<Integer> shards() {
+        return IntStream.range(0, shardNames.size()).boxed().toList();
+    }
+
+    /** Home shard of a new user, keyed by the normalized email. */
+    public int shardForKey(String key) {
+        return isSharded() ? ring.shardFor(key) : 0;
+    }
+
+    public void routeToUser(UUID userId) {
+        routeToId(userId);
+    }
+
+    public void routeToTask(UUID taskId) {
+        routeToId(taskId);
+    }
+
+    public void routeToSubtask(UUID subtaskId) {
+        routeToId(subtaskId);
+    }
+
+    private void routeToId(UUID id) {
+        if (id != null) {
+            routeToShard(ShardIds.shardOf(id));
+        }
+    }
+
+    /**
+     * Binds the current transaction to {@code shard} until it completes. A transaction can only
+     * ever touch one shard; asking for another one is a programming error.
+     */
+    public void routeToShard(int shard) {
+        if (!isSharded()) {
+            return;
+        }
+
+        Integer current = ShardContext.current();
+        if (current != null) {
+            if (current != shard) {
+                throw new IllegalStateException("Cannot route to shard " + shardNames.get(shard)
+                    + ": the current unit of work is bound to shard " + shardNames.get(current));
+            }
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Shard routing requires an active transaction");
+        }
+
+        ShardContext.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ShardContext.clear();
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} on the caller's thread against {@code shard}. For callers outside a
+     * transaction, such as schedulers and background writers, that call transactional services.
+     */
+    public <T> T callOnShard(int shard, Supplier<T> action) {
+        if (!isSharded()) {
+            return action.get();
+        }
+
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    /**
+     * Runs {@code query} against every shard in parallel, each in its own read-only transaction,
+     * and returns the results in shard order.
+     */
+    public <T> List<T> queryEachShard(IntFunction<T> query) {
+        if (!isSharded()) {
+            return List.of(query.apply(0));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shardNames.size());
+        for (int shard = 0; shard < shardNames.size(); shard++) {
+            int target = shard;
+            futures.add(fanOutExecutor.submit(() -> callOnShard(target,
+                () -> readOnlyTransaction.execute(status -> query.apply(target)))));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /**
+     * Runs {@code action} against every shard one after another on the caller's thread, each in
+     * its own read-only transaction. For reads that stream their results to the caller.
+     */
+    public void forEachShard(IntConsumer action) {
+        if (!isSharded()) {
+            action.accept(0);
+            return;
+        }
+
+        for (int shard = 0; shard < shardNames.size(); shard++) {
+            int target = shard;
+            callOnShard(target, () -> readOnlyTransaction.execute(status -> {
+                action.accept(target);
+                return null;
+            }));
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdownNow();
+        }
+    }
+}
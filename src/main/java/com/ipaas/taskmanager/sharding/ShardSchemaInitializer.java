@@ -0,0 +1,60 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate's DDL handling only sees the default shard, so the other shards get the mapped
+ * schema exported once, when they do not have it yet. Runs before the application starts
+ * serving, so later startup hooks can rely on the tables being there.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final String MARKER_TABLE = "tasks";
+
+    private final DataSource dataSource;
+    private final ShardRouter shardRouter;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int shard : shardRouter.shards()) {
+            if (shard == 0) {
+                continue;
+            }
+            shardRouter.callOnShard(shard, () -> {
+                if (!hasMarkerTable()) {
+                    log.info("Exporting schema to shard {}", shard);
+                    entityManagerFactory.unwrap(SessionFactoryImplementor.class).getSchemaManager().exportMappedObjects(true);
+                }
+                return null;
+            });
+        }
+    }
+
+    private boolean hasMarkerTable() {
+        try (Connection connection = dataSource.getConnection();
+                ResultSet tables = connection.getMetaData().getTables(null, null, "%", new String[] {"TABLE"})) {
+            while (tables.next()) {
+                if (MARKER_TABLE.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not inspect the shard schema", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates a UUID that encodes the shard the entity is inserted into (see {@link ShardIds}).
+ * Outside a routed transaction this is a plain random UUID.
+ */
+@IdGeneratorType(ShardedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ShardedUuid {
+}
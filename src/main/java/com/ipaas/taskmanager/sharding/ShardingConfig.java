@@ -0,0 +1,60 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Replaces the single datasource with one pool per shard behind a routing datasource. The
+ * routing datasource sits behind a lazy proxy so the physical connection is only picked when
+ * the first statement runs, after the service has routed the transaction.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskmanager.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int index = 0; index < shards.size(); index++) {
+            targets.put(index, shardDataSource(shards.get(index)));
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(0));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(DataSource dataSource, ShardRouter shardRouter,
+            EntityManagerFactory entityManagerFactory) {
+        return new ShardSchemaInitializer(dataSource, shardRouter, entityManagerFactory);
+    }
+
+    private static HikariDataSource shardDataSource(ShardingProperties.Shard shard) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + shard.getName());
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ipaas.taskmanager.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    /** Points per shard on the hash ring; more points even out the share of users per shard. */
+    private int virtualNodes = 160;
+
+    /**
+     * Shard databases. The position in this list is encoded into ids, so shards may be appended
+     * but never reordered or removed. The first entry also holds data created before sharding.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
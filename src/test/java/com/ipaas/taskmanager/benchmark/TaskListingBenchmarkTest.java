@@ -0,0 +1,117 @@
+package com.ipaas.taskmanager.benchmark;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.service.TaskService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Listing throughput with 10KB descriptions, in pages of 50. Run with {@code mvn -Pbenchmark test};
+ * the default build skips it. Numbers are for comparing changes on one machine, not absolutes.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskListingBenchmarkTest {
+
+    private static final int TASKS = 2_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final String DESCRIPTION = "x".repeat(10 * 1024);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Benchmark User")
+                .email("benchmark@email.com")
+                .active(true)
+                .build());
+        taskRepository.saveAll(IntStream.range(0, TASKS)
+                .mapToObj(i -> Task.builder()
+                        .title("Task " + i)
+                        .description(DESCRIPTION)
+                        .status(TaskStatus.PENDING)
+                        .user(user)
+                        .build())
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listTasks() {
+        TaskFieldSelection withoutDescription = TaskFieldSelection.of(List.of("id", "title", "status"), List.of());
+
+        double entities = measure("entity page, description not read",
+                page -> taskRepository.findAll(page).getNumberOfElements());
+        double all = measure("listing, all fields",
+                page -> taskService.getTasksWithFilters(user.getId(), null, null, false, TaskFieldSelection.ALL, page)
+                        .getContent().size());
+        double summary = measure("listing, without description",
+                page -> taskService.getTasksWithFilters(user.getId(), null, null, false, withoutDescription, page)
+                        .getContent().size());
+
+        assertTrue(entities > 0 && all > 0 && summary > 0);
+    }
+
+    /** Pages per second over {@link #ITERATIONS} pages, after a warmup; each page starts with an empty session. */
+    private double measure(String name, PageLoader loader) {
+        int pages = TASKS / PAGE_SIZE;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            load(loader, i % pages);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            load(loader, i % pages);
+        }
+        double pagesPerSecond = ITERATIONS / ((System.nanoTime() - start) / 1e9);
+        log.info("{}: {} pages/s ({} tasks/s)", name, Math.round(pagesPerSecond), Math.round(pagesPerSecond * PAGE_SIZE));
+        return pagesPerSecond;
+    }
+
+    private void load(PageLoader loader, int page) {
+        assertEquals(PAGE_SIZE, loader.load(PageRequest.of(page, PAGE_SIZE)));
+        entityManager.clear();
+    }
+
+    @FunctionalInterface
+    private interface PageLoader {
+        int load(PageRequest page);
+    }
+}
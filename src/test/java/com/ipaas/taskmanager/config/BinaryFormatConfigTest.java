@@ -0,0 +1,95 @@
+package com.ipaas.taskmanager.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFormatConfigTest {
+
+    private final BinaryFormatConfig config = new BinaryFormatConfig();
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private ObjectMapper cborMapper;
+    private PageResponseDTO<TaskResponseDTO> page;
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = builder().build();
+        smileMapper = config.smileHttpMessageConverter(builder()).getObjectMapper();
+        cborMapper = config.cborHttpMessageConverter(builder()).getObjectMapper();
+
+        UUID userId = UUID.randomUUID();
+        List<TaskResponseDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UUID taskId = UUID.randomUUID();
+            tasks.add(TaskResponseDTO.builder()
+                    .id(taskId)
+                    .title("Task " + i)
+                    .description("Description for task " + i)
+                    .status(TaskStatus.IN_PROGRESS)
+                    .createdAt(LocalDateTime.now())
+                    .userId(userId)
+                    .userName("Test User")
+                    .userEmail("test@email.com")
+                    .subtasks(List.of(SubtaskResponseDTO.builder()
+                            .id(UUID.randomUUID())
+                            .title("Subtask " + i)
+                            .status(TaskStatus.PENDING)
+                            .createdAt(LocalDateTime.now())
+                            .taskId(taskId)
+                            .build()))
+                    .totalSubtasks(1)
+                    .completedSubtasks(0)
+                    .build());
+        }
+        page = PageResponseDTO.<TaskResponseDTO>builder()
+                .content(tasks)
+                .pageNumber(0)
+                .pageSize(50)
+                .totalElements(50)
+                .totalPages(1)
+                .build();
+    }
+
+    @Test
+    void binaryFormats_ShouldBeSmallerThanJson() throws Exception {
+        int json = jsonMapper.writeValueAsBytes(page).length;
+        int smile = smileMapper.writeValueAsBytes(page).length;
+        int cbor = cborMapper.writeValueAsBytes(page).length;
+
+        assertTrue(smile < json, "smile=" + smile + " json=" + json);
+        assertTrue(cbor < json, "cbor=" + cbor + " json=" + json);
+    }
+
+    @Test
+    void binaryFormats_ShouldRoundTripPage() throws Exception {
+        TypeReference<PageResponseDTO<TaskResponseDTO>> type = new TypeReference<>() {};
+
+        PageResponseDTO<TaskResponseDTO> fromSmile = smileMapper.readValue(smileMapper.writeValueAsBytes(page), type);
+        PageResponseDTO<TaskResponseDTO> fromCbor = cborMapper.readValue(cborMapper.writeValueAsBytes(page), type);
+
+        assertEquals(page, fromSmile);
+        assertEquals(page, fromCbor);
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ipaas.taskmanager.config;
+
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FirstRequestMetricsFilterTest {
+
+    @Test
+    void doFilter_ShouldRecordOnlyTheFirstRequest() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FirstRequestMetricsFilter filter = new FirstRequestMetricsFilter(registry);
+        TimeGauge gauge = registry.get("taskmanager.startup.first_request").timeGauge();
+
+        assertTrue(Double.isNaN(gauge.value(TimeUnit.MILLISECONDS)));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), new MockHttpServletResponse(), new MockFilterChain());
+        double first = gauge.value(TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertTrue(first > 0);
+        assertEquals(first, gauge.value(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,291 @@
+package com.ipaas.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.repository.IdempotencyRecordRepository;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private User testUser;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        testUser = userRepository.save(User.builder()
+                .name("Test User")
+                .email("tasks@email.com")
+                .active(true)
+                .build());
+
+        Task testTask = taskRepository.save(Task.builder()
+                .title("Test Task")
+                .description("Test Task Description")
+                .status(TaskStatus.PENDING)
+                .user(testUser)
+                .build());
+        taskId = testTask.getId();
+
+        subtaskRepository.save(Subtask.builder()
+                .title("Test Subtask")
+                .description("Test Subtask Description")
+                .task(testTask)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getTaskById_ShouldReturnAllFields_ByDefault() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Test Task"))
+                .andExpect(jsonPath("$.description").value("Test Task Description"))
+                .andExpect(jsonPath("$.subtasks.length()").value(1))
+                .andExpect(jsonPath("$.totalSubtasks").value(1));
+    }
+
+    @Test
+    void getTaskById_ShouldReturnOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId)
+                        .param("fields", "title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskId.toString()))
+                .andExpect(jsonPath("$.title").value("Test Task"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.subtasks").doesNotExist());
+    }
+
+    @Test
+    void getTasks_ShouldEmbedSubtasks_WhenIncluded() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                        .param("userId", testUser.getId().toString())
+                        .param("fields", "title")
+                        .param("include", "subtasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].subtasks.length()").value(1))
+                .andExpect(jsonPath("$.content[0].completedSubtasks").value(0));
+    }
+
+    @Test
+    void getTasks_ShouldOmitSubtasks_WhenIncludeIsEmpty() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                        .param("userId", testUser.getId().toString())
+                        .param("include", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description").value("Test Task Description"))
+                .andExpect(jsonPath("$.content[0].subtasks").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void getTasks_ShouldCapThePageSize() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                        .param("userId", testUser.getId().toString())
+                        .param("size", "1000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageSize").value(TaskController.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void getTasks_ShouldReturnBadRequest_WhenFieldIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks").param("fields", "password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("BAD_REQUEST"));
+    }
+
+    @Test
+    void getTaskById_ShouldNegotiateSmile() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId)
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"));
+    }
+
+    @Test
+    void getTasks_ShouldNegotiateCbor() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void createTask_ShouldReplayResponse_WhenIdempotencyKeyIsRepeated() throws Exception {
+        String body = objectMapper.writeValueAsString(CreateTaskDTO.builder()
+                .title("Idempotent Task")
+                .userId(testUser.getId())
+                .build());
+
+        String first = mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String taskId = objectMapper.readTree(first).get("id").asText();
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(taskId));
+
+        mockMvc.perform(get("/api/v1/tasks").param("userId", testUser.getId().toString()))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void createTask_ShouldKeepIdempotencyKeysOfDifferentClientsApart() throws Exception {
+        for (String client : List.of("10.0.0.1", "10.0.0.2")) {
+            mockMvc.perform(post("/api/v1/tasks")
+                            .with(request -> {
+                                request.setRemoteAddr(client);
+                                return request;
+                            })
+                            .header("Idempotency-Key", "shared-key")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(CreateTaskDTO.builder()
+                                    .title("From " + client).userId(testUser.getId()).build())))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        }
+
+        mockMvc.perform(get("/api/v1/tasks").param("userId", testUser.getId().toString()))
+                .andExpect(jsonPath("$.totalElements").value(3));
+    }
+
+    @Test
+    void createTask_ShouldReturnUnprocessable_WhenIdempotencyKeyIsReusedWithOtherBody() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "key-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateTaskDTO.builder()
+                                .title("First").userId(testUser.getId()).build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "key-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateTaskDTO.builder()
+                                .title("Second").userId(testUser.getId()).build())))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void createTask_ShouldReturnConflict_WhileTheKeyIsReservedByAnotherRequest() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.reserve("tasks:ip:127.0.0.1:key-3", "hash-of-a-running-request", now, now.plusMinutes(1));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "key-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateTaskDTO.builder()
+                                .title("Duplicate").userId(testUser.getId()).build())))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/v1/tasks").param("userId", testUser.getId().toString()))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void createTask_ShouldTakeOverAnExpiredReservation() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.reserve("tasks:ip:127.0.0.1:key-4", "hash-of-a-lost-request", now.minusMinutes(2), now.minusMinutes(1));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "key-4")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateTaskDTO.builder()
+                                .title("Retried").userId(testUser.getId()).build())))
+                .andExpect(status().isCreated());
+
+        assertFalse(idempotencyRecordRepository.findById("tasks:ip:127.0.0.1:key-4").orElseThrow().isInProgress());
+    }
+
+    @Test
+    void getOverdueTasks_ShouldListOpenTasksPastTheirDueDate_MostOverdueFirst() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        saveTask("Late", now.minusHours(1));
+        saveTask("Very late", now.minusDays(2));
+        saveTask("Not due yet", now.plusDays(1));
+        Task done = saveTask("Done late", now.minusDays(1));
+        done.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(done);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/tasks/overdue").param("userId", testUser.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Very late"))
+                .andExpect(jsonPath("$.content[1].title").value("Late"))
+                .andExpect(jsonPath("$.content[1].dueAt").exists());
+    }
+
+    private Task saveTask(String title, LocalDateTime dueAt) {
+        return taskRepository.save(Task.builder()
+                .title(title)
+                .dueAt(dueAt)
+                .user(testUser)
+                .build());
+    }
+}
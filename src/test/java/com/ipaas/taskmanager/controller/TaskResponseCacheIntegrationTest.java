@@ -0,0 +1,127 @@
+package com.ipaas.taskmanager.controller;
+
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateUserDTO;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.service.SubtaskService;
+import com.ipaas.taskmanager.service.TaskService;
+import com.ipaas.taskmanager.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not transactional: responses are only cached once the reading transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskResponseCacheIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+    private UUID userId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        userId = userService.createUser(CreateUserDTO.builder()
+                .name("Cached User")
+                .email("cached@email.com")
+                .build()).getId();
+        taskId = taskService.createTask(CreateTaskDTO.builder()
+                .title("Cached Task")
+                .userId(userId)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        subtaskRepository.deleteAll(subtaskRepository.findByTaskId(taskId));
+        taskRepository.deleteById(taskId);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void getTaskById_ShouldServeTheSameJsonFromTheCache() throws Exception {
+        double hitsBefore = hits();
+
+        String loaded = mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String cached = mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(loaded, cached);
+        assertEquals(hitsBefore + 1, hits());
+    }
+
+    @Test
+    void getTaskById_ShouldReflectStatusAndSubtaskChanges() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId)).andExpect(status().isOk());
+
+        subtaskService.createSubtask(taskId, CreateSubtaskDTO.builder().title("New Subtask").build());
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId))
+                .andExpect(jsonPath("$.totalSubtasks").value(1));
+
+        taskService.updateTaskStatus(taskId, UpdateTaskStatusDTO.builder().status(TaskStatus.IN_PROGRESS).build());
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void getTaskById_ShouldNotServeCachedJson_ToSmileClients() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/{taskId}", taskId)
+                        .accept("application/x-jackson-smile"))
+                .andExpect(content().contentType("application/x-jackson-smile"));
+    }
+
+    private double hits() {
+        return meterRegistry.counter("taskmanager.task_cache.requests", "result", "hit").count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ipaas.taskmanager.exception;
+
+import com.ipaas.taskmanager.dto.response.ErrorResponseDTO;
+import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.exception.user.UserAlreadyExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GlobalExceptionHandler handler;
+    private ServletWebRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new GlobalExceptionHandler(meterRegistry);
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/tasks/123"));
+    }
+
+    @Test
+    void domainExceptions_ShouldNotCaptureStackTrace() {
+        TaskNotFoundException ex = new TaskNotFoundException("Task not found with ID: 123");
+
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    void handleDomainException_ShouldMapErrorCodeToStatus() {
+        ResponseEntity<ErrorResponseDTO> response = handler.handleDomainException(
+                new UserAlreadyExistsException("Already exists a user with this email: a@b.com"), request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("CONFLICT", response.getBody().getError());
+        assertEquals("uri=/api/v1/tasks/123", response.getBody().getPath());
+    }
+
+    @Test
+    void handleDomainException_ShouldCountErrorsPerCode() {
+        handler.handleDomainException(new TaskNotFoundException("Task not found with ID: 1"), request);
+        handler.handleDomainException(new TaskNotFoundException("Task not found with ID: 2"), request);
+
+        assertEquals(2.0, meterRegistry.get("taskmanager.errors").tag("code", "TASK_NOT_FOUND").counter().count());
+        assertEquals(0.0, meterRegistry.get("taskmanager.errors").tag("code", "USER_NOT_FOUND").counter().count());
+    }
+}
@@ -0,0 +1,273 @@
+package com.ipaas.taskmanager.grpc;
+
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskClaimResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.CreateSubtaskRequest;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.ListTasksRequest;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdate;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.StatusUpdateBatchResult;
+import com.ipaas.taskmanager.grpc.TaskManagerMessages.TaskIdRequest;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.service.SubtaskService;
+import com.ipaas.taskmanager.service.SubtaskStatusWriter;
+import com.ipaas.taskmanager.service.TaskClaimService;
+import com.ipaas.taskmanager.service.TaskService;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskManagerGrpcServiceTest {
+
+    @Autowired
+    private TaskManagerGrpcService taskManagerGrpcService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private SubtaskStatusWriter subtaskStatusWriter;
+
+    @Autowired
+    private TaskClaimService taskClaimService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    private Server server;
+    private ManagedChannel channel;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(taskManagerGrpcService)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+
+        testUser = userRepository.save(User.builder()
+                .name("Grpc User")
+                .email("grpc-" + UUID.randomUUID() + "@email.com")
+                .active(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        subtaskRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.delete(testUser);
+    }
+
+    @Test
+    void createAndGetTask_ShouldRoundTrip() {
+        TaskResponseDTO created = createTask("Grpc Task");
+
+        TaskResponseDTO loaded = ClientCalls.blockingUnaryCall(
+                channel, TaskManagerGrpc.GET_TASK, CallOptions.DEFAULT, new TaskIdRequest(created.getId()));
+
+        assertEquals("Grpc Task", loaded.getTitle());
+        assertEquals(TaskStatus.PENDING, loaded.getStatus());
+        assertEquals(testUser.getId(), loaded.getUserId());
+    }
+
+    @Test
+    void getTask_ShouldReturnNotFound_WhenTaskDoesNotExist() {
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () ->
+                ClientCalls.blockingUnaryCall(channel, TaskManagerGrpc.GET_TASK, CallOptions.DEFAULT,
+                        new TaskIdRequest(UUID.randomUUID())));
+
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    @Test
+    void createTask_ShouldReturnInvalidArgument_WhenTitleIsBlank() {
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> createTask(""));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    }
+
+    @Test
+    void listTasks_ShouldStreamEveryTaskOfUser() {
+        createTask("Task 1");
+        createTask("Task 2");
+        createTask("Task 3");
+
+        List<TaskResponseDTO> streamed = new ArrayList<>();
+        ClientCalls.blockingServerStreamingCall(channel, TaskManagerGrpc.LIST_TASKS, CallOptions.DEFAULT,
+                new ListTasksRequest(testUser.getId(), null)).forEachRemaining(streamed::add);
+
+        assertEquals(3, streamed.size());
+    }
+
+    @Test
+    void listTasks_ShouldHoldTheProducerBack_UntilTheClientRequestsMore() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        TaskService slowReader = mock(TaskService.class);
+        doAnswer(invocation -> {
+            Consumer<TaskResponseDTO> sink = invocation.getArgument(2);
+            for (int i = 0; i < 3; i++) {
+                produced.incrementAndGet();
+                sink.accept(TaskResponseDTO.builder().id(UUID.randomUUID()).title("Task " + i).build());
+            }
+            return null;
+        }).when(slowReader).streamTasks(any(), any(), any());
+
+        String name = InProcessServerBuilder.generateName();
+        Server flowControlled = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new TaskManagerGrpcService(slowReader, subtaskService, subtaskStatusWriter, validator))
+                .build()
+                .start();
+        ManagedChannel flowControlledChannel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        try {
+            List<TaskResponseDTO> streamed = new CopyOnWriteArrayList<>();
+            CompletableFuture<ClientCallStreamObserver<ListTasksRequest>> started = new CompletableFuture<>();
+            CompletableFuture<Void> completed = new CompletableFuture<>();
+            ClientCalls.asyncServerStreamingCall(
+                    flowControlledChannel.newCall(TaskManagerGrpc.LIST_TASKS, CallOptions.DEFAULT),
+                    new ListTasksRequest(testUser.getId(), null),
+                    new ClientResponseObserver<ListTasksRequest, TaskResponseDTO>() {
+                        @Override
+                        public void beforeStart(ClientCallStreamObserver<ListTasksRequest> requestStream) {
+                            requestStream.disableAutoRequestWithInitial(1);
+                            started.complete(requestStream);
+                        }
+
+                        @Override
+                        public void onNext(TaskResponseDTO value) {
+                            streamed.add(value);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            completed.completeExceptionally(t);
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            completed.complete(null);
+                        }
+                    });
+
+            Thread.sleep(300);
+            // The first task was sent and the second is waiting for the client; the third was never read
+            assertEquals(1, streamed.size());
+            assertEquals(2, produced.get());
+
+            started.get(5, TimeUnit.SECONDS).request(10);
+            completed.get(5, TimeUnit.SECONDS);
+            assertEquals(3, streamed.size());
+        } finally {
+            flowControlledChannel.shutdownNow();
+            flowControlled.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void updateTaskStatus_ShouldRequireTheLeaseToken_WhenTaskIsClaimed() {
+        TaskResponseDTO task = createTask("Leased Task");
+        TaskClaimResponseDTO claim = taskClaimService.claimTasks(testUser.getId(), 1);
+        assertEquals(task.getId(), claim.getTasks().get(0).getId());
+
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () ->
+                ClientCalls.blockingUnaryCall(channel, TaskManagerGrpc.UPDATE_TASK_STATUS, CallOptions.DEFAULT,
+                        new StatusUpdate(task.getId(), TaskStatus.COMPLETED)));
+        assertEquals(Status.Code.ABORTED, error.getStatus().getCode());
+
+        TaskResponseDTO completed = ClientCalls.blockingUnaryCall(channel, TaskManagerGrpc.UPDATE_TASK_STATUS,
+                CallOptions.DEFAULT, new StatusUpdate(task.getId(), TaskStatus.COMPLETED, claim.getLeaseToken()));
+        assertEquals(TaskStatus.COMPLETED, completed.getStatus());
+    }
+
+    @Test
+    void updateSubtaskStatusBatch_ShouldApplyUpdatesAndReportFailures() throws Exception {
+        TaskResponseDTO task = createTask("Batch Task");
+        SubtaskResponseDTO subtask = ClientCalls.blockingUnaryCall(channel, TaskManagerGrpc.CREATE_SUBTASK,
+                CallOptions.DEFAULT, new CreateSubtaskRequest(task.getId(), CreateSubtaskDTO.builder().title("Sub").build()));
+
+        CompletableFuture<StatusUpdateBatchResult> result = new CompletableFuture<>();
+        StreamObserver<StatusUpdate> requests = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(TaskManagerGrpc.UPDATE_SUBTASK_STATUS_BATCH, CallOptions.DEFAULT),
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(StatusUpdateBatchResult value) {
+                        result.complete(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        requests.onNext(new StatusUpdate(subtask.getId(), TaskStatus.IN_PROGRESS));
+        requests.onNext(new StatusUpdate(subtask.getId(), TaskStatus.COMPLETED));
+        requests.onNext(new StatusUpdate(UUID.randomUUID(), TaskStatus.COMPLETED));
+        requests.onCompleted();
+
+        StatusUpdateBatchResult batch = result.get(5, TimeUnit.SECONDS);
+        assertEquals(2, batch.updated());
+        assertEquals(1, batch.failures().size());
+        assertEquals("NOT_FOUND", batch.failures().get(0).code());
+    }
+
+    private TaskResponseDTO createTask(String title) {
+        return ClientCalls.blockingUnaryCall(channel, TaskManagerGrpc.CREATE_TASK, CallOptions.DEFAULT,
+                CreateTaskDTO.builder().title(title).userId(testUser.getId()).build());
+    }
+}
@@ -0,0 +1,58 @@
+package com.ipaas.taskmanager.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setApiKeys(Set.of("secret-api-key", "another-api-key"));
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        filter = new RateLimitFilter(rateLimiter, new ClientIdentity(properties), properties, new ObjectMapper());
+    }
+
+    @Test
+    void doFilter_ShouldNeverExposeTheApiKeyInBucketKeys() throws Exception {
+        request("secret-api-key");
+        request("secret-api-key");
+        request("another-api-key");
+
+        Set<String> keys = rateLimiter.usage().keySet();
+        assertEquals(Set.of("key:" + ClientIdentity.fingerprint("secret-api-key"),
+                "key:" + ClientIdentity.fingerprint("another-api-key")), keys);
+        assertTrue(keys.stream().noneMatch(key -> key.contains("secret") || key.contains("another")));
+        assertEquals(2, rateLimiter.usage().get("key:" + ClientIdentity.fingerprint("secret-api-key")).allowed());
+    }
+
+    @Test
+    void doFilter_ShouldLimitUnknownKeysAndUserIdsByClientAddress() throws Exception {
+        request("made-up-key-1");
+        request("made-up-key-2");
+        MockHttpServletRequest byUser = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        byUser.setParameter("userId", "00000000-0000-0000-0000-000000000001");
+        filter.doFilter(byUser, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(Set.of("ip:127.0.0.1"), rateLimiter.usage().keySet());
+        assertEquals(3, rateLimiter.usage().get("ip:127.0.0.1").allowed());
+    }
+
+    private void request(String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.addHeader(ClientIdentity.API_KEY_HEADER, apiKey);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,85 @@
+package com.ipaas.taskmanager.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPermitsPerSecond(1);
+        properties.setBurst(5);
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenReject() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("user:a", 1));
+        }
+
+        long wait = rateLimiter.tryAcquire("user:a", 1);
+
+        assertTrue(wait > 0);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        assertEquals(0, rateLimiter.tryAcquire("user:a", 5));
+
+        assertTrue(rateLimiter.tryAcquire("user:a", 1) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("user:b", 1));
+    }
+
+    @Test
+    void tryAcquire_ShouldChargeLargeRequestsMore() {
+        assertEquals(0, rateLimiter.tryAcquire("user:a", 4));
+
+        assertTrue(rateLimiter.tryAcquire("user:a", 2) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("user:a", 1));
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepAtMostMaxKeysBuckets() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(10);
+        RateLimiter bounded = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 1_000; i++) {
+            bounded.tryAcquire("ip:10.0." + (i / 256) + "." + (i % 256), 1);
+        }
+
+        assertTrue(bounded.usage().size() <= 10, "buckets=" + bounded.usage().size());
+    }
+
+    @Test
+    void tryAcquire_ShouldNotOverGrantUnderContention() throws Exception {
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                if (rateLimiter.tryAcquire("user:a", 1) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertTrue(granted.get() >= 5 && granted.get() <= 6, "granted=" + granted.get());
+        RateLimiter.RateLimitUsage usage = rateLimiter.usage().get("user:a");
+        assertEquals(200, usage.allowed() + usage.rejected());
+    }
+}
@@ -0,0 +1,170 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.TaskSort;
+import com.ipaas.taskmanager.exception.task.InvalidTaskSortException;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+import com.ipaas.taskmanager.sharding.ShardMerge;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskRepositoryFilterTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private User testUser;
+    private Task oldest;
+    private Task middle;
+    private Task newest;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .name("Test User")
+                .email("filters@email.com")
+                .active(true)
+                .build());
+
+        oldest = completedTask("Oldest", now.minusDays(3));
+        middle = completedTask("Middle", now.minusDays(2));
+        newest = completedTask("Newest", now.minusDays(1));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findTaskSummaries_ShouldFilterByCompletedRangeAndSort() {
+        TaskFilter filter = new TaskFilter(testUser.getId(), null, null, null, null, now.minusDays(2).minusHours(1), now);
+
+        Page<TaskSummary> ascending = taskRepository.findTaskSummaries(filter, true,
+                PageRequest.of(0, 10, TaskSort.of("completedAt", "asc")));
+        Page<TaskSummary> descending = taskRepository.findTaskSummaries(filter, false,
+                PageRequest.of(0, 10, TaskSort.of("completedAt", "desc")));
+
+        assertEquals(List.of(middle.getId(), newest.getId()), ids(ascending));
+        assertEquals(List.of(newest.getId(), middle.getId()), ids(descending));
+        assertEquals(2, ascending.getTotalElements());
+        assertNull(descending.getContent().get(0).description());
+    }
+
+    @Test
+    void findTaskSummaries_ShouldPlaceMissingTimestampsLikeTheShardMerge() {
+        Task open = taskRepository.save(Task.builder().title("Open").user(testUser).build());
+        entityManager.flush();
+        entityManager.clear();
+        TaskFilter filter = TaskFilter.of(testUser.getId(), null);
+
+        for (String direction : List.of("asc", "desc")) {
+            Sort sort = TaskSort.of("completedAt", direction);
+            List<TaskSummary> tasks = taskRepository.findTaskSummaries(filter, false, PageRequest.of(0, 10, sort)).getContent();
+
+            List<TaskSummary> merged = tasks.stream()
+                    .sorted(ShardMerge.comparator(sort, (task, property) ->
+                            property.equals("id") ? task.id() : task.completedAt()))
+                    .toList();
+            assertEquals(ids(merged), ids(tasks));
+            assertEquals(open.getId(), direction.equals("asc") ? tasks.get(3).id() : tasks.get(0).id());
+        }
+    }
+
+    @Test
+    void findTaskSummaries_ShouldFilterByCreatedRange() {
+        TaskFilter createdBefore = new TaskFilter(testUser.getId(), null, null, null, now.minusMinutes(5), null, null);
+        TaskFilter createdSince = new TaskFilter(testUser.getId(), TaskStatus.COMPLETED, null, now.minusMinutes(5), null, null, null);
+
+        assertEquals(0, taskRepository.findTaskSummaries(createdBefore, true, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(3, taskRepository.findTaskSummaries(createdSince, true, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void findTaskSummaries_ShouldPageStably_WhenTimestampsTie() {
+        TaskFilter filter = TaskFilter.of(testUser.getId(), null);
+
+        List<UUID> firstPage = ids(taskRepository.findTaskSummaries(filter, true, PageRequest.of(0, 2, TaskSort.of("updatedAt", "asc"))));
+        List<UUID> secondPage = ids(taskRepository.findTaskSummaries(filter, true, PageRequest.of(1, 2, TaskSort.of("updatedAt", "asc"))));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertFalse(firstPage.contains(secondPage.get(0)));
+    }
+
+    @Test
+    void taskSort_ShouldRejectUnknownFieldsAndDirections() {
+        assertThrows(InvalidTaskSortException.class, () -> TaskSort.of("title", "asc"));
+        assertThrows(InvalidTaskSortException.class, () -> TaskSort.of("createdAt", "sideways"));
+    }
+
+    @Test
+    void queryPlans_ShouldUseTimestampIndexes() {
+        String user = "'" + testUser.getId() + "'";
+        String since = "TIMESTAMP '2024-01-01 00:00:00'";
+
+        assertUsesIndex("IDX_TASKS_USER_CREATED",
+                "SELECT id FROM tasks WHERE user_id = " + user + " AND created_at >= " + since + " ORDER BY created_at DESC, id DESC");
+        assertUsesIndex("IDX_TASKS_USER_COMPLETED",
+                "SELECT id FROM tasks WHERE user_id = " + user + " AND completed_at >= " + since + " ORDER BY completed_at, id");
+        assertUsesIndex("IDX_TASKS_USER_UPDATED",
+                "SELECT id FROM tasks WHERE user_id = " + user + " AND updated_at < " + since + " ORDER BY updated_at, id");
+        assertUsesIndex("IDX_TASKS_CREATED",
+                "SELECT id FROM tasks WHERE created_at >= " + since + " ORDER BY created_at, id");
+        assertUsesIndex("IDX_TASKS_COMPLETED",
+                "SELECT id FROM tasks WHERE completed_at < " + since + " ORDER BY completed_at DESC, id DESC");
+    }
+
+    private void assertUsesIndex(String index, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertNotNull(plan);
+        assertTrue(plan.toUpperCase().contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+
+    private Task completedTask(String title, LocalDateTime completedAt) {
+        Task task = taskRepository.save(Task.builder()
+                .title(title)
+                .description(title + " description")
+                .user(testUser)
+                .build());
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setCompletedAt(completedAt);
+        return taskRepository.save(task);
+    }
+
+    private List<UUID> ids(Page<TaskSummary> page) {
+        return ids(page.getContent());
+    }
+
+    private List<UUID> ids(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::id).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ipaas.taskmanager.repository;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskRepositoryLazyDescriptionTest {
+
+    private static final String DESCRIPTION = "x".repeat(10_000);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Lazy User")
+                .email("lazy@email.com")
+                .active(true)
+                .build());
+        taskId = taskRepository.save(Task.builder()
+                .title("Long description")
+                .description(DESCRIPTION)
+                .status(TaskStatus.PENDING)
+                .user(user)
+                .build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findById_ShouldLoadTheDescriptionOnlyWhenRead() {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(task, "description"));
+        assertEquals(DESCRIPTION, task.getDescription());
+        assertTrue(Hibernate.isPropertyInitialized(task, "description"));
+    }
+
+    @Test
+    void setStatus_ShouldMarkOnlyTheChangedAttributeDirty() {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+
+        task.setStatus(TaskStatus.IN_PROGRESS);
+
+        assertArrayEquals(new String[] {"status"}, ((SelfDirtinessTracker) task).$$_hibernate_getDirtyAttributes());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(taskId).orElseThrow().getStatus());
+        assertEquals(DESCRIPTION, taskRepository.findById(taskId).orElseThrow().getDescription());
+    }
+
+    @Test
+    void findClaimableTasks_ShouldFetchTheDescriptionWithTheTask() {
+        List<Task> claimable = taskRepository.findClaimableTasks(user.getId(), PageRequest.of(0, 10));
+
+        assertEquals(1, claimable.size());
+        assertTrue(Hibernate.isPropertyInitialized(claimable.get(0), "description"));
+    }
+}
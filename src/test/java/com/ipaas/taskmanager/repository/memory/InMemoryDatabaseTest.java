@@ -0,0 +1,54 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import com.ipaas.taskmanager.domain.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryDatabaseTest {
+
+    @Test
+    void commit_ShouldBeVisibleToReadersAllAtOnce() throws InterruptedException {
+        try (InMemoryDatabase database = new InMemoryDatabase(List.of(new UserMapping()), List.of(), null)) {
+            UserMapping mapping = (UserMapping) database.mapping(User.class);
+            UUID first = save(database, "first@email.com");
+            UUID second = save(database, "second@email.com");
+
+            AtomicBoolean writing = new AtomicBoolean(true);
+            Thread writer = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    String name = "Version " + i;
+                    database.inUnitOfWork(unitOfWork -> {
+                        unitOfWork.find(User.class, first).setName(name);
+                        unitOfWork.find(User.class, second).setName(name);
+                        return null;
+                    });
+                }
+                writing.set(false);
+            });
+
+            int reads = 0;
+            while (writing.get()) {
+                Set<String> names = database.inUnitOfWork(unitOfWork -> unitOfWork.query(mapping, null, row -> true))
+                        .stream()
+                        .map(UserMapping.Row::name)
+                        .collect(Collectors.toSet());
+                assertEquals(1, names.size(), "read part of a commit: " + names);
+                reads++;
+            }
+            writer.join();
+            assertTrue(reads > 0);
+        }
+    }
+
+    private static UUID save(InMemoryDatabase database, String email) {
+        return database.inUnitOfWork(unitOfWork ->
+                unitOfWork.persist(User.builder().name("User").email(email).build()).getId());
+    }
+}
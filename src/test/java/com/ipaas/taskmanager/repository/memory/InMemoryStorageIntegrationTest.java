@@ -0,0 +1,176 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateUserDTO;
+import com.ipaas.taskmanager.dto.request.TaskSort;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.UserResponseDTO;
+import com.ipaas.taskmanager.exception.user.UserAlreadyExistsException;
+import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.service.SubtaskService;
+import com.ipaas.taskmanager.service.TaskDependencyService;
+import com.ipaas.taskmanager.service.TaskService;
+import com.ipaas.taskmanager.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("inmemory")
+class InMemoryStorageIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.createUser(CreateUserDTO.builder()
+                .name("Memory User")
+                .email(UUID.randomUUID() + "@email.com")
+                .build()).getId();
+    }
+
+    @Test
+    void listing_ShouldFilterByStatusAndPaginate() {
+        TaskResponseDTO first = createTask("First");
+        createTask("Second");
+        TaskResponseDTO third = createTask("Third");
+        complete(first.getId());
+        complete(third.getId());
+
+        PageResponseDTO<TaskResponseDTO> completed = taskService.getTasksWithFilters(userId, TaskStatus.COMPLETED, null,
+                PageRequest.of(0, 1, TaskSort.of("completedAt", "asc")));
+        PageResponseDTO<TaskResponseDTO> all = taskService.getTasksWithFilters(userId, null, null,
+                PageRequest.of(0, 10, TaskSort.of("createdAt", "desc")));
+
+        assertEquals(2, completed.getTotalElements());
+        assertEquals(List.of(first.getId()), completed.getContent().stream().map(TaskResponseDTO::getId).toList());
+        assertTrue(completed.isHasNext());
+        assertEquals(3, all.getTotalElements());
+        assertEquals(third.getId(), all.getContent().get(0).getId());
+    }
+
+    @Test
+    void readyTasks_ShouldFollowDependencyCompletion() {
+        TaskResponseDTO prerequisite = createTask("Prerequisite");
+        TaskResponseDTO dependent = createTask("Dependent");
+        taskDependencyService.addDependency(dependent.getId(), prerequisite.getId());
+
+        assertEquals(List.of(prerequisite.getId()), readyTaskIds());
+
+        complete(prerequisite.getId());
+
+        assertEquals(List.of(dependent.getId()), readyTaskIds());
+    }
+
+    @Test
+    void subtasks_ShouldBeListedWithTheirTaskAndSubtree() {
+        TaskResponseDTO task = createTask("With subtasks");
+        SubtaskResponseDTO parent = subtaskService.createSubtask(task.getId(),
+                CreateSubtaskDTO.builder().title("Parent").build());
+        SubtaskResponseDTO child = subtaskService.createSubtask(task.getId(),
+                CreateSubtaskDTO.builder().title("Child").parentSubtaskId(parent.getId()).build());
+
+        assertEquals(List.of(parent.getId(), child.getId()),
+                subtaskService.getSubtree(parent.getId()).stream().map(SubtaskResponseDTO::getId).toList());
+        assertEquals(2, taskService.getTaskById(task.getId()).getTotalSubtasks());
+    }
+
+    @Test
+    void uniqueEmail_ShouldBeEnforced() {
+        String email = userService.getUserById(userId).getEmail();
+
+        assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(CreateUserDTO.builder()
+                .name("Duplicate")
+                .email(email)
+                .build()));
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository.save(User.builder()
+                .name("Duplicate")
+                .email(email)
+                .build()));
+    }
+
+    @Test
+    void queryByExample_ShouldMatchTheProbeAcrossTheTable() {
+        String domain = "@" + UUID.randomUUID() + ".example";
+        userService.createUser(CreateUserDTO.builder().name("Bob").email("bob" + domain).build());
+        userService.createUser(CreateUserDTO.builder().name("Ann").email("ann" + domain).build());
+        ExampleMatcher byDomain = ExampleMatcher.matching()
+                .withIgnorePaths("active")
+                .withMatcher("email", matcher -> matcher.endsWith().ignoreCase());
+        Example<User> sameDomain = Example.of(User.builder().email(domain.toUpperCase()).build(), byDomain);
+
+        assertEquals(2, userRepository.count(sameDomain));
+        assertEquals(List.of("Ann", "Bob"),
+                userRepository.findAll(sameDomain, Sort.by("name")).stream().map(User::getName).toList());
+        assertEquals("bob" + domain, userRepository.findBy(
+                Example.of(User.builder().name("Bob").email(domain).build(), byDomain),
+                query -> query.oneValue()).getEmail());
+        assertFalse(userRepository.exists(Example.of(User.builder().email("nobody" + domain).build(), byDomain)));
+    }
+
+    @Test
+    void rolledBackTransaction_ShouldLeaveNoTrace() {
+        UUID rolledBack = new TransactionTemplate(transactionManager).execute(status -> {
+            UserResponseDTO user = userService.createUser(CreateUserDTO.builder()
+                    .name("Rolled back")
+                    .email(UUID.randomUUID() + "@email.com")
+                    .build());
+            status.setRollbackOnly();
+            return user.getId();
+        });
+
+        assertTrue(userRepository.findById(rolledBack).isEmpty());
+    }
+
+    private TaskResponseDTO createTask(String title) {
+        return taskService.createTask(CreateTaskDTO.builder().title(title).userId(userId).build());
+    }
+
+    private void complete(UUID taskId) {
+        taskService.updateTaskStatus(taskId, UpdateTaskStatusDTO.builder().status(TaskStatus.COMPLETED).build());
+    }
+
+    private List<UUID> readyTaskIds() {
+        return taskService.getReadyTasks(userId, PageRequest.of(0, 10)).getContent().stream()
+                .map(TaskResponseDTO::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ipaas.taskmanager.repository.memory;
+
+import com.ipaas.taskmanager.domain.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void reopen_ShouldRecoverCommittedChangesAndIgnoreATornTail() throws IOException {
+        Path log = directory.resolve("taskmanager.wal");
+        UUID kept;
+        UUID deleted;
+
+        try (InMemoryDatabase database = open(log)) {
+            kept = save(database, "kept@email.com");
+            deleted = save(database, "deleted@email.com");
+            database.inUnitOfWork(unitOfWork -> {
+                User user = unitOfWork.find(User.class, kept);
+                user.setName("Renamed");
+                unitOfWork.remove(unitOfWork.find(User.class, deleted));
+                return null;
+            });
+        }
+        Files.writeString(log, "[{\"table\":\"users\",\"id\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (InMemoryDatabase database = open(log)) {
+            UserMapping.Row row = database.inUnitOfWork(unitOfWork ->
+                    unitOfWork.row((UserMapping) database.mapping(User.class), kept));
+
+            assertEquals("Renamed", row.name());
+            assertTrue(row.active());
+            assertNull(database.inUnitOfWork(unitOfWork -> unitOfWork.find(User.class, deleted)));
+            assertEquals(1, database.mapping(User.class).table().lookup(UserMapping.EMAIL, "kept@email.com").size());
+        }
+    }
+
+    @Test
+    void reopen_AfterDroppingATornTail_ShouldKeepLaterCommits() throws IOException {
+        Path log = directory.resolve("taskmanager.wal");
+        try (InMemoryDatabase database = open(log)) {
+            save(database, "before@email.com");
+        }
+        Files.writeString(log, "[{\"table\":\"users\",\"id\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (InMemoryDatabase database = open(log)) {
+            save(database, "after@email.com");
+        }
+
+        try (InMemoryDatabase database = open(log)) {
+            assertEquals(1, database.mapping(User.class).table().lookup(UserMapping.EMAIL, "before@email.com").size());
+            assertEquals(1, database.mapping(User.class).table().lookup(UserMapping.EMAIL, "after@email.com").size());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith("taskmanager.wal.torn-")).count());
+        }
+    }
+
+    @Test
+    void reopen_WithAnUnreadableEntryBeforeOtherCommits_ShouldFailWithoutRewritingTheLog() throws IOException {
+        Path log = directory.resolve("taskmanager.wal");
+        try (InMemoryDatabase database = open(log)) {
+            save(database, "first@email.com");
+        }
+        String validCommit = Files.readAllLines(log, StandardCharsets.UTF_8).get(0);
+        Files.writeString(log, "not json\n" + validCommit + "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        byte[] before = Files.readAllBytes(log);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> open(log));
+
+        assertTrue(exception.getMessage().contains("partial replay"), exception.getMessage());
+        assertArrayEquals(before, Files.readAllBytes(log));
+    }
+
+    private static InMemoryDatabase open(Path log) {
+        return new InMemoryDatabase(List.of(new UserMapping()), List.of(), new WriteAheadLog(log, true));
+    }
+
+    private static UUID save(InMemoryDatabase database, String email) {
+        return database.inUnitOfWork(unitOfWork ->
+                unitOfWork.persist(User.builder().name("User").email(email).build()).getId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.ipaas.taskmanager.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(10, 4, 0);
+
+    @Test
+    void advance_ShouldFireTimersOnceTheirDeadlineIsReached() {
+        wheel.schedule(25, "a");
+        wheel.schedule(10, "b");
+
+        assertEquals(List.of("b"), wheel.advance(19));
+        assertEquals(List.of(), wheel.advance(29));
+        assertEquals(List.of("a"), wheel.advance(30));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldCascadeTimersBeyondTheFirstLevel() {
+        // 4 slots of 10ms: anything past 40ms lives in an upper level until it comes into range
+        wheel.schedule(1_000, "far");
+        wheel.schedule(170, "mid");
+
+        assertEquals(List.of(), wheel.advance(160));
+        assertEquals(List.of("mid"), wheel.advance(170));
+        assertEquals(List.of(), wheel.advance(990));
+        assertEquals(List.of("far"), wheel.advance(1_000));
+    }
+
+    @Test
+    void schedule_ShouldRejectDeadlinesThatAlreadyPassed() {
+        wheel.advance(100);
+
+        assertFalse(wheel.schedule(100, "now"));
+        assertFalse(wheel.schedule(50, "past"));
+        assertTrue(wheel.schedule(101, "next"));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldNeverFireEarlyOrMissATimer() {
+        Random random = new Random(42);
+        TimingWheel<Long> randomWheel = new TimingWheel<>(1, 8, 0);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1 + random.nextInt(20_000);
+            deadlines.add(deadline);
+            randomWheel.schedule(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 20_000; now += 1 + random.nextInt(50)) {
+            for (long deadline : randomWheel.advance(now)) {
+                assertTrue(deadline <= now, "fired early");
+                assertTrue(deadline > now - 51, "fired late");
+                fired.add(deadline);
+            }
+        }
+        fired.addAll(randomWheel.advance(20_000));
+
+        assertEquals(deadlines.stream().sorted().toList(), fired.stream().sorted().toList());
+        assertEquals(0, randomWheel.size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.dto.response.CycleTimeReportDTO;
+import com.ipaas.taskmanager.dto.response.DurationPercentilesDTO;
+import com.ipaas.taskmanager.event.TaskCompletedEvent;
+import com.ipaas.taskmanager.exception.task.InvalidCycleTimeWindowException;
+import com.ipaas.taskmanager.scheduler.CycleTimeSketchFlusher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CycleTimeServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private CycleTimeService cycleTimeService;
+
+    @Autowired
+    private CycleTimeRecorder cycleTimeRecorder;
+
+    @Autowired
+    private CycleTimeSketchFlusher cycleTimeSketchFlusher;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void getReport_ShouldReturnPercentilesOfTheUsersCompletions() {
+        for (int hours = 1; hours <= 100; hours++) {
+            complete(alice, DAY, hours, 1);
+        }
+        cycleTimeSketchFlusher.flush();
+
+        CycleTimeReportDTO report = cycleTimeService.getReport(alice, DAY, DAY);
+
+        DurationPercentilesDTO leadTime = report.getTotal().getLeadTime();
+        assertEquals(100, leadTime.getCount());
+        assertEquals(50 * 3600, leadTime.getP50Seconds(), 50 * 3.6);
+        assertEquals(90 * 3600, leadTime.getP90Seconds(), 90 * 3.6);
+        assertEquals(99 * 3600, leadTime.getP99Seconds(), 99 * 3.6);
+        assertEquals(3600, report.getTotal().getCycleTime().getP99Seconds(), 3.6);
+        assertEquals(1, report.getDays().size());
+    }
+
+    @Test
+    void getReport_ShouldMergeFlushesDaysAndUsers() {
+        complete(alice, DAY, 10, 1);
+        cycleTimeSketchFlusher.flush();
+        complete(alice, DAY, 20, 1);
+        complete(alice, DAY.plusDays(2), 30, 1);
+        complete(bob, DAY, 40, 1);
+        cycleTimeSketchFlusher.flush();
+
+        CycleTimeReportDTO aliceReport = cycleTimeService.getReport(alice, DAY, DAY.plusDays(2));
+        assertEquals(3, aliceReport.getDays().size());
+        assertEquals(2, aliceReport.getDays().get(0).getLeadTime().getCount());
+        assertEquals(0, aliceReport.getDays().get(1).getLeadTime().getCount());
+        assertEquals(1, aliceReport.getDays().get(2).getLeadTime().getCount());
+        assertEquals(3, aliceReport.getTotal().getLeadTime().getCount());
+
+        CycleTimeReportDTO everyone = cycleTimeService.getReport(null, DAY, DAY.plusDays(2));
+        assertNull(everyone.getUserId());
+        assertEquals(3, everyone.getDays().get(0).getLeadTime().getCount());
+        assertEquals(4, everyone.getTotal().getLeadTime().getCount());
+        assertEquals(40 * 3600, everyone.getTotal().getLeadTime().getMaxSeconds(), 40 * 3.6);
+    }
+
+    @Test
+    void getReport_ShouldLeaveOutCycleTime_WhenTheTaskWasNeverStarted() {
+        LocalDateTime completedAt = DAY.atTime(12, 0);
+        cycleTimeRecorder.onTaskCompleted(
+                new TaskCompletedEvent(UUID.randomUUID(), alice, completedAt.minusHours(5), null, completedAt));
+        cycleTimeSketchFlusher.flush();
+
+        CycleTimeReportDTO report = cycleTimeService.getReport(alice, DAY, DAY);
+        assertEquals(1, report.getTotal().getLeadTime().getCount());
+        assertEquals(0, report.getTotal().getCycleTime().getCount());
+    }
+
+    @Test
+    void getReport_ShouldRejectInvalidWindows() {
+        assertThrows(InvalidCycleTimeWindowException.class,
+                () -> cycleTimeService.getReport(alice, DAY, DAY.minusDays(1)));
+        assertThrows(InvalidCycleTimeWindowException.class,
+                () -> cycleTimeService.getReport(alice, DAY, DAY.plusYears(2)));
+    }
+
+    private void complete(UUID userId, LocalDate day, int leadHours, int cycleHours) {
+        LocalDateTime completedAt = day.atTime(18, 0);
+        cycleTimeRecorder.onTaskCompleted(new TaskCompletedEvent(UUID.randomUUID(), userId,
+                completedAt.minusHours(leadHours), completedAt.minusHours(cycleHours), completedAt));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ipaas.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapSlabCacheTest {
+
+    private final OffHeapSlabCache<String> cache = new OffHeapSlabCache<>(3 * 16, 16, Duration.ofMinutes(1).toNanos());
+
+    @Test
+    void get_ShouldReturnACopyOfTheStoredBytes() {
+        assertTrue(put("a", "0123456789"));
+
+        byte[] value = cache.get("a");
+        value[0] = 'x';
+
+        assertEquals("0123456789", text(cache.get("a")));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void put_ShouldEvictTheOldestSlab_WhenTheRingWrapsAround() {
+        put("a", "aaaaaaaaaaaa");
+        put("b", "bbbbbbbbbbbb");
+        put("c", "cccccccccccc");
+        put("d", "dddddddddddd");
+
+        assertNull(cache.get("a"));
+        assertEquals("bbbbbbbbbbbb", text(cache.get("b")));
+        assertEquals("dddddddddddd", text(cache.get("d")));
+        assertEquals(3, cache.size());
+        assertEquals(3 * 16, cache.allocatedBytes());
+    }
+
+    @Test
+    void put_ShouldBeRejected_WhenTheKeyWasInvalidatedWhileLoading() {
+        long token = cache.token("a");
+        cache.invalidate("a");
+
+        assertFalse(cache.put("a", token, "stale".getBytes(StandardCharsets.UTF_8)));
+        assertNull(cache.get("a"));
+        assertTrue(put("a", "fresh"));
+    }
+
+    @Test
+    void invalidateAll_ShouldDropEveryEntryAndPendingLoad() {
+        put("a", "a");
+        long token = cache.token("b");
+
+        cache.invalidateAll();
+
+        assertNull(cache.get("a"));
+        assertFalse(cache.put("b", token, "b".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void put_ShouldSkipValuesLargerThanASlab() {
+        assertFalse(put("a", "x".repeat(17)));
+    }
+
+    @Test
+    void get_ShouldMiss_WhenTheEntryExpired() {
+        OffHeapSlabCache<String> expiring = new OffHeapSlabCache<>(16, 16, 0);
+        expiring.put("a", expiring.token("a"), "a".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(expiring.get("a"));
+    }
+
+    private boolean put(String key, String value) {
+        return cache.put(key, cache.token(key), value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
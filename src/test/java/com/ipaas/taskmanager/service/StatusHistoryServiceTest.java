@@ -0,0 +1,128 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.StatusTransitionDTO;
+import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StatusHistoryServiceTest {
+
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Task task;
+    private Subtask subtask;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("History User")
+                .email("history@email.com")
+                .active(true)
+                .build());
+        task = taskRepository.save(Task.builder()
+                .title("Tracked Task")
+                .user(user)
+                .build());
+        subtask = subtaskRepository.save(Subtask.builder()
+                .title("Tracked Subtask")
+                .task(task)
+                .build());
+
+        taskService.updateTaskStatus(task.getId(), new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS));
+        subtaskService.updateSubtaskStatus(subtask.getId(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED));
+        taskService.updateTaskStatus(task.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getTaskHistory_ShouldReturnEveryTransitionInOrder() {
+        List<StatusTransitionDTO> history = statusHistoryService.getTaskHistory(task.getId(), true);
+
+        assertEquals(3, history.size());
+        assertTransition(history.get(0), null, TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+        assertTransition(history.get(1), subtask.getId(), TaskStatus.PENDING, TaskStatus.COMPLETED);
+        assertTransition(history.get(2), null, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED);
+        assertTrue(history.stream().allMatch(transition -> transition.getTaskId().equals(task.getId())));
+    }
+
+    @Test
+    void getTaskHistory_ShouldLeaveOutSubtasks_WhenNotRequested() {
+        List<StatusTransitionDTO> history = statusHistoryService.getTaskHistory(task.getId(), false);
+
+        assertEquals(2, history.size());
+        assertTrue(history.stream().allMatch(transition -> transition.getSubtaskId() == null));
+    }
+
+    @Test
+    void getTaskHistory_ShouldOutliveArchiving() {
+        Task completed = taskRepository.findById(task.getId()).orElseThrow();
+        completed.setCompletedAt(LocalDateTime.now().minusDays(120));
+        taskRepository.saveAndFlush(completed);
+
+        assertEquals(1, taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertEquals(3, statusHistoryService.getTaskHistory(task.getId(), true).size());
+    }
+
+    @Test
+    void getTaskHistory_ShouldThrowException_WhenTaskNotFound() {
+        assertThrows(TaskNotFoundException.class,
+                () -> statusHistoryService.getTaskHistory(UUID.randomUUID(), true));
+    }
+
+    private void assertTransition(StatusTransitionDTO transition, UUID subtaskId, TaskStatus from, TaskStatus to) {
+        assertEquals(subtaskId, transition.getSubtaskId());
+        assertEquals(from, transition.getFromStatus());
+        assertEquals(to, transition.getToStatus());
+        assertNotNull(transition.getChangedAt());
+    }
+}
@@ -0,0 +1,151 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.MoveSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.exception.subtask.InvalidSubtaskParentException;
+import com.ipaas.taskmanager.exception.task.TaskCannotBeCompletedException;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SubtaskServiceHierarchyTest {
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Task testTask;
+    private SubtaskResponseDTO root;
+    private SubtaskResponseDTO child;
+    private SubtaskResponseDTO grandchild;
+    private SubtaskResponseDTO sibling;
+
+    @BeforeEach
+    void setUp() {
+        User testUser = userRepository.save(User.builder()
+                .name("Test User")
+                .email("hierarchy@email.com")
+                .active(true)
+                .build());
+        testTask = taskRepository.save(Task.builder()
+                .title("Plan")
+                .user(testUser)
+                .build());
+
+        root = create("Root", null);
+        child = create("Child", root.getId());
+        grandchild = create("Grandchild", child.getId());
+        sibling = create("Sibling", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void createSubtask_ShouldLinkParent() {
+        assertNull(root.getParentSubtaskId());
+        assertEquals(root.getId(), child.getParentSubtaskId());
+        assertEquals(child.getId(), grandchild.getParentSubtaskId());
+    }
+
+    @Test
+    void createSubtask_ShouldRejectParentFromAnotherTask() {
+        Task otherTask = taskRepository.save(Task.builder()
+                .title("Other")
+                .user(testTask.getUser())
+                .build());
+
+        CreateSubtaskDTO dto = new CreateSubtaskDTO("Orphan", null, root.getId(), null);
+        assertThrows(InvalidSubtaskParentException.class, () -> subtaskService.createSubtask(otherTask.getId(), dto));
+    }
+
+    @Test
+    void getSubtree_ShouldReturnSubtaskAndAllDescendants() {
+        List<UUID> subtree = ids(subtaskService.getSubtree(root.getId()));
+
+        assertEquals(List.of(root.getId(), child.getId(), grandchild.getId()), subtree);
+        assertEquals(List.of(sibling.getId()), ids(subtaskService.getSubtree(sibling.getId())));
+    }
+
+    @Test
+    void moveSubtask_ShouldCarryDescendantsAlong() {
+        SubtaskResponseDTO moved = subtaskService.moveSubtask(child.getId(), new MoveSubtaskDTO(sibling.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(sibling.getId(), moved.getParentSubtaskId());
+        assertEquals(List.of(root.getId()), ids(subtaskService.getSubtree(root.getId())));
+        assertEquals(List.of(sibling.getId(), child.getId(), grandchild.getId()),
+                ids(subtaskService.getSubtree(sibling.getId())));
+    }
+
+    @Test
+    void moveSubtask_ShouldMoveToTopLevel_WhenParentIsNull() {
+        subtaskService.moveSubtask(grandchild.getId(), new MoveSubtaskDTO(null));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertNull(subtaskService.getSubtaskById(grandchild.getId()).getParentSubtaskId());
+        assertEquals(List.of(root.getId(), child.getId()), ids(subtaskService.getSubtree(root.getId())));
+    }
+
+    @Test
+    void moveSubtask_ShouldRejectMovingUnderOwnDescendant() {
+        assertThrows(InvalidSubtaskParentException.class,
+                () -> subtaskService.moveSubtask(root.getId(), new MoveSubtaskDTO(grandchild.getId())));
+        assertThrows(InvalidSubtaskParentException.class,
+                () -> subtaskService.moveSubtask(root.getId(), new MoveSubtaskDTO(root.getId())));
+    }
+
+    @Test
+    void updateTaskStatus_ShouldRequireNestedSubtasksToBeCompleted() {
+        for (SubtaskResponseDTO subtask : List.of(root, child, sibling)) {
+            subtaskService.updateSubtaskStatus(subtask.getId(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED));
+        }
+
+        assertThrows(TaskCannotBeCompletedException.class,
+                () -> taskService.updateTaskStatus(testTask.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED)));
+
+        subtaskService.updateSubtaskStatus(grandchild.getId(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED));
+        assertEquals(TaskStatus.COMPLETED,
+                taskService.updateTaskStatus(testTask.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED)).getStatus());
+    }
+
+    private SubtaskResponseDTO create(String title, UUID parentSubtaskId) {
+        return subtaskService.createSubtask(testTask.getId(), new CreateSubtaskDTO(title, null, parentSubtaskId, null));
+    }
+
+    private List<UUID> ids(List<SubtaskResponseDTO> subtasks) {
+        return subtasks.stream().map(SubtaskResponseDTO::getId).toList();
+    }
+}
@@ -12,12 +12,15 @@ import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
 import com.ipaas.taskmanager.mapper.SubtaskMapper;
 import com.ipaas.taskmanager.repository.SubtaskRepository;
 import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -40,6 +43,15 @@ class SubtaskServiceTest {
     @Mock
     private SubtaskMapper subtaskMapper;
 
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
     @InjectMocks
     private SubtaskService subtaskService;
 
@@ -119,6 +131,29 @@ class SubtaskServiceTest {
         verify(subtaskMapper).toResponseDTO(subtask);
     }
 
+    @Test
+    void createSubtask_WithParent_ShouldLockTaskBeforeReadingParentPath() {
+        CreateSubtaskDTO nested = CreateSubtaskDTO.builder()
+                .title("Nested Subtask")
+                .parentSubtaskId(subtaskId)
+                .build();
+        Subtask child = Subtask.builder().title("Nested Subtask").status(TaskStatus.PENDING).build();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.of(task));
+        when(subtaskMapper.toEntity(nested)).thenReturn(child);
+        when(subtaskRepository.findById(subtaskId)).thenReturn(Optional.of(subtask));
+        when(subtaskRepository.save(child)).thenReturn(child);
+        when(subtaskMapper.toResponseDTO(child)).thenReturn(subtaskResponseDTO);
+
+        subtaskService.createSubtask(taskId, nested);
+
+        InOrder inOrder = inOrder(taskRepository, subtaskRepository);
+        inOrder.verify(taskRepository).findByIdForUpdate(taskId);
+        inOrder.verify(subtaskRepository).findById(subtaskId);
+        assertSame(subtask, child.getParent());
+        assertEquals(subtask.getPath() + subtaskId + "/", child.getPath());
+    }
+
     @Test
     void createSubtask_ShouldThrowException_WhenTaskNotFound() {
         when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
@@ -133,12 +168,10 @@ class SubtaskServiceTest {
 
     @Test
     void getSubtasksByTaskId_ShouldReturnSubtasksList() {
-        List<Subtask> subtasks = List.of(subtask);
         List<SubtaskResponseDTO> expectedResponse = List.of(subtaskResponseDTO);
 
         when(taskRepository.existsById(taskId)).thenReturn(true);
-        when(subtaskRepository.findByTaskId(taskId)).thenReturn(subtasks);
-        when(subtaskMapper.toResponseDTOList(subtasks)).thenReturn(expectedResponse);
+        when(subtaskRepository.findResponsesByTaskId(taskId)).thenReturn(expectedResponse);
 
         List<SubtaskResponseDTO> result = subtaskService.getSubtasksByTaskId(taskId);
 
@@ -146,8 +179,8 @@ class SubtaskServiceTest {
         assertEquals(1, result.size());
         assertEquals(subtaskId, result.get(0).getId());
         verify(taskRepository).existsById(taskId);
-        verify(subtaskRepository).findByTaskId(taskId);
-        verify(subtaskMapper).toResponseDTOList(subtasks);
+        verify(subtaskRepository).findResponsesByTaskId(taskId);
+        verify(subtaskMapper, never()).toResponseDTOList(any());
     }
 
     @Test
@@ -159,7 +192,7 @@ class SubtaskServiceTest {
         });
 
         verify(taskRepository).existsById(taskId);
-        verify(subtaskRepository, never()).findByTaskId(any());
+        verify(subtaskRepository, never()).findResponsesByTaskId(any());
     }
 
     @Test
@@ -0,0 +1,219 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.config.SubtaskGroupCommitProperties;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.UpdateSubtaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.exception.subtask.SubtaskNotFoundException;
+import com.ipaas.taskmanager.exception.subtask.SubtaskStatusUpdateTimeoutException;
+import com.ipaas.taskmanager.exception.subtask.SubtaskStatusWriterUnavailableException;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+import com.ipaas.taskmanager.sharding.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubtaskStatusWriterTest {
+
+    @Mock
+    private SubtaskService subtaskService;
+
+    private final ShardRouter shardRouter = new ShardRouter(new ShardingProperties(), null);
+
+    private SubtaskStatusWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void updateSubtaskStatus_WhenDisabled_ShouldDelegateDirectly() {
+        UUID subtaskId = UUID.randomUUID();
+        UpdateSubtaskStatusDTO dto = new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED);
+        SubtaskResponseDTO response = response(subtaskId, TaskStatus.COMPLETED);
+        when(subtaskService.updateSubtaskStatus(subtaskId, dto)).thenReturn(response);
+
+        writer = new SubtaskStatusWriter(subtaskService, new SubtaskGroupCommitProperties(), shardRouter);
+        writer.start();
+
+        assertSame(response, writer.updateSubtaskStatus(subtaskId, dto));
+        verify(subtaskService, never()).updateSubtaskStatuses(anyMap());
+    }
+
+    @Test
+    void updateSubtaskStatus_WhenEnabled_ShouldCommitConcurrentUpdatesTogether() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(subtaskService.updateSubtaskStatuses(anyMap())).thenAnswer(invocation -> {
+            Map<UUID, TaskStatus> updates = invocation.getArgument(0);
+            batchSizes.add(updates.size());
+            Map<UUID, SubtaskResponseDTO> updated = new HashMap<>();
+            updates.forEach((id, status) -> updated.put(id, response(id, status)));
+            return updated;
+        });
+        writer = enabledWriter(Duration.ofMillis(200));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<UUID> ids = new ArrayList<>();
+        List<Future<SubtaskResponseDTO>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            results.add(executor.submit(() ->
+                writer.updateSubtaskStatus(id, new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED))));
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            SubtaskResponseDTO result = results.get(i).get(5, TimeUnit.SECONDS);
+            assertEquals(ids.get(i), result.getId());
+            assertEquals(TaskStatus.COMPLETED, result.getStatus());
+        }
+        executor.shutdown();
+
+        assertTrue(batchSizes.size() < ids.size(), "expected updates to share a commit, got " + batchSizes);
+        assertEquals(ids.size(), batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void updateSubtaskStatus_WhenSubtaskMissing_ShouldThrowNotFound() {
+        when(subtaskService.updateSubtaskStatuses(anyMap())).thenReturn(Map.of());
+        writer = enabledWriter(Duration.ofMillis(1));
+
+        UUID subtaskId = UUID.randomUUID();
+        assertThrows(SubtaskNotFoundException.class,
+            () -> writer.updateSubtaskStatus(subtaskId, new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED)));
+    }
+
+    @Test
+    void updateSubtaskStatus_WhenCommitFails_ShouldFailEveryCallerInBatch() {
+        when(subtaskService.updateSubtaskStatuses(anyMap())).thenThrow(new IllegalStateException("db down"));
+        writer = enabledWriter(Duration.ofMillis(1));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> writer.updateSubtaskStatus(UUID.randomUUID(), new UpdateSubtaskStatusDTO(TaskStatus.PENDING)));
+        assertEquals("db down", exception.getMessage());
+        verify(subtaskService, never()).updateSubtaskStatus(any(), eq(new UpdateSubtaskStatusDTO(TaskStatus.PENDING)));
+    }
+
+    @Test
+    void updateSubtaskStatus_WhenQueueStaysFull_ShouldFailInsteadOfBlocking() throws Exception {
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        blockCommits(committing, release);
+        SubtaskGroupCommitProperties properties = enabledProperties(Duration.ofMillis(1));
+        properties.setQueueCapacity(1);
+        properties.setEnqueueTimeout(Duration.ofMillis(50));
+        properties.setResponseTimeout(Duration.ofMillis(100));
+        writer = new SubtaskStatusWriter(subtaskService, properties, shardRouter);
+        writer.start();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> writer.updateSubtaskStatus(UUID.randomUUID(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED)));
+            assertTrue(committing.await(5, TimeUnit.SECONDS));
+            // Occupies the single queue slot while the writer is stuck in the first commit
+            assertThrows(SubtaskStatusUpdateTimeoutException.class,
+                () -> writer.updateSubtaskStatus(UUID.randomUUID(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED)));
+
+            SubtaskStatusWriterUnavailableException exception = assertThrows(SubtaskStatusWriterUnavailableException.class,
+                () -> writer.updateSubtaskStatus(UUID.randomUUID(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED)));
+            assertEquals("Subtask status queue is full", exception.getMessage());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void updateSubtaskStatus_WhenCommitIsSlow_ShouldStopWaitingAfterResponseTimeout() throws Exception {
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        blockCommits(committing, release);
+        SubtaskGroupCommitProperties properties = enabledProperties(Duration.ofMillis(1));
+        properties.setResponseTimeout(Duration.ofMillis(100));
+        writer = new SubtaskStatusWriter(subtaskService, properties, shardRouter);
+        writer.start();
+
+        try {
+            SubtaskStatusUpdateTimeoutException exception = assertThrows(SubtaskStatusUpdateTimeoutException.class,
+                () -> writer.updateSubtaskStatus(UUID.randomUUID(), new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED)));
+            assertTrue(exception.getMessage().startsWith("Timed out"), exception.getMessage());
+            assertTrue(committing.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void updateSubtaskStatus_AfterStop_ShouldApplyDirectly() {
+        UUID subtaskId = UUID.randomUUID();
+        UpdateSubtaskStatusDTO dto = new UpdateSubtaskStatusDTO(TaskStatus.COMPLETED);
+        SubtaskResponseDTO response = response(subtaskId, TaskStatus.COMPLETED);
+        when(subtaskService.updateSubtaskStatus(subtaskId, dto)).thenReturn(response);
+        writer = enabledWriter(Duration.ofMillis(1));
+
+        writer.stop();
+
+        assertSame(response, writer.updateSubtaskStatus(subtaskId, dto));
+        verify(subtaskService, never()).updateSubtaskStatuses(anyMap());
+    }
+
+    private void blockCommits(CountDownLatch committing, CountDownLatch release) {
+        when(subtaskService.updateSubtaskStatuses(anyMap())).thenAnswer(invocation -> {
+            committing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Map<UUID, TaskStatus> updates = invocation.getArgument(0);
+            Map<UUID, SubtaskResponseDTO> updated = new HashMap<>();
+            updates.forEach((id, status) -> updated.put(id, response(id, status)));
+            return updated;
+        });
+    }
+
+    private SubtaskGroupCommitProperties enabledProperties(Duration maxDelay) {
+        SubtaskGroupCommitProperties properties = new SubtaskGroupCommitProperties();
+        properties.setEnabled(true);
+        properties.setMaxDelay(maxDelay);
+        return properties;
+    }
+
+    private SubtaskStatusWriter enabledWriter(Duration maxDelay) {
+        SubtaskGroupCommitProperties properties = enabledProperties(maxDelay);
+        SubtaskStatusWriter enabled = new SubtaskStatusWriter(subtaskService, properties, shardRouter);
+        enabled.start();
+        return enabled;
+    }
+
+    private SubtaskResponseDTO response(UUID id, TaskStatus status) {
+        SubtaskResponseDTO response = new SubtaskResponseDTO();
+        response.setId(id);
+        response.setStatus(status);
+        return response;
+    }
+}
@@ -0,0 +1,215 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
+import com.ipaas.taskmanager.dto.request.TaskSort;
+import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.SubtaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Task completedTask;
+    private Task pendingTask;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .name("Test User")
+                .email("archive@email.com")
+                .active(true)
+                .build());
+
+        completedTask = taskRepository.save(Task.builder()
+                .title("Old Task")
+                .user(testUser)
+                .build());
+        completedTask.setStatus(TaskStatus.COMPLETED);
+        completedTask.setCompletedAt(LocalDateTime.now().minusDays(120));
+        completedTask = taskRepository.save(completedTask);
+
+        Subtask subtask = subtaskRepository.save(Subtask.builder()
+                .title("Old Subtask")
+                .task(completedTask)
+                .build());
+        subtask.setStatus(TaskStatus.COMPLETED);
+        subtaskRepository.save(subtask);
+
+        pendingTask = taskRepository.save(Task.builder()
+                .title("Open Task")
+                .user(testUser)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void archiveBatch_ShouldMoveOldCompletedTasksAndSubtasks() {
+        int archived = taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        assertEquals(1, archived);
+        assertFalse(taskRepository.existsById(completedTask.getId()));
+        assertTrue(taskRepository.existsById(pendingTask.getId()));
+        assertTrue(archivedTaskRepository.existsById(completedTask.getId()));
+        assertEquals(0, subtaskRepository.countByTaskId(completedTask.getId()));
+    }
+
+    @Test
+    void archiveBatch_ShouldSkipRecentlyCompletedTasks() {
+        int archived = taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(365), 100);
+
+        assertEquals(0, archived);
+        assertTrue(taskRepository.existsById(completedTask.getId()));
+    }
+
+    @Test
+    void getTaskById_ShouldFindArchivedTask() {
+        taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        TaskResponseDTO result = taskService.getTaskById(completedTask.getId());
+
+        assertTrue(result.isArchived());
+        assertEquals("Old Task", result.getTitle());
+        assertEquals(1, result.getTotalSubtasks());
+    }
+
+    @Test
+    void getTaskById_ShouldApplyTheFieldSelectionToArchivedTasks() {
+        taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        TaskResponseDTO titleOnly = taskService.getTaskById(completedTask.getId(),
+                TaskFieldSelection.of(List.of("title"), null));
+        TaskResponseDTO withSubtasks = taskService.getTaskById(completedTask.getId(),
+                TaskFieldSelection.of(List.of("title"), List.of(TaskFieldSelection.SUBTASKS)));
+
+        assertTrue(titleOnly.isArchived());
+        assertNull(titleOnly.getSubtasks());
+        assertNull(titleOnly.getTotalSubtasks());
+        assertNull(titleOnly.getDescription());
+        assertEquals(1, withSubtasks.getSubtasks().size());
+        assertEquals(1, withSubtasks.getTotalSubtasks());
+    }
+
+    @Test
+    void archiveBatch_ShouldKeepTheSubtaskHierarchy() {
+        Subtask parent = subtaskRepository.findByTaskId(completedTask.getId()).get(0);
+        Subtask child = subtaskRepository.save(Subtask.builder()
+                .title("Old Child")
+                .task(taskRepository.getReferenceById(completedTask.getId()))
+                .parent(parent)
+                .path(parent.getPath() + parent.getId() + "/")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        TaskResponseDTO result = taskService.getTaskById(completedTask.getId());
+        SubtaskResponseDTO archivedChild = result.getSubtasks().stream()
+                .filter(subtask -> subtask.getId().equals(child.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(parent.getId(), archivedChild.getParentSubtaskId());
+    }
+
+    @Test
+    void getTasksWithFilters_ShouldAppendArchivedTasks_WhenIncludeArchived() {
+        taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        PageResponseDTO<TaskResponseDTO> live = taskService.getTasksWithFilters(
+                testUser.getId(), null, null, false, TaskFieldSelection.ALL, PageRequest.of(0, 10));
+        PageResponseDTO<TaskResponseDTO> all = taskService.getTasksWithFilters(
+                testUser.getId(), null, null, true, TaskFieldSelection.ALL, PageRequest.of(0, 10));
+
+        assertEquals(1, live.getTotalElements());
+        assertEquals(2, all.getTotalElements());
+        assertEquals(2, all.getContent().size());
+        assertTrue(all.getContent().get(1).isArchived());
+    }
+
+    @Test
+    void getTasksWithFilters_ShouldMergeLiveAndArchivedTasksInRequestedSort() {
+        taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        PageResponseDTO<TaskResponseDTO> first = taskService.getTasksWithFilters(testUser.getId(), null, null, true,
+                TaskFieldSelection.ALL, PageRequest.of(0, 1, TaskSort.of("completedAt", "asc")));
+        PageResponseDTO<TaskResponseDTO> second = taskService.getTasksWithFilters(testUser.getId(), null, null, true,
+                TaskFieldSelection.ALL, PageRequest.of(1, 1, TaskSort.of("completedAt", "asc")));
+
+        assertEquals(2, first.getTotalElements());
+        assertEquals(completedTask.getId(), first.getContent().get(0).getId());
+        assertTrue(first.getContent().get(0).isArchived());
+        assertEquals(pendingTask.getId(), second.getContent().get(0).getId());
+        assertFalse(second.getContent().get(0).isArchived());
+    }
+
+    @Test
+    void getTasksWithFilters_ShouldFilterLiveAndArchivedTasksByTitle_BeforePaging() {
+        taskArchiveService.archiveBatch(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        PageResponseDTO<TaskResponseDTO> old = taskService.getTasksWithFilters(
+                testUser.getId(), null, "old", true, TaskFieldSelection.ALL, PageRequest.of(0, 1));
+        PageResponseDTO<TaskResponseDTO> tasks = taskService.getTasksWithFilters(
+                testUser.getId(), null, "TASK", true, TaskFieldSelection.ALL, PageRequest.of(1, 1));
+
+        assertEquals(1, old.getTotalElements());
+        assertEquals("Old Task", old.getContent().get(0).getTitle());
+        assertEquals(2, tasks.getTotalElements());
+        assertEquals(1, tasks.getContent().size());
+        assertEquals(0, taskService.getTasksWithFilters(testUser.getId(), null, "50%", true,
+                TaskFieldSelection.ALL, PageRequest.of(0, 10)).getTotalElements());
+    }
+}
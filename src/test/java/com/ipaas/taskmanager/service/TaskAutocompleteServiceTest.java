@@ -0,0 +1,90 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.config.AutocompleteProperties;
+import com.ipaas.taskmanager.dto.response.TaskSuggestionDTO;
+import com.ipaas.taskmanager.event.TaskCreatedEvent;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.projection.TaskTitle;
+import com.ipaas.taskmanager.sharding.ShardRouter;
+import com.ipaas.taskmanager.sharding.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAutocompleteServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskAutocompleteService autocompleteService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID invoiceId = UUID.randomUUID();
+    private final UUID reportId = UUID.randomUUID();
+    private final UUID reviewId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        autocompleteService = new TaskAutocompleteService(taskRepository, new AutocompleteProperties(),
+            new ShardRouter(new ShardingProperties(), null));
+    }
+
+    @Test
+    void suggest_ShouldMatchTitleAndWordPrefixes() {
+        when(taskRepository.findTitlesByUserId(userId)).thenReturn(List.of(
+            new TaskTitle(invoiceId, "Send invoice"),
+            new TaskTitle(reportId, "Relatório mensal"),
+            new TaskTitle(reviewId, "Review report")));
+
+        assertEquals(List.of(reportId, reviewId), ids(autocompleteService.suggest(userId, "re", 10)));
+        assertEquals(List.of(invoiceId), ids(autocompleteService.suggest(userId, "INV", 10)));
+        assertEquals(List.of(reportId), ids(autocompleteService.suggest(userId, "relato", 10)));
+        assertEquals(List.of(reviewId), ids(autocompleteService.suggest(userId, "review rep", 10)));
+        assertTrue(autocompleteService.suggest(userId, "zzz", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_ShouldLoadIndexOnceAndRespectLimit() {
+        when(taskRepository.findTitlesByUserId(userId)).thenReturn(List.of(
+            new TaskTitle(invoiceId, "Task one"),
+            new TaskTitle(reportId, "Task two"),
+            new TaskTitle(reviewId, "Task three")));
+
+        assertEquals(2, autocompleteService.suggest(userId, "task", 2).size());
+        assertEquals(3, autocompleteService.suggest(userId, "task", 10).size());
+        verify(taskRepository, times(1)).findTitlesByUserId(userId);
+    }
+
+    @Test
+    void onTaskCreated_ShouldUpdateWarmIndexAndSkipColdOnes() {
+        when(taskRepository.findTitlesByUserId(userId)).thenReturn(List.of(new TaskTitle(invoiceId, "Send invoice")));
+        autocompleteService.suggest(userId, "s", 10);
+
+        UUID createdId = UUID.randomUUID();
+        autocompleteService.onTaskCreated(new TaskCreatedEvent(createdId, userId, "Schedule meeting"));
+        autocompleteService.onTaskCreated(new TaskCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), "Cold user"));
+
+        assertEquals(List.of(createdId, invoiceId), ids(autocompleteService.suggest(userId, "s", 10)));
+        verify(taskRepository, times(1)).findTitlesByUserId(any());
+    }
+
+    @Test
+    void suggest_ShouldReturnEmpty_WhenPrefixBlank() {
+        assertTrue(autocompleteService.suggest(userId, " ", 10).isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    private List<UUID> ids(List<TaskSuggestionDTO> suggestions) {
+        return suggestions.stream().map(TaskSuggestionDTO::getId).toList();
+    }
+}
@@ -0,0 +1,199 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.TaskClaimResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.exception.task.InvalidClaimLimitException;
+import com.ipaas.taskmanager.exception.task.TaskLeaseConflictException;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskClaimServiceTest {
+
+    @Autowired
+    private TaskClaimService taskClaimService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        testUser = userRepository.save(User.builder()
+                .name("Worker Owner")
+                .email("claim@email.com")
+                .active(true)
+                .build());
+
+        saveTask("First", 0);
+        saveTask("Blocked", 1);
+        saveTask("Second", 0);
+        saveTask("Third", 0);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void claimTasks_ShouldLeaseTheOldestReadyTasks() {
+        TaskClaimResponseDTO claim = taskClaimService.claimTasks(testUser.getId(), 2);
+
+        assertEquals(2, claim.getTasks().size());
+        assertEquals("First", claim.getTasks().get(0).getTitle());
+        assertEquals("Second", claim.getTasks().get(1).getTitle());
+        assertTrue(claim.getTasks().stream().allMatch(task -> task.getStatus() == TaskStatus.IN_PROGRESS));
+        assertTrue(claim.getLeaseExpiresAt().isAfter(LocalDateTime.now()));
+
+        Task claimed = taskRepository.findById(claim.getTasks().get(0).getId()).orElseThrow();
+        assertEquals(claim.getLeaseExpiresAt(), claimed.getLeaseExpiresAt());
+    }
+
+    @Test
+    void claimTasks_ShouldNotHandOutTheSameTaskTwice() {
+        TaskClaimResponseDTO first = taskClaimService.claimTasks(testUser.getId(), 2);
+        TaskClaimResponseDTO second = taskClaimService.claimTasks(testUser.getId(), 2);
+
+        assertEquals(1, second.getTasks().size());
+        assertEquals("Third", second.getTasks().get(0).getTitle());
+        assertTrue(taskClaimService.claimTasks(testUser.getId(), 2).getTasks().isEmpty());
+        assertNotEquals(first.getTasks().get(0).getId(), second.getTasks().get(0).getId());
+    }
+
+    @Test
+    void claimTasks_ShouldRejectALimitBelowOne() {
+        assertThrows(InvalidClaimLimitException.class, () -> taskClaimService.claimTasks(testUser.getId(), 0));
+    }
+
+    @Test
+    void releaseExpiredLeases_ShouldReturnTasksToPending_OnceTheLeaseRunsOut() {
+        TaskClaimResponseDTO claim = taskClaimService.claimTasks(testUser.getId(), 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, taskClaimService.releaseExpiredLeases(LocalDateTime.now(), 10));
+        assertEquals(3, taskClaimService.releaseExpiredLeases(claim.getLeaseExpiresAt().plusSeconds(1), 10));
+        entityManager.flush();
+        entityManager.clear();
+
+        Task released = taskRepository.findById(claim.getTasks().get(0).getId()).orElseThrow();
+        assertEquals(TaskStatus.PENDING, released.getStatus());
+        assertNull(released.getLeaseExpiresAt());
+        assertEquals(3, taskClaimService.claimTasks(testUser.getId(), 10).getTasks().size());
+    }
+
+    @Test
+    void updateTaskStatus_ShouldEndTheLease() {
+        TaskClaimResponseDTO claim = taskClaimService.claimTasks(testUser.getId(), 1);
+        TaskResponseDTO claimed = claim.getTasks().get(0);
+
+        taskService.updateTaskStatus(claimed.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED, claim.getLeaseToken()));
+        entityManager.flush();
+        entityManager.clear();
+
+        Task completed = taskRepository.findById(claimed.getId()).orElseThrow();
+        assertNull(completed.getLeaseExpiresAt());
+        assertNull(completed.getLeaseToken());
+        assertEquals(0, taskClaimService.releaseExpiredLeases(LocalDateTime.now().plusDays(1), 10));
+    }
+
+    @Test
+    void updateTaskStatus_ShouldRejectAChangeWithoutTheLeaseToken() {
+        UUID taskId = taskClaimService.claimTasks(testUser.getId(), 1).getTasks().get(0).getId();
+
+        assertThrows(TaskLeaseConflictException.class,
+                () -> taskService.updateTaskStatus(taskId, new UpdateTaskStatusDTO(TaskStatus.COMPLETED)));
+        assertThrows(TaskLeaseConflictException.class,
+                () -> taskService.updateTaskStatus(taskId, new UpdateTaskStatusDTO(TaskStatus.PENDING)));
+    }
+
+    @Test
+    void staleLeaseToken_ShouldBeRejected_OnceTheTaskWasReclaimed() {
+        TaskClaimResponseDTO stale = taskClaimService.claimTasks(testUser.getId(), 3);
+        UUID taskId = stale.getTasks().get(0).getId();
+        taskClaimService.releaseExpiredLeases(stale.getLeaseExpiresAt().plusSeconds(1), 10);
+        TaskClaimResponseDTO current = taskClaimService.claimTasks(testUser.getId(), 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThrows(TaskLeaseConflictException.class, () -> taskService.updateTaskStatus(taskId,
+                new UpdateTaskStatusDTO(TaskStatus.COMPLETED, stale.getLeaseToken())));
+        assertThrows(TaskLeaseConflictException.class, () -> taskClaimService.renewLease(taskId, stale.getLeaseToken()));
+        assertThrows(TaskLeaseConflictException.class, () -> taskClaimService.releaseLease(taskId, stale.getLeaseToken()));
+
+        assertEquals(TaskStatus.COMPLETED, taskService.updateTaskStatus(taskId,
+                new UpdateTaskStatusDTO(TaskStatus.COMPLETED, current.getLeaseToken())).getStatus());
+    }
+
+    @Test
+    void renewLease_ShouldExtendTheLease() {
+        TaskClaimResponseDTO claim = taskClaimService.claimTasks(testUser.getId(), 1);
+        UUID taskId = claim.getTasks().get(0).getId();
+        // The lease ran out, but the reaper has not got to it yet
+        taskRepository.findById(taskId).orElseThrow().setLeaseExpiresAt(LocalDateTime.now().minusMinutes(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskClaimResponseDTO renewed = taskClaimService.renewLease(taskId, claim.getLeaseToken());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(claim.getLeaseToken(), renewed.getLeaseToken());
+        assertTrue(renewed.getLeaseExpiresAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, taskClaimService.releaseExpiredLeases(LocalDateTime.now(), 10));
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(taskId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void releaseLease_ShouldReturnTheTaskToTheQueue() {
+        TaskClaimResponseDTO claim = taskClaimService.claimTasks(testUser.getId(), 1);
+        UUID taskId = claim.getTasks().get(0).getId();
+
+        taskClaimService.releaseLease(taskId, claim.getLeaseToken());
+        entityManager.flush();
+        entityManager.clear();
+
+        Task released = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(TaskStatus.PENDING, released.getStatus());
+        assertNull(released.getLeaseToken());
+        assertThrows(TaskLeaseConflictException.class, () -> taskClaimService.renewLease(taskId, claim.getLeaseToken()));
+        assertEquals(taskId, taskClaimService.claimTasks(testUser.getId(), 1).getTasks().get(0).getId());
+    }
+
+    private void saveTask(String title, int pendingDependencies) throws InterruptedException {
+        taskRepository.save(Task.builder()
+                .title(title)
+                .pendingDependencies(pendingDependencies)
+                .user(testUser)
+                .build());
+        // Distinct creation times, so claim order is deterministic
+        Thread.sleep(2);
+    }
+}
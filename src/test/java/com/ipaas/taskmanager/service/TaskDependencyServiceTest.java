@@ -0,0 +1,179 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.exception.task.InvalidTaskDependencyException;
+import com.ipaas.taskmanager.exception.task.TaskBlockedByDependenciesException;
+import com.ipaas.taskmanager.exception.task.TaskDependencyCycleException;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskDependencyServiceTest {
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Task design;
+    private Task build;
+    private Task release;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .name("Test User")
+                .email("dependencies@email.com")
+                .active(true)
+                .build());
+
+        design = saveTask("Design", testUser);
+        build = saveTask("Build", testUser);
+        release = saveTask("Release", testUser);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void addDependency_ShouldBlockDependentUntilPrerequisiteCompletes() {
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        entityManager.clear();
+
+        assertEquals(1, taskRepository.findById(build.getId()).orElseThrow().getPendingDependencies());
+        assertThrows(TaskBlockedByDependenciesException.class,
+                () -> taskService.updateTaskStatus(build.getId(), new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS)));
+
+        taskService.updateTaskStatus(design.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, taskRepository.findById(build.getId()).orElseThrow().getPendingDependencies());
+        assertEquals(TaskStatus.IN_PROGRESS,
+                taskService.updateTaskStatus(build.getId(), new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS)).getStatus());
+    }
+
+    @Test
+    void addDependency_ToInProgressTask_ShouldBlockCompletionButAllowMovingBackToPending() {
+        taskService.updateTaskStatus(build.getId(), new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS));
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThrows(TaskBlockedByDependenciesException.class,
+                () -> taskService.updateTaskStatus(build.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED)));
+        assertEquals(TaskStatus.PENDING,
+                taskService.updateTaskStatus(build.getId(), new UpdateTaskStatusDTO(TaskStatus.PENDING)).getStatus());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThrows(TaskBlockedByDependenciesException.class,
+                () -> taskService.updateTaskStatus(build.getId(), new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS)));
+    }
+
+    @Test
+    void addDependency_ShouldRejectCycles() {
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        taskDependencyService.addDependency(release.getId(), build.getId());
+
+        assertThrows(TaskDependencyCycleException.class,
+                () -> taskDependencyService.addDependency(design.getId(), release.getId()));
+        assertThrows(InvalidTaskDependencyException.class,
+                () -> taskDependencyService.addDependency(design.getId(), design.getId()));
+    }
+
+    @Test
+    void addDependency_ShouldRejectTasksOfAnotherUser() {
+        User otherUser = userRepository.save(User.builder()
+                .name("Other User")
+                .email("other-dependencies@email.com")
+                .active(true)
+                .build());
+        Task foreign = saveTask("Foreign", otherUser);
+
+        assertThrows(InvalidTaskDependencyException.class,
+                () -> taskDependencyService.addDependency(build.getId(), foreign.getId()));
+    }
+
+    @Test
+    void addDependency_ShouldBeIdempotentAndNotCountCompletedPrerequisites() {
+        taskService.updateTaskStatus(design.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED));
+        entityManager.flush();
+        entityManager.clear();
+
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        entityManager.clear();
+
+        assertEquals(0, taskRepository.findById(build.getId()).orElseThrow().getPendingDependencies());
+        assertEquals(1, taskDependencyService.getDependencies(build.getId()).size());
+    }
+
+    @Test
+    void removeDependency_ShouldUnblockDependent() {
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        taskDependencyService.removeDependency(build.getId(), design.getId());
+        entityManager.clear();
+
+        assertEquals(0, taskRepository.findById(build.getId()).orElseThrow().getPendingDependencies());
+        assertTrue(taskDependencyService.getDependencies(build.getId()).isEmpty());
+    }
+
+    @Test
+    void getReadyTasks_ShouldListOnlyUnblockedPendingTasks() {
+        taskDependencyService.addDependency(build.getId(), design.getId());
+        taskDependencyService.addDependency(release.getId(), build.getId());
+        entityManager.clear();
+
+        assertEquals(List.of(design.getId()), readyTaskIds());
+
+        taskService.updateTaskStatus(design.getId(), new UpdateTaskStatusDTO(TaskStatus.COMPLETED));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(List.of(build.getId()), readyTaskIds());
+    }
+
+    private List<UUID> readyTaskIds() {
+        PageResponseDTO<TaskResponseDTO> ready = taskService.getReadyTasks(testUser.getId(), PageRequest.of(0, 10));
+        return ready.getContent().stream().map(TaskResponseDTO::getId).toList();
+    }
+
+    private Task saveTask(String title, User user) {
+        return taskRepository.save(Task.builder()
+                .title(title)
+                .user(user)
+                .build());
+    }
+}
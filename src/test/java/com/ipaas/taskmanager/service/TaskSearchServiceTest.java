@@ -0,0 +1,127 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.Subtask;
+import com.ipaas.taskmanager.domain.entity.Task;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.dto.response.SearchResultDTO;
+import com.ipaas.taskmanager.exception.task.InvalidSearchQueryException;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskSearchServiceTest {
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Task invoiceTask;
+    private Task reportTask;
+    private Subtask invoiceSubtask;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .name("Test User")
+                .email("search@email.com")
+                .active(true)
+                .build());
+
+        invoiceTask = taskRepository.save(Task.builder()
+                .title("Send invoice to client")
+                .description("Monthly billing run")
+                .user(testUser)
+                .build());
+        reportTask = taskRepository.save(Task.builder()
+                .title("Quarterly report")
+                .description("Attach the invoice totals for the client")
+                .user(testUser)
+                .build());
+        invoiceSubtask = subtaskRepository.save(Subtask.builder()
+                .title("Check invoice numbers")
+                .task(reportTask)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirstAndCoverSubtasks() {
+        List<SearchResultDTO> results = taskSearchService.search("invoice", testUser.getId(), 0, 20);
+
+        assertEquals(3, results.size());
+        assertEquals(reportTask.getId(), results.get(results.size() - 1).getId());
+        assertTrue(results.stream().anyMatch(result -> result.getType() == SearchResultDTO.Type.SUBTASK
+                && result.getId().equals(invoiceSubtask.getId())
+                && result.getTaskId().equals(reportTask.getId())));
+    }
+
+    @Test
+    void search_ShouldRequireEveryTermAndHighlightMatches() {
+        List<SearchResultDTO> results = taskSearchService.search("Invoice client", testUser.getId(), 0, 20);
+
+        assertEquals(2, results.size());
+        SearchResultDTO top = results.get(0);
+        assertEquals(invoiceTask.getId(), top.getId());
+        assertEquals("Send <mark>invoice</mark> to <mark>client</mark>", top.getTitleHighlight());
+        assertNull(top.getDescriptionHighlight());
+        assertEquals("Attach the <mark>invoice</mark> totals for the <mark>client</mark>",
+                results.get(1).getDescriptionHighlight());
+    }
+
+    @Test
+    void search_ShouldEscapeStoredMarkupInHighlights() {
+        taskRepository.save(Task.builder()
+                .title("<img src=x onerror=alert(1)> payroll")
+                .description("İİİİ payroll <script>alert(1)</script>")
+                .user(testUser)
+                .build());
+        entityManager.flush();
+
+        SearchResultDTO result = taskSearchService.search("payroll", testUser.getId(), 0, 20).get(0);
+
+        assertEquals("&lt;img src=x onerror=alert(1)&gt; <mark>payroll</mark>", result.getTitleHighlight());
+        assertEquals("İİİİ <mark>payroll</mark> &lt;script&gt;alert(1)&lt;/script&gt;", result.getDescriptionHighlight());
+    }
+
+    @Test
+    void search_ShouldPaginate() {
+        List<SearchResultDTO> firstPage = taskSearchService.search("invoice", testUser.getId(), 0, 2);
+        List<SearchResultDTO> secondPage = taskSearchService.search("invoice", testUser.getId(), 1, 2);
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+    }
+
+    @Test
+    void search_ShouldRejectBlankQuery() {
+        assertThrows(InvalidSearchQueryException.class, () -> taskSearchService.search("  ", null, 0, 20));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ipaas.taskmanager.service;
 
+import com.ipaas.taskmanager.domain.entity.ArchivedTask;
 import com.ipaas.taskmanager.domain.entity.Task;
 import com.ipaas.taskmanager.domain.entity.User;
 import com.ipaas.taskmanager.domain.enums.TaskStatus;
@@ -7,18 +8,26 @@ import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
 import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
 import com.ipaas.taskmanager.dto.response.PageResponseDTO;
 import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.event.TaskCompletedEvent;
+import com.ipaas.taskmanager.event.TaskCreatedEvent;
 import com.ipaas.taskmanager.exception.task.TaskNotFoundException;
 import com.ipaas.taskmanager.exception.user.UserInactiveException;
 import com.ipaas.taskmanager.exception.user.UserNotFoundException;
 import com.ipaas.taskmanager.mapper.TaskMapper;
+import com.ipaas.taskmanager.repository.ArchivedTaskRepository;
+import com.ipaas.taskmanager.repository.SubtaskRepository;
+import com.ipaas.taskmanager.repository.TaskFilter;
 import com.ipaas.taskmanager.repository.TaskRepository;
 import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.repository.projection.TaskSummary;
+import com.ipaas.taskmanager.sharding.ShardRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +40,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +52,27 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SubtaskRepository subtaskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private TaskResponseCache taskResponseCache;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -115,6 +143,7 @@ class TaskServiceTest {
         verify(taskMapper).toEntity(createTaskDTO);
         verify(taskRepository).save(any(Task.class));
         verify(taskMapper).toDTO(task);
+        verify(eventPublisher).publishEvent(new TaskCreatedEvent(taskId, userId, "Test Task"));
     }
 
     @Test
@@ -150,7 +179,8 @@ class TaskServiceTest {
     void getTaskById_ShouldReturnTask() {
         
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(taskMapper.toDTO(task)).thenReturn(taskResponseDTO);
+        when(subtaskRepository.findResponsesByTaskId(taskId)).thenReturn(List.of());
+        when(taskMapper.toDTO(task, List.of())).thenReturn(taskResponseDTO);
 
         
         TaskResponseDTO result = taskService.getTaskById(taskId);
@@ -160,7 +190,7 @@ class TaskServiceTest {
         assertEquals(taskId, result.getId());
         assertEquals("Test Task", result.getTitle());
         verify(taskRepository).findById(taskId);
-        verify(taskMapper).toDTO(task);
+        verify(taskMapper).toDTO(task, List.of());
     }
 
     @Test
@@ -177,16 +207,36 @@ class TaskServiceTest {
         verify(taskMapper, never()).toDTO(any());
     }
 
+    @Test
+    void getTaskById_ShouldReadThroughToArchive_WhenTaskWasArchived() {
+        ArchivedTask archivedTask = ArchivedTask.builder()
+                .id(taskId)
+                .title("Test Task")
+                .status(TaskStatus.COMPLETED)
+                .user(user)
+                .build();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(taskId)).thenReturn(Optional.of(archivedTask));
+        when(taskMapper.toArchivedDTO(archivedTask)).thenReturn(taskResponseDTO);
+
+        TaskResponseDTO result = taskService.getTaskById(taskId);
+
+        assertEquals(taskId, result.getId());
+        verify(archivedTaskRepository).findById(taskId);
+    }
+
     @Test
     void getTasksWithFilters_ShouldReturnFilteredTasks() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        List<Task> tasks = List.of(task);
-        Page<Task> taskPage = new PageImpl<>(tasks, pageable, 1);
+        TaskSummary summary = new TaskSummary(taskId, "Test Task", "Test Description", TaskStatus.PENDING,
+                LocalDateTime.now(), null, null, null, userId, "Test User", "test@email.com");
+        Page<TaskSummary> taskPage = new PageImpl<>(List.of(summary), pageable, 1);
 
-        when(taskRepository.findTasksWithFilters(userId, TaskStatus.PENDING, "test", pageable))
+        when(taskRepository.findTaskSummaries(TaskFilter.of(userId, TaskStatus.PENDING, "test"), true, pageable))
                 .thenReturn(taskPage);
-        when(taskMapper.toDTO(task)).thenReturn(taskResponseDTO);
+        when(subtaskRepository.findResponsesByTaskIdIn(List.of(taskId))).thenReturn(List.of());
+        when(taskMapper.toDTO(summary, List.of())).thenReturn(taskResponseDTO);
 
         
         PageResponseDTO<TaskResponseDTO> result = taskService.getTasksWithFilters(userId, TaskStatus.PENDING, "test", pageable);
@@ -194,37 +244,56 @@ class TaskServiceTest {
         
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(taskRepository).findTasksWithFilters(userId, TaskStatus.PENDING, "test", pageable);
+        verify(taskRepository).findTaskSummaries(TaskFilter.of(userId, TaskStatus.PENDING, "test"), true, pageable);
+        verify(subtaskRepository).findResponsesByTaskIdIn(List.of(taskId));
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     void updateTaskStatus_ShouldUpdateStatusSuccessfully() {
         
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toDTO(task)).thenReturn(taskResponseDTO);
+        when(subtaskRepository.findResponsesByTaskId(taskId)).thenReturn(List.of());
+        when(taskMapper.toDTO(task, List.of())).thenReturn(taskResponseDTO);
 
         
         TaskResponseDTO result = taskService.updateTaskStatus(taskId, updateTaskStatusDTO);
 
         
         assertNotNull(result);
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findByIdForUpdate(taskId);
         verify(taskRepository).save(any(Task.class));
-        verify(taskMapper).toDTO(task);
+        verify(taskMapper).toDTO(task, List.of());
+    }
+
+    @Test
+    void updateTaskStatus_ShouldPublishCompletion_WithTheTimeTheTaskWasStarted() {
+        LocalDateTime startedAt = LocalDateTime.now().minusHours(2);
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(statusHistoryService.findLastTransitionTo(taskId, TaskStatus.IN_PROGRESS)).thenReturn(startedAt);
+
+        taskService.updateTaskStatus(taskId, new UpdateTaskStatusDTO(TaskStatus.COMPLETED));
+
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TaskCompletedEvent completed
+                && completed.userId().equals(userId)
+                && completed.startedAt().equals(startedAt)
+                && completed.completedAt().equals(task.getCompletedAt())));
     }
 
     @Test
     void updateTaskStatus_ShouldThrowException_WhenTaskNotFound() {
         
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.empty());
 
         
         assertThrows(TaskNotFoundException.class, () -> {
             taskService.updateTaskStatus(taskId, updateTaskStatusDTO);
         });
 
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findByIdForUpdate(taskId);
         verify(taskRepository, never()).save(any());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.ipaas.taskmanager.service;
+
+import com.ipaas.taskmanager.domain.entity.ThroughputBucket;
+import com.ipaas.taskmanager.domain.entity.User;
+import com.ipaas.taskmanager.domain.enums.BucketGranularity;
+import com.ipaas.taskmanager.domain.enums.TaskStatus;
+import com.ipaas.taskmanager.dto.request.CreateSubtaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.UpdateTaskStatusDTO;
+import com.ipaas.taskmanager.dto.response.ThroughputBucketDTO;
+import com.ipaas.taskmanager.dto.response.ThroughputReportDTO;
+import com.ipaas.taskmanager.event.SubtaskCompletedEvent;
+import com.ipaas.taskmanager.event.TaskCompletedEvent;
+import com.ipaas.taskmanager.exception.task.InvalidThroughputWindowException;
+import com.ipaas.taskmanager.repository.ThroughputBucketRepository;
+import com.ipaas.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class ThroughputServiceTest {
+
+    @Autowired
+    private ThroughputService throughputService;
+
+    @Autowired
+    private ThroughputRecorder throughputRecorder;
+
+    @Autowired
+    private ThroughputBucketRepository throughputBucketRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Throughput User")
+                .email("throughput@email.com")
+                .active(true)
+                .build());
+    }
+
+    @Test
+    void getReport_ShouldCountWhatTheWritePathsPublish() {
+        UUID taskId = taskService.createTask(new CreateTaskDTO("Task", null, user.getId(), null)).getId();
+        UUID first = subtaskService.createSubtask(taskId, new CreateSubtaskDTO("First", null, null, null)).getId();
+        UUID second = subtaskService.createSubtask(taskId, new CreateSubtaskDTO("Second", null, null, null)).getId();
+        subtaskService.updateSubtaskStatuses(Map.of(first, TaskStatus.COMPLETED, second, TaskStatus.COMPLETED));
+        taskService.updateTaskStatus(taskId, new UpdateTaskStatusDTO(TaskStatus.COMPLETED));
+
+        LocalDateTime now = LocalDateTime.now();
+        ThroughputReportDTO report = throughputService.getReport(user.getId(), now.minusHours(1), now.plusHours(1),
+                Duration.ofHours(1));
+
+        ThroughputBucketDTO total = sum(report.getBuckets());
+        assertEquals(1, total.getTasksCreated());
+        assertEquals(1, total.getTasksCompleted());
+        assertEquals(2, total.getSubtasksCreated());
+        assertEquals(2, total.getSubtasksCompleted());
+        assertTrue(applicationEvents.stream(SubtaskCompletedEvent.class)
+                .allMatch(event -> event.userId().equals(user.getId())));
+    }
+
+    @Test
+    void getReport_ShouldDownsampleHourlyAndDailyBuckets() {
+        LocalDateTime midnight = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(3);
+        completeAt(midnight.plusHours(1));
+        completeAt(midnight.plusHours(2));
+        completeAt(midnight.plusHours(7));
+        completeAt(midnight.plusDays(1).plusHours(5));
+
+        ThroughputReportDTO sixHours = throughputService.getReport(user.getId(), midnight, midnight.plusDays(1),
+                Duration.ofHours(6));
+        assertEquals("PT6H", sixHours.getInterval());
+        assertEquals(List.of(2L, 1L, 0L, 0L), sixHours.getBuckets().stream().map(ThroughputBucketDTO::getTasksCompleted).toList());
+        assertEquals(midnight.plusHours(6), sixHours.getBuckets().get(1).getStart());
+
+        ThroughputReportDTO daily = throughputService.getReport(user.getId(), midnight.plusHours(3),
+                midnight.plusDays(2), Duration.ofDays(1));
+        assertEquals("P1D", daily.getInterval());
+        assertEquals(midnight, daily.getBuckets().get(0).getStart());
+        assertEquals(List.of(3L, 1L), daily.getBuckets().stream().map(ThroughputBucketDTO::getTasksCompleted).toList());
+
+        ThroughputReportDTO everyone = throughputService.getReport(null, midnight, midnight.plusDays(2), Duration.ofDays(2));
+        assertEquals(4, everyone.getBuckets().get(0).getTasksCompleted());
+        // Writes only touch the user's own rows; the totals come from summing them
+        assertTrue(throughputBucketRepository.findAll().stream().allMatch(bucket -> bucket.getUserId() != null));
+    }
+
+    @Test
+    void purgeHourlyBuckets_ShouldDropExpiredHoursAndKeepDays() {
+        LocalDateTime old = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(120);
+        completeAt(old.plusHours(3));
+
+        throughputService.purgeHourlyBuckets(LocalDateTime.now());
+
+        List<ThroughputBucket> remaining = throughputBucketRepository.findUserBuckets(user.getId(), BucketGranularity.DAY,
+                old, old.plusDays(1));
+        assertEquals(1, remaining.size());
+        assertTrue(throughputBucketRepository.findUserBuckets(user.getId(), BucketGranularity.HOUR, old, old.plusDays(1))
+                .isEmpty());
+    }
+
+    @Test
+    void getReport_ShouldRejectInvalidWindows() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThrows(InvalidThroughputWindowException.class,
+                () -> throughputService.getReport(null, now.minusDays(1), now, Duration.ofMinutes(30)));
+        assertThrows(InvalidThroughputWindowException.class,
+                () -> throughputService.getReport(null, now.minusDays(3), now, Duration.ofHours(36)));
+        assertThrows(InvalidThroughputWindowException.class,
+                () -> throughputService.getReport(null, now, now.minusDays(1), Duration.ofHours(1)));
+        assertThrows(InvalidThroughputWindowException.class,
+                () -> throughputService.getReport(null, now.minusDays(120), now, Duration.ofHours(1)));
+    }
+
+    private void completeAt(LocalDateTime completedAt) {
+        throughputRecorder.onTaskCompleted(
+                new TaskCompletedEvent(UUID.randomUUID(), user.getId(), completedAt.minusHours(1), null, completedAt));
+    }
+
+    private static ThroughputBucketDTO sum(List<ThroughputBucketDTO> buckets) {
+        return ThroughputBucketDTO.builder()
+                .tasksCreated(buckets.stream().mapToLong(ThroughputBucketDTO::getTasksCreated).sum())
+                .tasksCompleted(buckets.stream().mapToLong(ThroughputBucketDTO::getTasksCompleted).sum())
+                .subtasksCreated(buckets.stream().mapToLong(ThroughputBucketDTO::getSubtasksCreated).sum())
+                .subtasksCompleted(buckets.stream().mapToLong(ThroughputBucketDTO::getSubtasksCompleted).sum())
+                .build();
+    }
+}
@@ -8,12 +8,14 @@ import com.ipaas.taskmanager.exception.user.UserAlreadyExistsException;
 import com.ipaas.taskmanager.exception.user.UserNotFoundException;
 import com.ipaas.taskmanager.mapper.UserMapper;
 import com.ipaas.taskmanager.repository.UserRepository;
+import com.ipaas.taskmanager.sharding.ShardRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -32,6 +34,12 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -0,0 +1,55 @@
+package com.ipaas.taskmanager.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void shardFor_ShouldSpreadKeysAcrossShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"), 160);
+        int[] counts = new int[3];
+
+        for (int i = 0; i < 30_000; i++) {
+            counts[ring.shardFor("user" + i + "@example.com")]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 7_000 && count < 13_000, "unbalanced shard with " + count + " keys");
+        }
+    }
+
+    @Test
+    void shardFor_WhenShardIsAppended_ShouldOnlyMoveKeysToTheNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 160);
+        int moved = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            String key = "user" + i + "@example.com";
+            int oldShard = before.shardFor(key);
+            int newShard = after.shardFor(key);
+            if (oldShard != newShard) {
+                assertEquals(3, newShard);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > 1_500 && moved < 3_500, "moved " + moved + " keys");
+    }
+
+    @Test
+    void shardIds_ShouldRoundTripShardAndTreatLegacyIdsAsFirstShard() {
+        UUID id = ShardIds.newId(37);
+
+        assertEquals(8, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(37, ShardIds.shardOf(id));
+        assertEquals(0, ShardIds.shardOf(UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> ShardIds.newId(ShardIds.MAX_SHARDS));
+    }
+}
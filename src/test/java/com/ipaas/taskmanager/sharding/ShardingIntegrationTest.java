@@ -0,0 +1,145 @@
+package com.ipaas.taskmanager.sharding;
+
+import com.ipaas.taskmanager.dto.request.CreateTaskDTO;
+import com.ipaas.taskmanager.dto.request.CreateUserDTO;
+import com.ipaas.taskmanager.dto.request.TaskFieldSelection;
+import com.ipaas.taskmanager.dto.request.TaskSort;
+import com.ipaas.taskmanager.dto.response.PageResponseDTO;
+import com.ipaas.taskmanager.dto.response.TaskResponseDTO;
+import com.ipaas.taskmanager.dto.response.UserResponseDTO;
+import com.ipaas.taskmanager.exception.task.InvalidTaskDependencyException;
+import com.ipaas.taskmanager.exception.user.UserAlreadyExistsException;
+import com.ipaas.taskmanager.repository.TaskFilter;
+import com.ipaas.taskmanager.service.TaskDependencyService;
+import com.ipaas.taskmanager.service.TaskService;
+import com.ipaas.taskmanager.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "taskmanager.sharding.enabled=true",
+    "taskmanager.sharding.shards[0].name=shard-a",
+    "taskmanager.sharding.shards[0].url=" + ShardingIntegrationTest.SHARD_A_URL,
+    "taskmanager.sharding.shards[0].username=sa",
+    "taskmanager.sharding.shards[0].password=",
+    "taskmanager.sharding.shards[1].name=shard-b",
+    "taskmanager.sharding.shards[1].url=" + ShardingIntegrationTest.SHARD_B_URL,
+    "taskmanager.sharding.shards[1].username=sa",
+    "taskmanager.sharding.shards[1].password="
+})
+@ActiveProfiles("test")
+class ShardingIntegrationTest {
+
+    static final String SHARD_A_URL = "jdbc:h2:mem:shard_a;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    static final String SHARD_B_URL = "jdbc:h2:mem:shard_b;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final List<String> SHARD_URLS = List.of(SHARD_A_URL, SHARD_B_URL);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    private final UserResponseDTO[] usersByShard = new UserResponseDTO[2];
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 100 && (usersByShard[0] == null || usersByShard[1] == null); i++) {
+            UserResponseDTO user = userService.createUser(new CreateUserDTO("User " + i, "user" + i + "@shard.test"));
+            usersByShard[ShardIds.shardOf(user.getId())] = user;
+        }
+        assertNotNull(usersByShard[0], "consistent hashing should place users on the first shard");
+        assertNotNull(usersByShard[1], "consistent hashing should place users on the second shard");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        for (String url : SHARD_URLS) {
+            try (Connection connection = DriverManager.getConnection(url, "sa", "");
+                    Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM task_dependencies");
+                statement.execute("DELETE FROM subtasks");
+                statement.execute("DELETE FROM tasks");
+                statement.execute("DELETE FROM users");
+            }
+        }
+    }
+
+    @Test
+    void tasksAreStoredOnTheirUsersShardAndFoundById() throws SQLException {
+        for (int shard = 0; shard < 2; shard++) {
+            UserResponseDTO user = usersByShard[shard];
+            TaskResponseDTO task = taskService.createTask(new CreateTaskDTO("Task " + shard, null, user.getId(), null));
+
+            assertEquals(shard, ShardIds.shardOf(task.getId()));
+            assertEquals(1, countRows(SHARD_URLS.get(shard), "tasks", task.getId()));
+            assertEquals(0, countRows(SHARD_URLS.get(1 - shard), "tasks", task.getId()));
+            assertEquals("Task " + shard, taskService.getTaskById(task.getId()).getTitle());
+        }
+    }
+
+    @Test
+    void crossUserListingMergesShardsInRequestedOrder() throws InterruptedException {
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            UserResponseDTO user = usersByShard[i % 2];
+            created.add(taskService.createTask(new CreateTaskDTO("Task " + i, null, user.getId(), null)).getId());
+            Thread.sleep(5);
+        }
+
+        PageResponseDTO<TaskResponseDTO> firstPage = taskService.getTasksWithFilters(TaskFilter.of(null, null),
+            false, TaskFieldSelection.ALL, PageRequest.of(0, 3, TaskSort.of("createdAt", "asc")));
+        PageResponseDTO<TaskResponseDTO> secondPage = taskService.getTasksWithFilters(TaskFilter.of(null, null),
+            false, TaskFieldSelection.ALL, PageRequest.of(1, 3, TaskSort.of("createdAt", "asc")));
+
+        assertEquals(4, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+        assertEquals(created.subList(0, 3), firstPage.getContent().stream().map(TaskResponseDTO::getId).toList());
+        assertEquals(created.subList(3, 4), secondPage.getContent().stream().map(TaskResponseDTO::getId).toList());
+    }
+
+    @Test
+    void emailUniquenessSpansShards() {
+        assertThrows(UserAlreadyExistsException.class,
+            () -> userService.createUser(new CreateUserDTO("Copy", usersByShard[1].getEmail())));
+    }
+
+    @Test
+    void dependenciesCannotCrossShards() {
+        UUID taskA = taskService.createTask(new CreateTaskDTO("A", null, usersByShard[0].getId(), null)).getId();
+        UUID taskB = taskService.createTask(new CreateTaskDTO("B", null, usersByShard[1].getId(), null)).getId();
+
+        assertThrows(InvalidTaskDependencyException.class, () -> taskDependencyService.addDependency(taskA, taskB));
+    }
+
+    private static long countRows(String url, String table, UUID id) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+                PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM " + table + " WHERE id = ?")) {
+            statement.setObject(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+}